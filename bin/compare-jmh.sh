@@ -0,0 +1,49 @@
+#!/bin/bash
+#
+# JMH 결과 비교 스크립트
+#
+# 두 커밋에서 저장한 JMH JSON 결과(./gradlew jmh → build/reports/jmh/results.json)를
+# 벤치마크+파라미터 단위로 맞춰 점수 변화율 출력
+#
+# 사용법:
+#   git checkout main && ./gradlew jmh -Pjmh.resultFile=build/jmh-base.json
+#   git checkout my-branch && ./gradlew jmh -Pjmh.resultFile=build/jmh-head.json
+#   ./bin/compare-jmh.sh build/jmh-base.json build/jmh-head.json
+#
+# 변화율: AverageTime/SampleTime 등 시간 모드는 음수가 개선, Throughput 모드는 양수가 개선
+#
+
+BASE="$1"
+HEAD="$2"
+
+if [ -z "$BASE" ] || [ -z "$HEAD" ]; then
+    echo "사용법: $0 <base.json> <head.json>"
+    exit 1
+fi
+
+for f in "$BASE" "$HEAD"; do
+    if [ ! -f "$f" ]; then
+        echo "❌ 결과 파일 없음: $f"
+        exit 1
+    fi
+done
+
+# 벤치마크 식별자: 클래스.메서드 + 파라미터 (예: JwtUtilBenchmark.parseAndVerify{verifiedCacheSize=0})
+to_map='map({
+    key: ((.benchmark | split(".") | .[-2:] | join("."))
+          + (if .params then "{" + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) + "}" else "" end)),
+    value: {mode: .mode, score: .primaryMetric.score, error: .primaryMetric.scoreError, unit: .primaryMetric.scoreUnit}
+}) | from_entries'
+
+jq -r -n \
+    --argjson base "$(jq "$to_map" "$BASE")" \
+    --argjson head "$(jq "$to_map" "$HEAD")" '
+    def fmt: . * 1000 | round / 1000;
+    ["벤치마크", "모드", "base", "head", "단위", "변화율"],
+    ($head | keys[] as $k | $head[$k] as $h | $base[$k] as $b |
+        [$k, $h.mode,
+         (if $b then ($b.score | fmt | tostring) + " ± " + ($b.error | fmt | tostring) else "-" end),
+         ($h.score | fmt | tostring) + " ± " + ($h.error | fmt | tostring),
+         $h.unit,
+         (if $b and $b.score != 0 then ((($h.score - $b.score) / $b.score * 1000 | round) / 10 | tostring) + "%" else "new" end)])
+    | @tsv' | if command -v column > /dev/null; then column -t -s $'\t'; else cat; fi
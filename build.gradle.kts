@@ -19,6 +19,24 @@ repositories {
     mavenCentral()
 }
 
+// JMH 마이크로벤치마크 소스셋: src/jmh/java (main 클래스 + 런타임 의존성 공유)
+// 트래픽 재생 도구 소스셋: src/replay/java (실행 중인 서버에 HTTP로만 접근, main 클래스 미사용)
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+    create("replay")
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val jmhRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+val replayImplementation: Configuration by configurations.getting
+
 dependencies {
     // Spring Boot Starters (웹, JPA, Security, Validation, Cache)
     implementation("org.springframework.boot:spring-boot-starter-web")
@@ -29,6 +47,15 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-cache")
 
+    // Hibernate 2차 캐시: JCache(JSR-107) + Caffeine 로컬 프로바이더
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
+    // 로컬 인메모리 캐시: Caffeine (JWT 검증 캐시 등 크기 제한 LRU)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    // Hibernate Statistics → Micrometer (hibernate_* 메트릭)
+    implementation("org.hibernate.orm:hibernate-micrometer")
+
     // Spring Retry (비동기 이벤트 리스너 재시도)
     implementation("org.springframework.retry:spring-retry")
     implementation("org.springframework:spring-aspects")
@@ -47,6 +74,7 @@ dependencies {
 
     // Rate Limiting: Bucket4j (Token Bucket 알고리즘)
     implementation("com.bucket4j:bucket4j-core:8.10.1")
+    implementation("com.bucket4j:bucket4j-redis:8.10.1")  // 분산 모드: Redis 기반 ProxyManager
 
     // Structured Logging: JSON 포맷 (ELK 연동 가능)
     implementation("net.logstash.logback:logstash-logback-encoder:7.4")
@@ -54,6 +82,9 @@ dependencies {
     // Prometheus 메트릭: Micrometer + Prometheus Registry
     implementation("io.micrometer:micrometer-registry-prometheus")
 
+    // JSR-305 메타 어노테이션: org.springframework.lang.Nullable(액추에이터 선택 파라미터) 컴파일 시 When.MAYBE 경고 방지
+    compileOnly("com.google.code.findbugs:jsr305:3.0.2")
+
     // Lombok: @Getter, @Builder 등 보일러플레이트 제거
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -64,6 +95,15 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // JMH: 마이크로벤치마크 (./gradlew jmh)
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    jmhImplementation("org.springframework:spring-test")  // MockHttpServletRequest 등
+
+    // 트래픽 재생: Jackson(요청 로그/리포트 JSON) + HdrHistogram(지연 분포)
+    replayImplementation("com.fasterxml.jackson.core:jackson-databind")
+    replayImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
@@ -87,6 +127,39 @@ tasks.withType<Test> {
     }
 }
 
+// 스트레스 테스트(@Tag("stress"), 수백만 건 + System.gc())는 기본 test에서 제외: ./gradlew stressTest
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
+}
+
+tasks.register<Test>("stressTest") {
+    group = "verification"
+    description = "Runs stress tests tagged with @Tag(\"stress\")"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+}
+
+// JMH 벤치마크 실행: ./gradlew jmh [-Pjmh.includes=JwtAuthenticationFilterBenchmark] [-Pjmh.profilers=gc]
+// 결과는 항상 JSON으로 저장 (기본: build/reports/jmh/results.json, -Pjmh.resultFile로 변경)
+// 커밋 간 비교: ./bin/compare-jmh.sh base.json head.json
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH microbenchmarks in src/jmh/java"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = (findProperty("jmh.resultFile") as String?)?.let { file(it) }
+        ?: layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args("-rf", "json", "-rff", resultFile.absolutePath)
+    (findProperty("jmh.includes") as String?)?.let { args(it) }
+    (findProperty("jmh.profilers") as String?)?.split(",")?.forEach { args("-prof", it) }
+}
+
 jacoco {
     toolVersion = "0.8.11"
 }
@@ -108,3 +181,13 @@ tasks.jacocoTestCoverageVerification {
         }
     }
 }
+
+// 트래픽 재생: ./gradlew replay --args="--log traffic.ndjson --base-url http://localhost:8080 --speed 2"
+// 옵션/로그 형식은 TrafficReplay 참고, 리포트 기본 위치: build/reports/replay/report.json
+tasks.register<JavaExec>("replay") {
+    group = "benchmark"
+    description = "Replays a recorded request log against a running instance"
+    classpath = sourceSets["replay"].runtimeClasspath
+    mainClass.set("com.runningapp.replay.TrafficReplay")
+    workingDir = projectDir
+}
@@ -68,7 +68,31 @@ export function setup() {
   return { token: null, email: null };
 }
 
-export default function(data) {
+// Synthetic dataset (synthetic profile): each VU logs in as a different seeded user
+// SYNTHETIC_USERS = number of users the generator created (0: use the single setup user)
+const SYNTHETIC_USERS = parseInt(__ENV.SYNTHETIC_USERS || '0', 10);
+let syntheticUser = null;  // per VU (each VU has its own JS context)
+
+function currentUser(data) {
+  if (SYNTHETIC_USERS <= 0) {
+    return data;
+  }
+  if (syntheticUser === null) {
+    // Spread VUs over the user range (power-law activity counts are independent of the index)
+    const email = `synthetic-${(__VU * 7919) % SYNTHETIC_USERS}@runningapp.test`;
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+      email: email,
+      password: TEST_USER.password
+    }), {
+      headers: { 'Content-Type': 'application/json' }
+    });
+    syntheticUser = { email: email, token: res.status === 200 ? JSON.parse(res.body).accessToken : null };
+  }
+  return syntheticUser;
+}
+
+export default function(setupData) {
+  const data = currentUser(setupData);
   const authHeaders = {
     'Content-Type': 'application/json',
     'Authorization': `Bearer ${data.token}`
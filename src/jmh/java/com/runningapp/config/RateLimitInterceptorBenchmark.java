@@ -0,0 +1,79 @@
+package com.runningapp.config;
+
+import io.github.bucket4j.Bucket;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitInterceptor.preHandle 벤치마크 (로컬 버킷 모드)
+ *
+ * 허용되는 요청 1건당 인터셉터 비용 측정 (IP 추출 + 버킷 조회 + 토큰 소비 + 헤더 추가):
+ * - clients=1: 같은 IP 반복 (버킷 저장소 캐시 히트)
+ * - clients=10000: X-Forwarded-For로 IP를 바꿔가며 요청 (Caffeine 조회 분산)
+ *
+ * 측정 중 제한에 걸리지 않도록 IP별 100회마다 버킷에 토큰을 다시 채움 (호출 100회당 1회라 비용 무시 가능)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RateLimitInterceptorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitInterceptorBenchmark {
+
+    private static final int REFILL_EVERY = 100;
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimitInterceptor interceptor;
+    private MockHttpServletRequest[] requests;
+    private Bucket[] buckets;
+    private int[] consumed;
+    private MockHttpServletResponse response;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        ReflectionTestUtils.setField(rateLimitConfig, "enabled", true);
+        ReflectionTestUtils.setField(rateLimitConfig, "maxBuckets", 100_000L);
+        ReflectionTestUtils.setField(rateLimitConfig, "idleTimeout", Duration.ofMinutes(10));
+        rateLimitConfig.initBucketStores();
+        interceptor = new RateLimitInterceptor(rateLimitConfig);
+
+        requests = new MockHttpServletRequest[clients];
+        buckets = new Bucket[clients];
+        consumed = new int[clients];
+        for (int i = 0; i < clients; i++) {
+            String ip = "10.0." + (i >> 8) + "." + (i & 0xff);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities");
+            request.addHeader("X-Forwarded-For", ip + ", 172.16.0.1");
+            requests[i] = request;
+            buckets[i] = rateLimitConfig.resolveBucket(ip);
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean preHandle() {
+        int i = index;
+        index = i + 1 == clients ? 0 : i + 1;
+
+        response.reset();
+        boolean allowed = interceptor.preHandle(requests[i], response, null);
+
+        if (++consumed[i] == REFILL_EVERY) {
+            buckets[i].addTokens(REFILL_EVERY);
+            consumed[i] = 0;
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,89 @@
+package com.runningapp.config;
+
+import com.runningapp.domain.ChallengeType;
+import com.runningapp.dto.activity.ActivitySummaryResponse;
+import com.runningapp.dto.activity.PeriodSummary;
+import com.runningapp.dto.challenge.ChallengeResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 값 직렬화 벤치마크
+ *
+ * RedisConfig와 같은 GenericJackson2JsonRedisSerializer(타입 정보 포함)로
+ * 캐시 저장(serialize) / 캐시 히트(deserialize) / 왕복 비용 측정:
+ * - activitySummary: 사용자별 요약 (작은 객체 + 중첩 객체 3개)
+ * - activeChallenges: 진행중인 챌린지 목록 20개 (날짜 필드 포함)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RedisSerializerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"activitySummary", "activeChallenges"})
+    private String cacheName;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = RedisConfig.createJsonSerializer();
+        value = "activitySummary".equals(cacheName) ? createSummary() : createChallenges();
+        bytes = serializer.serialize(value);
+    }
+
+    private static ActivitySummaryResponse createSummary() {
+        return ActivitySummaryResponse.builder()
+                .thisWeek(new PeriodSummary(21.5, 3, 7_740, 360))
+                .thisMonth(new PeriodSummary(84.2, 12, 30_120, 357))
+                .lastMonth(new PeriodSummary(102.7, 15, 37_980, 369))
+                .build();
+    }
+
+    private static List<ChallengeResponse> createChallenges() {
+        LocalDate start = LocalDate.of(2024, 5, 1);
+        List<ChallengeResponse> challenges = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            challenges.add(ChallengeResponse.builder()
+                    .id((long) i + 1)
+                    .name("5월 챌린지 " + (i + 1))
+                    .description("이번 달 목표를 달성해 보세요")
+                    .targetDistance(i % 2 == 0 ? 50.0 + i * 10 : null)
+                    .targetCount(i % 2 == 0 ? null : 8 + i)
+                    .startDate(start)
+                    .endDate(start.plusMonths(1).minusDays(1))
+                    .type(i % 2 == 0 ? ChallengeType.DISTANCE : ChallengeType.COUNT)
+                    .createdAt(LocalDateTime.of(2024, 4, 25, 9, 0))
+                    .build());
+        }
+        return challenges;
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
@@ -0,0 +1,99 @@
+package com.runningapp.dto.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.runningapp.domain.RunningActivity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ActivityResponse 변환 + JSON 직렬화 벤치마크
+ *
+ * 활동 상세 응답 1건당 비용 측정 (Entity → DTO → JSON byte[]):
+ * - routePoints=0: 경로 없는 수동 입력 활동
+ * - routePoints=3600: 1시간 러닝을 1초 간격으로 기록한 GPS 경로 ({lat, lng, timestamp})
+ *
+ * ObjectMapper는 Spring Boot 기본값과 동일 (JavaTimeModule, 날짜는 ISO 문자열)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ActivityResponseBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityResponseBenchmark {
+
+    @Param({"0", "3600"})
+    private int routePoints;
+
+    private ObjectMapper objectMapper;
+    private RunningActivity activity;
+    private ActivityResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime startedAt = LocalDateTime.of(2024, 5, 1, 6, 30);
+        activity = RunningActivity.builder()
+                .id(1L)
+                .distance(10.2)
+                .duration(3600)
+                .averagePace(353)
+                .calories(650)
+                .averageHeartRate(152)
+                .cadence(176)
+                .route(createRoute(routePoints))
+                .startedAt(startedAt)
+                .memo("한강 아침 러닝")
+                .createdAt(startedAt.plusHours(1))
+                .build();
+        response = ActivityResponse.from(activity);
+    }
+
+    /** 서울 한강 부근에서 시작해 조금씩 이동하는 경로 (시드 고정) */
+    private static List<Map<String, Object>> createRoute(int points) {
+        Random random = new Random(42);
+        List<Map<String, Object>> route = new ArrayList<>(points);
+        double lat = 37.5283;
+        double lng = 126.9326;
+        long timestamp = 1_714_545_000_000L;
+        for (int i = 0; i < points; i++) {
+            lat += (random.nextDouble() - 0.3) * 0.00003;
+            lng += (random.nextDouble() - 0.3) * 0.00003;
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("lat", lat);
+            point.put("lng", lng);
+            point.put("timestamp", timestamp + i * 1000L);
+            route.add(point);
+        }
+        return route;
+    }
+
+    @Benchmark
+    public ActivityResponse from() {
+        return ActivityResponse.from(activity);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ActivityResponse.from(activity));
+    }
+}
@@ -0,0 +1,62 @@
+package com.runningapp.security;
+
+import com.runningapp.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 벤치마크
+ *
+ * 인증된 요청 1건당 필터 비용 측정:
+ * - verifiedCacheSize=0: 매 요청 파싱 + HMAC 검증 (캐시 비활성화)
+ * - verifiedCacheSize=10000: 같은 토큰 재요청 시 검증 캐시 히트
+ * 두 경우 모두 폐기 목록(Bloom filter) 확인 포함
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-minimum-256-bits";
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000, verifiedCacheSize);
+        TokenRevocationList revocationList = new TokenRevocationList(event -> { }, new SimpleMeterRegistry());
+        revocationList.revoke("revoked-jti", System.currentTimeMillis() + 3_600_000);
+        filter = new JwtAuthenticationFilter(jwtUtil, revocationList);
+
+        String token = jwtUtil.generateToken(42L, "bench@test.com");
+        request = new MockHttpServletRequest("GET", "/api/activities");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void authenticatedRequest(Blackhole bh) throws Exception {
+        filter.doFilter(request, response, chain);
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,50 @@
+package com.runningapp.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 파싱 벤치마크
+ *
+ * 토큰 1건당 파싱 + 서명/만료 검증 비용 측정 (필터/SecurityContext 제외):
+ * - verifiedCacheSize=0: 매번 Base64 디코딩 + JSON 파싱 + HMAC-SHA 검증
+ * - verifiedCacheSize=10000: 검증 캐시 히트 (Caffeine 조회만)
+ *
+ * 필터 전체 비용은 JwtAuthenticationFilterBenchmark 참고
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-minimum-256-bits";
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000, verifiedCacheSize);
+        token = jwtUtil.generateToken(42L, "bench@test.com");
+    }
+
+    @Benchmark
+    public Claims parseAndVerify() {
+        return jwtUtil.parseAndVerify(token);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(token);
+    }
+}
@@ -0,0 +1,42 @@
+package com.runningapp.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LevelCalculator.calculateLevel 벤치마크
+ *
+ * 활동 저장 이벤트마다 호출되는 레벨 계산 비용 측정
+ * 누적 거리는 0~2000km 범위 난수 배열을 순회 (분기 예측이 한 값에 고정되지 않도록)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LevelCalculatorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelCalculatorBenchmark {
+
+    private static final int SIZE = 1024;  // 2의 거듭제곱 (인덱스 마스킹)
+
+    private double[] distances;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        distances = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            distances[i] = random.nextDouble() * 2000;
+        }
+    }
+
+    @Benchmark
+    public int calculateLevel() {
+        return LevelCalculator.calculateLevel(distances[index++ & (SIZE - 1)]);
+    }
+}
@@ -0,0 +1,100 @@
+package com.runningapp.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogUtils 구조화 로그 벤치마크 (기존 Map 방식 vs 빌더)
+ *
+ * 로그 호출 1건당 호출부 비용 측정:
+ * - level=INFO: 로그 출력 (appender는 이벤트 인자만 읽고 버림 → 포맷팅/IO 제외)
+ * - level=WARN: INFO 로그가 꺼진 상태 (빌더는 할당 0이어야 함)
+ *
+ * 호출당 할당량은 GC 프로파일러로 확인 (gc.alloc.rate.norm):
+ * ./gradlew jmh -Pjmh.includes=LogUtilsBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogUtilsBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    private Logger logger;
+    private long activityId;
+    private long userId;
+    private double distance;
+    private int duration;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        BlackholeAppender appender = new BlackholeAppender();
+        appender.setContext(context);
+        appender.start();
+
+        logger = context.getLogger("benchmark");
+        logger.setLevel(Level.toLevel(level));
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+
+        activityId = 123L;
+        userId = 42L;
+        distance = 5.5;
+        duration = 1800;
+    }
+
+    @Benchmark
+    public void legacySingleField() {
+        LogUtils.info(logger, "로그아웃", "userId", userId);
+    }
+
+    @Benchmark
+    public void builderSingleField() {
+        LogUtils.atInfo(logger)
+                .field("userId", userId)
+                .log("로그아웃");
+    }
+
+    @Benchmark
+    public void legacyMap() {
+        LogUtils.info(logger, "활동 저장 완료", Map.of(
+                "activityId", activityId,
+                "userId", userId,
+                "distance", distance,
+                "duration", duration
+        ));
+    }
+
+    @Benchmark
+    public void builder() {
+        LogUtils.atInfo(logger)
+                .field("activityId", activityId)
+                .field("userId", userId)
+                .field("distance", distance)
+                .field("duration", duration)
+                .log("활동 저장 완료");
+    }
+
+    /** 인자 배열만 읽는 appender (JIT가 이벤트 생성을 제거하지 못하게 함) */
+    private static class BlackholeAppender extends AppenderBase<ILoggingEvent> {
+
+        private volatile Object last;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            last = event.getArgumentArray();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.Executor;
  * - @EnableAsync: @Async 메서드 비동기 실행 활성화
  * - @EnableRetry: @Retryable 재시도 로직 활성화
  * - ThreadPool: 2-5 threads (러닝 활동 이벤트 처리용)
+ * - MdcTaskDecorator: 요청 MDC(requestId, userId) 전달 + 이벤트별 커밋 → 처리 지연, 할당량/CPU 메트릭
  */
 @Configuration
 @EnableAsync
@@ -23,12 +24,13 @@ import java.util.concurrent.Executor;
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(BusinessMetrics businessMetrics, ThreadResourceAccounting resourceAccounting) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Async-");
+        executor.setTaskDecorator(new MdcTaskDecorator(businessMetrics, resourceAccounting));
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
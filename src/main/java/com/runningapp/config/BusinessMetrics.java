@@ -1,12 +1,16 @@
 package com.runningapp.config;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -23,6 +27,17 @@ import java.util.function.Supplier;
  *
  * 타이머 (Timer):
  * - runningapp_api_duration: API별 응답 시간
+ * - runningapp_password_hash_duration: BCrypt 해싱 시간 (operation=encode/matches)
+ * - runningapp_password_hash_rejected_total: 해싱 풀 포화로 거절된 요청 수
+ * - runningapp_http_request_duration: 엔드포인트(method, uri 템플릿, status)별 응답 시간
+ * - runningapp_event_handler_lag: 이벤트 종류별 커밋 → 비동기 처리 시작 지연 (taskExecutor 대기 시간)
+ *   (백분위수는 management.metrics.distribution.percentiles에서 설정,
+ *    SLO 버킷/exemplar는 http.server.requests 히스토그램 사용)
+ *
+ * 분포 (DistributionSummary):
+ * - runningapp_http_request_queries: 엔드포인트(method, uri 템플릿)별 요청당 SQL 실행 수
+ * - runningapp_http_request_allocated_bytes / runningapp_async_task_allocated_bytes: 요청/비동기 작업당 힙 할당량
+ * - runningapp_http_request_cpu_time / runningapp_async_task_cpu_time: 요청/비동기 작업당 CPU 시간 (Timer)
  */
 @Slf4j
 @Component
@@ -43,6 +58,17 @@ public class BusinessMetrics {
 
     // Timers
     private final Timer activityCreateTimer;
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchTimer;
+    private final Counter passwordHashRejectedCounter;
+
+    // 태그가 요청마다 정해지는 미터 캐시 (요청마다 빌더 생성 + 레지스트리 조회 방지)
+    // 키는 URI 템플릿/이벤트 종류 → 개수가 라우트·이벤트 수로 제한됨
+    private final Map<RouteStatusKey, Timer> requestDurationTimers = new ConcurrentHashMap<>();
+    private final Map<RouteKey, DistributionSummary> requestQuerySummaries = new ConcurrentHashMap<>();
+    private final Map<RouteKey, ResourceMeters> requestResourceMeters = new ConcurrentHashMap<>();
+    private final Map<String, ResourceMeters> asyncTaskResourceMeters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> eventHandlerLagTimers = new ConcurrentHashMap<>();
 
     public BusinessMetrics(MeterRegistry registry) {
         this.registry = registry;
@@ -88,6 +114,23 @@ public class BusinessMetrics {
         this.activityCreateTimer = Timer.builder("runningapp_activity_create_duration")
                 .description("Time taken to create an activity")
                 .register(registry);
+
+        // 비밀번호 해싱 타이머 (전용 풀에서 실제 해싱에 걸린 시간)
+        this.passwordEncodeTimer = Timer.builder("runningapp_password_hash_duration")
+                .description("Time taken to hash a password")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
+        this.passwordMatchTimer = Timer.builder("runningapp_password_hash_duration")
+                .description("Time taken to verify a password")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
+        this.passwordHashRejectedCounter = Counter.builder("runningapp_password_hash_rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(registry);
     }
 
     // ========== Counter Increments ==========
@@ -128,6 +171,83 @@ public class BusinessMetrics {
         sample.stop(activityCreateTimer);
     }
 
+    public Timer passwordEncodeTimer() {
+        return passwordEncodeTimer;
+    }
+
+    public Timer passwordMatchTimer() {
+        return passwordMatchTimer;
+    }
+
+    public void incrementPasswordHashRejected() {
+        passwordHashRejectedCounter.increment();
+    }
+
+    /** 엔드포인트별 응답 시간 (LoggingFilter에서 /api 요청마다 기록) */
+    public void recordRequestDuration(String method, String uri, int status, long durationNanos) {
+        requestDurationTimers.computeIfAbsent(new RouteStatusKey(method, uri, status), key ->
+                        Timer.builder("runningapp_http_request_duration")
+                                .description("HTTP request duration per route template")
+                                .tags("method", key.method(), "uri", key.uri(), "status", String.valueOf(key.status()))
+                                .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 이벤트 커밋(AFTER_COMMIT 디스패치) → 비동기 처리 시작까지의 지연 */
+    public void recordEventHandlerLag(String eventType, long lagNanos) {
+        eventHandlerLagTimers.computeIfAbsent(eventType, event ->
+                        Timer.builder("runningapp_event_handler_lag")
+                                .description("Delay between transaction commit and async event handler start")
+                                .tag("event", event)
+                                .register(registry))
+                .record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ========== Distribution Summary ==========
+
+    /** 요청당 SQL 실행 수 (uri는 URI 템플릿이어야 태그 수가 늘어나지 않음) */
+    public void recordRequestQueries(String method, String uri, int queryCount) {
+        requestQuerySummaries.computeIfAbsent(new RouteKey(method, uri), key ->
+                        DistributionSummary.builder("runningapp_http_request_queries")
+                                .description("SQL statements executed per HTTP request")
+                                .tags("method", key.method(), "uri", key.uri())
+                                .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50)
+                                .register(registry))
+                .record(queryCount);
+    }
+
+    /** 요청 스레드의 힙 할당량/CPU 시간 (ThreadResourceAccounting) */
+    public void recordRequestResources(String method, String uri, long allocatedBytes, long cpuNanos) {
+        ResourceMeters meters = requestResourceMeters.computeIfAbsent(new RouteKey(method, uri), key ->
+                new ResourceMeters(
+                        DistributionSummary.builder("runningapp_http_request_allocated_bytes")
+                                .description("Heap bytes allocated by the request thread per HTTP request")
+                                .baseUnit("bytes")
+                                .tags("method", key.method(), "uri", key.uri())
+                                .register(registry),
+                        Timer.builder("runningapp_http_request_cpu_time")
+                                .description("CPU time used by the request thread per HTTP request")
+                                .tags("method", key.method(), "uri", key.uri())
+                                .register(registry)));
+        meters.record(allocatedBytes, cpuNanos);
+    }
+
+    /** 비동기 작업 스레드의 힙 할당량/CPU 시간 (event: 이벤트 종류, 이벤트 외 작업은 none) */
+    public void recordAsyncTaskResources(String eventType, long allocatedBytes, long cpuNanos) {
+        ResourceMeters meters = asyncTaskResourceMeters.computeIfAbsent(eventType, event ->
+                new ResourceMeters(
+                        DistributionSummary.builder("runningapp_async_task_allocated_bytes")
+                                .description("Heap bytes allocated per async task")
+                                .baseUnit("bytes")
+                                .tag("event", event)
+                                .register(registry),
+                        Timer.builder("runningapp_async_task_cpu_time")
+                                .description("CPU time used per async task")
+                                .tag("event", event)
+                                .register(registry)));
+        meters.record(allocatedBytes, cpuNanos);
+    }
+
     // ========== Gauge Updates ==========
 
     public void setActiveUsers(int count) {
@@ -137,4 +257,19 @@ public class BusinessMetrics {
     public void decrementActiveUsers() {
         activeUsers.decrementAndGet();
     }
+
+    private record RouteKey(String method, String uri) {
+    }
+
+    private record RouteStatusKey(String method, String uri, int status) {
+    }
+
+    /** 힙 할당량 + CPU 시간 한 쌍 */
+    private record ResourceMeters(DistributionSummary allocatedBytes, Timer cpuTime) {
+
+        void record(long allocated, long cpuNanos) {
+            allocatedBytes.record(allocated);
+            cpuTime.record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.runningapp.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 로그 appender에서 버려진 이벤트 수 집계
+ *
+ * logback-spring.xml의 LoggingEventAsyncDisruptorAppender에 listener로 등록
+ * → ring buffer가 가득 차면 요청 스레드를 막지 않고 이벤트를 버리고 eventAppendFailed 호출
+ *
+ * logback은 Spring보다 먼저 초기화되므로 static 카운터 사용
+ * → MetricsConfig에서 runningapp_log_events_dropped_total로 노출
+ */
+public class DroppedLogEventCounter implements AppenderListener<ILoggingEvent> {
+
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        DROPPED.incrementAndGet();
+    }
+
+    public static long droppedCount() {
+        return DROPPED.get();
+    }
+}
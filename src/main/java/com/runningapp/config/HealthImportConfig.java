@@ -0,0 +1,67 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+
+/**
+ * Apple Health 가져오기 전용 스레드 풀 설정
+ *
+ * 두 단계로 분리 (같은 풀을 쓰면 작업 스레드가 청크 완료를 기다리며 풀을 다 차지해 교착 가능):
+ * - healthImportJobExecutor: 작업 1개 = 스레드 1개, export.xml을 순서대로 파싱하고 청크를 넘김
+ *   대기열 초과 시 TaskRejectedException → 503 (동시에 돌 수 있는 작업 수 제한)
+ * - healthImportWorkerExecutor: 청크 처리 (경로 GPX 파싱, 중복 확인, 저장)를 병렬로
+ *   작업 쪽에서 Semaphore로 진행 중 청크 수를 제한하므로 대기열은 사실상 비어 있음
+ *
+ * 프로퍼티:
+ * - app.activity.health-import.max-jobs: 동시 작업 수 (기본값: 2)
+ * - app.activity.health-import.queue-capacity: 대기 작업 수 (기본값: 4)
+ * - app.activity.health-import.workers: 청크 처리 스레드 수 (기본값: 4)
+ */
+@Configuration
+public class HealthImportConfig {
+
+    @Value("${app.activity.health-import.max-jobs:2}")
+    private int maxJobs;
+
+    @Value("${app.activity.health-import.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Value("${app.activity.health-import.workers:4}")
+    private int workers;
+
+    @Bean(name = "healthImportJobExecutor")
+    public ThreadPoolTaskExecutor healthImportJobExecutor(MeterRegistry registry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxJobs);
+        executor.setMaxPoolSize(maxJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("HealthImport-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);  // 업로드 파일은 임시 파일, 재시작 시 다시 올려야 함
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "health_import_jobs", Collections.emptyList())
+                .bindTo(registry);
+        return executor;
+    }
+
+    @Bean(name = "healthImportWorkerExecutor")
+    public ThreadPoolTaskExecutor healthImportWorkerExecutor(MeterRegistry registry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("HealthImportWorker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "health_import_workers", Collections.emptyList())
+                .bindTo(registry);
+        return executor;
+    }
+}
@@ -0,0 +1,126 @@
+package com.runningapp.config;
+
+import com.runningapp.util.LogUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * 엔티티 ID 시퀀스 관리 (User, RunningActivity, UserChallenge, UserPlan, RefreshToken)
+ *
+ * 엔티티는 @SequenceGenerator(allocationSize = 50) + Hibernate pooled 옵티마이저 사용
+ * - nextval이 V를 반환하면 (V-49 ~ V) 50개 ID를 확보 → INSERT를 hibernate.jdbc.batch_size 단위로 묶을 수 있음
+ * - IDENTITY는 INSERT 실행 후에야 ID를 알 수 있어 Hibernate가 배치를 끔 (행마다 왕복)
+ *
+ * 1) 시작 시 시퀀스 정렬: IDENTITY로 쌓인 기존 테이블(ddl-auto: update)에 시퀀스가 새로 생기면 1부터 시작해
+ *    기존 ID와 충돌 → MAX(id)보다 뒤로 RESTART (이미 앞서 있으면 그대로)
+ *    시드 로더(CommandLineRunner)와 요청 처리보다 먼저 실행되도록 SmartInitializingSingleton에서 수행
+ * 2) JDBC 직접 INSERT용 ID 할당 (SyntheticDataLoader 등): 같은 시퀀스에서 블록 단위로 받아 Hibernate와 겹치지 않음
+ */
+@Slf4j
+@Component
+public class IdSequences implements SmartInitializingSingleton {
+
+    /** 엔티티 @SequenceGenerator의 allocationSize와 같아야 함 (블록 크기) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /** 테이블 → 시퀀스 */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "running_activities", "running_activities_seq",
+            "user_challenges", "user_challenges_seq",
+            "user_plans", "user_plans_seq",
+            "refresh_tokens", "refresh_tokens_seq");
+
+    private final DataSource dataSource;
+    private final Dialect dialect;
+
+    public IdSequences(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try (Connection connection = dataSource.getConnection()) {
+            for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+                align(connection, entry.getKey(), entry.getValue());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("ID 시퀀스 정렬 실패", e);
+        }
+    }
+
+    /**
+     * 시퀀스에서 count개 ID 할당 (연속이 아닐 수 있음, 오름차순)
+     * nextval 1번당 ALLOCATION_SIZE개 → 호출 횟수는 count / 50
+     */
+    public long[] allocate(Connection connection, String table, int count) throws SQLException {
+        long[] ids = new long[count];
+        String sql = dialect.getSequenceSupport().getSequenceNextValString(sequence(table));
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int filled = 0;
+            while (filled < count) {
+                long hi = nextValue(statement);
+                // pooled 옵티마이저와 같은 해석: hi를 받으면 (hi-49 ~ hi) 사용, 1 미만은 버림
+                for (long id = Math.max(1, hi - ALLOCATION_SIZE + 1); id <= hi && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void align(Connection connection, String table, String sequence) throws SQLException {
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            maxId = resultSet.getLong(1);
+        }
+
+        long hi;
+        try (PreparedStatement statement = connection.prepareStatement(
+                dialect.getSequenceSupport().getSequenceNextValString(sequence))) {
+            hi = nextValue(statement);
+        }
+        // 다음 블록 (hi-49 ~ hi)이 기존 ID와 겹치면 MAX(id) 다음 블록부터 시작
+        if (Math.max(1, hi - ALLOCATION_SIZE + 1) <= maxId) {
+            long restart = maxId + ALLOCATION_SIZE;
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+            }
+            LogUtils.atInfo(log)
+                    .field("sequence", sequence)
+                    .field("maxId", maxId)
+                    .field("restartWith", restart)
+                    .log("ID 시퀀스를 기존 데이터 뒤로 이동");
+        }
+    }
+
+    private static String sequence(String table) {
+        String sequence = SEQUENCES.get(table);
+        if (sequence == null) {
+            throw new IllegalArgumentException("시퀀스 ID를 쓰지 않는 테이블: " + table);
+        }
+        return sequence;
+    }
+
+    private static long nextValue(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.runningapp.config;
+
+import com.runningapp.util.LogUtils;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 온디맨드 JFR 프로파일링 엔드포인트 (GET /actuator/jfr)
+ *
+ * 지정한 시간 동안 Java Flight Recorder로 기록한 뒤 .jfr 파일을 응답으로 스트리밍:
+ * <pre>
+ * curl -H "X-Ops-Token: $OPS_TOKEN" "http://host/actuator/jfr?duration=60s&settings=profile" -o app.jfr
+ * </pre>
+ * - duration: 기록 시간 (기본값: app.profiling.jfr.default-duration, 최대 max-duration)
+ * - settings: default(오버헤드 ~1%) / profile(메서드 샘플링·할당 상세, ~2%)
+ * - 동시에 하나의 기록만 허용 (진행 중이면 429)
+ * - 기록 중에는 요청 스레드가 대기, 임시 파일은 응답 전송 후 삭제
+ *
+ * 접근: X-Ops-Token 헤더 필요 (OpsTokenAuthorizationManager)
+ * 결과 분석: JDK Mission Control 또는 `jfr print --events jdk.ExecutionSample app.jfr`
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public JfrEndpoint(@Value("${app.profiling.jfr.default-duration:30s}") Duration defaultDuration,
+                       @Value("${app.profiling.jfr.max-duration:5m}") Duration maxDuration) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Duration duration, @Nullable String settings)
+            throws IOException, ParseException {
+        Duration recordFor = duration != null ? duration : defaultDuration;
+        String settingsName = settings != null ? settings : "default";
+        if (recordFor.isNegative() || recordFor.isZero() || recordFor.compareTo(maxDuration) > 0
+                || !SETTINGS.contains(settingsName)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        Path file = Files.createTempFile("running-app-", ".jfr");
+        try (Recording jfr = new Recording(Configuration.getConfiguration(settingsName))) {
+            jfr.setName("on-demand");
+            jfr.setToDisk(true);
+            LogUtils.info(log, "JFR 기록 시작", "durationSeconds", recordFor.toSeconds());
+            jfr.start();
+            Thread.sleep(recordFor.toMillis());
+            jfr.stop();
+            jfr.dump(file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Files.deleteIfExists(file);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            recording.set(false);
+        }
+
+        LogUtils.info(log, "JFR 기록 완료", "sizeBytes", Files.size(file));
+        // 스트림을 닫을 때(응답 전송 완료) 임시 파일 삭제
+        return new WebEndpointResponse<>(
+                new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)),
+                WebEndpointResponse.STATUS_OK);
+    }
+}
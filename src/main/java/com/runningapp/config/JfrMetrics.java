@@ -0,0 +1,85 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JFR 이벤트 기반 실시간 메트릭 (RecordingStream → Micrometer)
+ *
+ * 상시 켜 두는 저오버헤드 이벤트만 구독:
+ * - runningapp_jfr_gc_pause{gc}: GC 1회당 일시정지 합계 (jdk.GarbageCollection.sumOfPauses)
+ * - runningapp_jfr_allocated_bytes_total: 할당 샘플 가중치 합 (jdk.ObjectAllocationSample, 초당 150개 샘플링)
+ *   → rate()로 할당률 추정
+ * - runningapp_jfr_monitor_contention: 10ms 이상 걸린 synchronized 진입 대기 (jdk.JavaMonitorEnter)
+ *
+ * 프로퍼티: app.profiling.jfr.live-metrics (기본값: false, application.yml에서 활성화)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.profiling.jfr.live-metrics", havingValue = "true")
+public class JfrMetrics implements DisposableBean {
+
+    private static final String GC = "jdk.GarbageCollection";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+
+    private final MeterRegistry registry;
+    private final Counter allocatedBytes;
+    private final Timer monitorContention;
+    private RecordingStream stream;
+
+    public JfrMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.allocatedBytes = Counter.builder("runningapp_jfr_allocated_bytes")
+                .description("Estimated heap bytes allocated (JFR allocation samples)")
+                .baseUnit("bytes")
+                .register(registry);
+        this.monitorContention = Timer.builder("runningapp_jfr_monitor_contention")
+                .description("Time spent blocked entering a contended monitor (>= 10ms)")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(GC);
+        stream.enable(ALLOCATION_SAMPLE).with("throttle", "150/s");
+        stream.enable(MONITOR_ENTER).withThreshold(Duration.ofMillis(10));
+
+        stream.onEvent(GC, this::onGarbageCollection);
+        stream.onEvent(ALLOCATION_SAMPLE, event -> allocatedBytes.increment(event.getLong("weight")));
+        stream.onEvent(MONITOR_ENTER, event -> monitorContention.record(event.getDuration()));
+        stream.startAsync();
+        log.info("JFR 실시간 메트릭 시작");
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        Timer.builder("runningapp_jfr_gc_pause")
+                .description("Total stop-the-world pause time per garbage collection")
+                .tag("gc", event.getString("name"))
+                .register(registry)
+                .record(event.getDuration("sumOfPauses"));
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+}
@@ -1,76 +1,153 @@
 package com.runningapp.config;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.v;
 
 /**
  * 로깅 MDC 필터
  *
  * 모든 HTTP 요청에 대해 추적 정보를 MDC에 설정:
  * - requestId: 요청별 고유 ID (UUID)
- * - userId: 인증된 사용자 ID
+ * - userId: 인증된 사용자 ID (이 필터는 Security 체인보다 먼저 실행 → JwtAuthenticationFilter가 인증 후 설정,
+ *   완료 로그에는 요청 속성으로 받아 다시 설정)
  * - clientIp: 클라이언트 IP (프록시 환경 지원)
  * - method: HTTP 메서드
  * - uri: 요청 URI
  * - duration: 요청 처리 시간 (ms)
+ * - queryCount: 요청 처리 중 실행된 SQL 수 (QueryCountInspector)
  *
  * MDC 데이터는 모든 로그 메시지에 자동 포함됨
+ *
+ * 요청 로그 (요청당 완료 로그 1줄, 샘플링):
+ * - 느린 요청(slow-threshold 이상): 항상 기록
+ * - 에러(4xx/5xx, 예외): error-sample-rate (기본값: 100%)
+ * - 성공: success-sample-rate (기본값: 1%)
+ * - status, durationMs, queryCount, logReason(slow/error/sampled)은 JSON 필드로도 출력
+ *
+ * 엔드포인트(URI 템플릿)별 메트릭:
+ * - runningapp_http_request_queries: 요청당 SQL 실행 수
+ * - runningapp_http_request_duration: 응답 시간 (백분위수)
+ * - runningapp_http_request_allocated_bytes, runningapp_http_request_cpu_time: 요청 스레드 힙 할당량/CPU 시간
+ * - MDC requestId는 http.server.requests 버킷의 exemplar로도 사용 (RequestIdSpanContext)
+ *
+ * 비동기 요청(활동 내보내기 StreamingResponseBody): 응답 시간/완료 로그는 AsyncListener로 완료 시점에 기록,
+ * SQL 수/자원 사용량 메트릭은 요청 스레드 몫만 잡히므로 제외
  */
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class LoggingFilter extends OncePerRequestFilter {
 
-    private static final String REQUEST_ID = "requestId";
-    private static final String USER_ID = "userId";
+    static final String REQUEST_ID = "requestId";
+    public static final String USER_ID = "userId";
     private static final String CLIENT_IP = "clientIp";
     private static final String METHOD = "method";
     private static final String URI = "uri";
     private static final String DURATION = "duration";
+    private static final String QUERY_COUNT = "queryCount";
+
+    private final BusinessMetrics businessMetrics;
+    private final ThreadResourceAccounting resourceAccounting;
+
+    @Value("${app.logging.request.success-sample-rate:0.01}")
+    private double successSampleRate;
+
+    @Value("${app.logging.request.error-sample-rate:1.0}")
+    private double errorSampleRate;
+
+    @Value("${app.logging.request.slow-threshold:1s}")
+    private Duration slowThreshold;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        long allocatedStart = resourceAccounting.allocatedBytes();
+        long cpuStart = resourceAccounting.cpuTimeNanos();
+        boolean failed = false;
+        QueryCountInspector.reset();
 
         try {
             // MDC에 요청 정보 설정
             setupMDC(request);
 
-            // 요청 시작 로그
-            if (shouldLogRequest(request)) {
-                log.info("Request started: {} {}", request.getMethod(), request.getRequestURI());
-            }
-
             // 다음 필터 실행
             filterChain.doFilter(request, response);
 
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
         } finally {
-            // 처리 시간 계산
-            long duration = System.currentTimeMillis() - startTime;
-            MDC.put(DURATION, String.valueOf(duration));
-
-            // 요청 완료 로그
-            if (shouldLogRequest(request)) {
-                log.info("Request completed: {} {} - {} ({}ms)",
-                        request.getMethod(),
-                        request.getRequestURI(),
-                        response.getStatus(),
-                        duration);
+            // SQL 실행 수 (테스트에서 요청 속성으로 검증)
+            int queryCount = QueryCountInspector.count();
+            request.setAttribute(QueryCountInspector.REQUEST_ATTRIBUTE, queryCount);
+
+            // 인증된 요청이면 완료 로그에도 userId (MDC 값은 JwtAuthenticationFilter가 체인을 나오면서 제거)
+            Object userId = request.getAttribute(USER_ID);
+            if (userId != null) {
+                MDC.put(USER_ID, userId.toString());
+            }
+
+            if (!failed && request.isAsyncStarted()) {
+                // 비동기 요청(StreamingResponseBody 등): 본문은 다른 스레드에서 작성 → 컨트롤러 반환 시점이 아니라 완료 시점에 기록
+                if (shouldLogRequest(request)) {
+                    request.getAsyncContext().addListener(
+                            new AsyncCompletionListener(request, response, startTime, MDC.getCopyOfContextMap()));
+                }
+            } else {
+                // 처리 시간 계산
+                long durationNanos = System.nanoTime() - startTime;
+                long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+                MDC.put(DURATION, String.valueOf(duration));
+                MDC.put(QUERY_COUNT, String.valueOf(queryCount));
+
+                // 요청 완료 로그 (샘플링된 요청만 1줄)
+                if (shouldLogRequest(request)) {
+                    int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+                    String route = routePattern(request);
+                    businessMetrics.recordRequestQueries(request.getMethod(), route, queryCount);
+                    businessMetrics.recordRequestDuration(request.getMethod(), route, status, durationNanos);
+                    if (resourceAccounting.isEnabled()) {
+                        businessMetrics.recordRequestResources(request.getMethod(), route,
+                                resourceAccounting.allocatedBytes() - allocatedStart,
+                                resourceAccounting.cpuTimeNanos() - cpuStart);
+                    }
+
+                    String reason = logReason(status, duration);
+                    if (reason != null) {
+                        log.info("Request completed: {} {} - {} ({}ms, {} queries) [{}]",
+                                request.getMethod(),
+                                request.getRequestURI(),
+                                v("status", status),
+                                v("durationMs", duration),
+                                v("queryCount", queryCount),
+                                v("logReason", reason));
+                    }
+                }
             }
 
             // MDC 정리 (메모리 누수 방지)
@@ -78,6 +155,104 @@ public class LoggingFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 비동기 요청 완료 시 응답 시간/완료 로그 기록
+     *
+     * - 컨테이너 스레드에서 호출 → 요청 스레드의 MDC를 복사해 두었다가 로그 동안만 복원
+     * - SQL 수, 할당량/CPU 시간은 요청 스레드 기준이라 비동기 작업분이 빠짐 → 기록하지 않음
+     * - 타임아웃/에러로 끝났는데 상태 코드가 성공이면(이미 커밋된 스트리밍 응답) 500으로 기록
+     */
+    private class AsyncCompletionListener implements AsyncListener {
+
+        private final String method;
+        private final String requestUri;
+        private final String route;
+        private final HttpServletResponse response;
+        private final long startTime;
+        private final Map<String, String> mdc;
+        private volatile boolean failed;
+
+        AsyncCompletionListener(HttpServletRequest request, HttpServletResponse response,
+                                long startTime, Map<String, String> mdc) {
+            this.method = request.getMethod();
+            this.requestUri = request.getRequestURI();
+            this.route = routePattern(request);
+            this.response = response;
+            this.startTime = startTime;
+            this.mdc = mdc;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            long durationNanos = System.nanoTime() - startTime;
+            long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int status = response.getStatus();
+            if (failed && status < 400) {
+                status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            }
+            businessMetrics.recordRequestDuration(method, route, status, durationNanos);
+
+            String reason = logReason(status, duration);
+            if (reason == null) {
+                return;
+            }
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            try {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                MDC.put(DURATION, String.valueOf(duration));
+                log.info("Request completed: {} {} - {} ({}ms, async) [{}]",
+                        method,
+                        requestUri,
+                        v("status", status),
+                        v("durationMs", duration),
+                        v("logReason", reason));
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작된 비동기 처리도 같은 리스너로 완료 시점에 기록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * 완료 로그 기록 여부 결정
+     *
+     * @return 기록 사유 (slow/error/sampled), 기록하지 않으면 null
+     */
+    String logReason(int status, long durationMs) {
+        if (durationMs >= slowThreshold.toMillis()) {
+            return "slow";
+        }
+        if (status >= 400) {
+            return sampled(errorSampleRate) ? "error" : null;
+        }
+        return sampled(successSampleRate) ? "sampled" : null;
+    }
+
+    private static boolean sampled(double rate) {
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
     /**
      * MDC에 요청 추적 정보 설정
      */
@@ -95,12 +270,6 @@ public class LoggingFilter extends OncePerRequestFilter {
         // HTTP 메서드 및 URI
         MDC.put(METHOD, request.getMethod());
         MDC.put(URI, request.getRequestURI());
-
-        // 사용자 ID (인증된 경우)
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof Long) {
-            MDC.put(USER_ID, String.valueOf(auth.getPrincipal()));
-        }
     }
 
     /**
@@ -113,6 +282,16 @@ public class LoggingFilter extends OncePerRequestFilter {
         MDC.remove(METHOD);
         MDC.remove(URI);
         MDC.remove(DURATION);
+        MDC.remove(QUERY_COUNT);
+    }
+
+    /**
+     * 매칭된 URI 템플릿 (예: /api/activities/{id}) - 메트릭 태그용
+     * 핸들러가 없으면(404 등) UNKNOWN
+     */
+    private String routePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
     }
 
     /**
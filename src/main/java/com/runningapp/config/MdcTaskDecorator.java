@@ -0,0 +1,72 @@
+package com.runningapp.config;
+
+import com.runningapp.event.EventDispatchContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * @Async 작업에 요청 컨텍스트 전달 (taskExecutor)
+ *
+ * 제출 시점(요청 스레드)의 MDC(requestId, userId 등)를 복사해 작업 스레드에서 복원
+ * → Async-* 스레드 로그도 원래 요청과 requestId로 연결
+ * → requestId는 exemplar의 trace_id로도 쓰이므로(RequestIdSpanContext) 비동기 작업의 메트릭도 같은 요청에 연결
+ *
+ * 이벤트 디스패치(EventDispatchContext)로 제출된 작업은
+ * - MDC eventType 추가
+ * - 작업 시작 시 커밋 → 처리 시작 지연을 이벤트 종류별로 기록 (runningapp_event_handler_lag)
+ *
+ * 작업별 힙 할당량/CPU 시간을 이벤트 종류별로 기록 (runningapp_async_task_*, 이벤트 외 작업은 event=none)
+ *
+ * 작업 종료 후 작업 스레드의 MDC는 원래 상태로 복원 (풀 스레드 재사용 시 값이 남지 않도록)
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    static final String EVENT_TYPE = "eventType";
+    private static final String NO_EVENT = "none";
+
+    private final BusinessMetrics businessMetrics;
+    private final ThreadResourceAccounting resourceAccounting;
+
+    public MdcTaskDecorator(BusinessMetrics businessMetrics, ThreadResourceAccounting resourceAccounting) {
+        this.businessMetrics = businessMetrics;
+        this.resourceAccounting = resourceAccounting;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        EventDispatchContext dispatch = EventDispatchContext.current();
+
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            if (dispatch != null) {
+                MDC.put(EVENT_TYPE, dispatch.getEventType());
+                businessMetrics.recordEventHandlerLag(dispatch.getEventType(),
+                        System.nanoTime() - dispatch.getDispatchedAtNanos());
+            }
+            long allocatedStart = resourceAccounting.allocatedBytes();
+            long cpuStart = resourceAccounting.cpuTimeNanos();
+            try {
+                task.run();
+            } finally {
+                if (resourceAccounting.isEnabled()) {
+                    businessMetrics.recordAsyncTaskResources(dispatch != null ? dispatch.getEventType() : NO_EVENT,
+                            resourceAccounting.allocatedBytes() - allocatedStart,
+                            resourceAccounting.cpuTimeNanos() - cpuStart);
+                }
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.runningapp.config;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,4 +46,16 @@ public class MetricsConfig {
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    /**
+     * 비동기 로그 appender에서 ring buffer 초과로 버려진 로그 수
+     * - 증가하면 로그 양(샘플링 비율) 또는 ring buffer 크기 조정 필요
+     */
+    @Bean
+    public MeterBinder droppedLogEventsMetric() {
+        return registry -> FunctionCounter.builder("runningapp_log_events_dropped", DroppedLogEventCounter.class,
+                        counter -> DroppedLogEventCounter.droppedCount())
+                .description("Log events dropped because the async appender ring buffer was full")
+                .register(registry);
+    }
 }
@@ -0,0 +1,51 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀 설정
+ *
+ * BCrypt는 요청당 수십~수백 ms의 CPU를 사용
+ * → Tomcat 요청 스레드에서 실행하면 로그인 폭주 시 모든 요청 스레드가 점유되어 가벼운 API까지 지연
+ * → CPU 코어 수만큼의 전용 풀 + 작은 대기열로 격리, 대기열이 가득 차면 즉시 거절 (503)
+ *
+ * 프로퍼티:
+ * - app.security.password-hashing.threads: 스레드 수 (기본값: 0 = CPU 코어 수)
+ * - app.security.password-hashing.queue-capacity: 대기열 크기 (기본값: 64)
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Value("${app.security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(MeterRegistry registry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PwHash-");
+        // 기본 AbortPolicy: 대기열 초과 시 TaskRejectedException → 503
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        // executor_active_threads, executor_queued_tasks 등 풀 상태 메트릭
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "password_hashing", Collections.emptyList())
+                .bindTo(registry);
+        return executor;
+    }
+}
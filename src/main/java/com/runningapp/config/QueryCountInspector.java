@@ -0,0 +1,42 @@
+package com.runningapp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청별 SQL 실행 수 카운터 (Hibernate StatementInspector)
+ *
+ * Hibernate가 SQL을 준비할 때마다 현재 스레드의 카운터 증가 (SQL은 그대로 반환)
+ * - LoggingFilter가 요청 시작 시 reset(), 완료 시 count() 조회
+ *   → MDC(queryCount), 요청 속성, 엔드포인트별 히스토그램으로 기록
+ * - 비동기 리스너(다른 스레드)에서 실행된 SQL은 요청 수에 포함되지 않음
+ *
+ * N+1 회귀 방지: 테스트에서 QueryCountAssertions.assertQueryCount(n)로 엔드포인트별 SQL 수 고정
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    /** 요청 완료 후 SQL 실행 수를 담는 요청 속성 (Integer) */
+    public static final String REQUEST_ATTRIBUTE = QueryCountInspector.class.getName() + ".count";
+
+    private static final ThreadLocal<Counter> COUNTER = ThreadLocal.withInitial(Counter::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get().value++;
+        return sql;
+    }
+
+    /** 현재 스레드의 카운터 초기화 */
+    public static void reset() {
+        COUNTER.get().value = 0;
+    }
+
+    /** reset() 이후 현재 스레드에서 실행된 SQL 수 */
+    public static int count() {
+        return COUNTER.get().value;
+    }
+
+    // 요청마다 Integer 박싱 없이 증가시키기 위한 가변 카운터
+    private static final class Counter {
+        private int value;
+    }
+}
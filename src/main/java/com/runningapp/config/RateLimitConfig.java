@@ -1,14 +1,31 @@
 package com.runningapp.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runningapp.util.LogUtils;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Rate Limiting 설정
@@ -18,23 +35,130 @@ import java.util.concurrent.ConcurrentHashMap;
  * - 요청 시 토큰 소비, 시간이 지나면 토큰 충전
  * - 토큰 부족 시 429 Too Many Requests 반환
  *
+ * 버킷 저장소 (IP별):
+ * - 크기 제한 (max-buckets): 스캐닝 트래픽/IPv6 대역에도 힙 사용량 일정
+ * - 마지막 접근 후 idle-timeout 지나면 제거 (완전 충전 시간보다 짧게 잡지 않음)
+ * - 메트릭: cache_size, cache_evictions_total (cache="rate_limit_buckets", store 태그)
+ *
+ * 버킷 모드:
+ * - local (기본값): 인스턴스별 인메모리 버킷 (Redis 없이 동작, 단일 인스턴스/장애 시 폴백)
+ * - redis: 모든 인스턴스가 Redis의 같은 버킷 공유 (RedisRateLimitConfig의 ProxyManager, CAS 방식)
+ *   - 일반 API: 토큰을 로컬에서 미리 소비하고 prefetch-tokens개/sync-interval마다 Redis와 동기화
+ *   - 로그인/회원가입: 한도가 작아 선소비 없이 동시 요청만 묶어서(batching) 한 번에 동기화
+ *   - Redis 장애 시: 같은 한도의 인스턴스별 로컬 버킷으로 대체 (모든 API가 500이 되지 않도록)
+ *     redis.fallback-duration 동안은 Redis를 건너뜀 → 요청마다 Redis 타임아웃을 기다리지 않음
+ *     메트릭: runningapp_rate_limit_fallback_total (store 태그)
+ *
  * 프로퍼티:
  * - app.rate-limit.enabled: true/false (기본값: true)
+ * - app.rate-limit.mode: local/redis (기본값: local)
+ * - app.rate-limit.max-buckets: 저장소별 최대 버킷 수 (기본값: 100000)
+ * - app.rate-limit.idle-timeout: 유휴 버킷 만료 시간 (기본값: 10m)
+ * - app.rate-limit.redis.prefetch-tokens: Redis 동기화 없이 로컬 소비 가능한 토큰 수 (기본값: 10)
+ * - app.rate-limit.redis.sync-interval: 로컬 소비분 최대 동기화 지연 (기본값: 1s)
+ * - app.rate-limit.redis.fallback-duration: Redis 실패 후 로컬 버킷만 사용하는 시간 (기본값: 10s)
  */
+@Slf4j
 @Configuration
-public class RateLimitConfig {
+public class RateLimitConfig implements MeterBinder {
+
+    // 시간당 5회 충전 → 10개 버킷이 가득 차기까지 2시간
+    private static final Duration SIGNUP_REFILL_TIME = Duration.ofHours(2);
+
+    private static final String REDIS_KEY_PREFIX = "rate-limit:";
+
+    /** 엔드포인트별 버킷 종류 (Redis 장애 시 같은 종류의 로컬 버킷으로 대체) */
+    public enum Policy {
+        STANDARD, LOGIN, SIGNUP
+    }
+
+    // 일반 API: 분당 100개 충전, 버킷 용량 120
+    private static final BucketConfiguration STANDARD_LIMIT = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(120, Refill.greedy(100, Duration.ofMinutes(1))))
+            .build();
+
+    // 로그인: 분당 10개 충전, 버킷 용량 15
+    private static final BucketConfiguration LOGIN_LIMIT = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(15, Refill.greedy(10, Duration.ofMinutes(1))))
+            .build();
+
+    // 회원가입: 시간당 5개 충전, 버킷 용량 10
+    private static final BucketConfiguration SIGNUP_LIMIT = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(10, Refill.greedy(5, Duration.ofHours(1))))
+            .build();
 
     @Value("${app.rate-limit.enabled:true}")
     private boolean enabled;
 
-    // IP별 버킷 저장소
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> loginBuckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> signupBuckets = new ConcurrentHashMap<>();
+    @Value("${app.rate-limit.max-buckets:100000}")
+    private long maxBuckets;
+
+    @Value("${app.rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    @Value("${app.rate-limit.redis.prefetch-tokens:10}")
+    private long prefetchTokens;
+
+    @Value("${app.rate-limit.redis.sync-interval:1s}")
+    private Duration syncInterval;
+
+    @Value("${app.rate-limit.redis.fallback-duration:10s}")
+    private Duration fallbackDuration;
+
+    // mode=redis일 때만 존재 (없으면 로컬 버킷)
+    @Autowired(required = false)
+    private ProxyManager<byte[]> proxyManager;
+
+    // IP별 버킷 저장소 (크기 제한 + 유휴 만료)
+    private Cache<String, Bucket> buckets;
+    private Cache<String, Bucket> loginBuckets;
+    private Cache<String, Bucket> signupBuckets;
+
+    // Redis 장애 시 대신 사용하는 로컬 버킷 ("STANDARD:ip" 등), 이 시각 전까지는 Redis를 건너뜀
+    private Cache<String, Bucket> fallbackBuckets;
+    private volatile long redisRetryAtMillis;
+    private final Map<Policy, LongAdder> fallbackCounts = Map.of(
+            Policy.STANDARD, new LongAdder(), Policy.LOGIN, new LongAdder(), Policy.SIGNUP, new LongAdder());
 
     // 무제한 버킷 (비활성화 시 사용)
     private final Bucket unlimitedBucket = createUnlimitedBucket();
 
+    @PostConstruct
+    void initBucketStores() {
+        buckets = createBucketStore(idleTimeout);
+        loginBuckets = createBucketStore(idleTimeout);
+        // 충전 완료 전에 제거되면 제한이 풀리므로 최소 충전 시간만큼 유지
+        signupBuckets = createBucketStore(
+                idleTimeout.compareTo(SIGNUP_REFILL_TIME) > 0 ? idleTimeout : SIGNUP_REFILL_TIME);
+        fallbackBuckets = createBucketStore(
+                idleTimeout.compareTo(SIGNUP_REFILL_TIME) > 0 ? idleTimeout : SIGNUP_REFILL_TIME);
+    }
+
+    /**
+     * 버킷 저장소 생성
+     * - executor(Runnable::run): 제거 작업을 요청 스레드에서 바로 수행 → 폭주 시에도 크기 초과 없음
+     */
+    private Cache<String, Bucket> createBucketStore(Duration expireAfterAccess) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(expireAfterAccess)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "rate_limit_buckets", "store", "standard");
+        CaffeineCacheMetrics.monitor(registry, loginBuckets, "rate_limit_buckets", "store", "login");
+        CaffeineCacheMetrics.monitor(registry, signupBuckets, "rate_limit_buckets", "store", "signup");
+        fallbackCounts.forEach((policy, count) -> FunctionCounter
+                .builder("runningapp_rate_limit_fallback_total", count, LongAdder::sum)
+                .description("Requests rate-limited by a local bucket because the Redis bucket failed")
+                .tag("store", policy.name().toLowerCase())
+                .register(registry));
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -46,7 +170,8 @@ public class RateLimitConfig {
      */
     public Bucket resolveBucket(String clientIp) {
         if (!enabled) return unlimitedBucket;
-        return buckets.computeIfAbsent(clientIp, this::createStandardBucket);
+        if (isRedisSuspended()) return resolveLocalFallback(Policy.STANDARD, clientIp);
+        return buckets.get(clientIp, this::createStandardBucket);
     }
 
     /**
@@ -56,7 +181,8 @@ public class RateLimitConfig {
      */
     public Bucket resolveLoginBucket(String clientIp) {
         if (!enabled) return unlimitedBucket;
-        return loginBuckets.computeIfAbsent(clientIp, this::createLoginBucket);
+        if (isRedisSuspended()) return resolveLocalFallback(Policy.LOGIN, clientIp);
+        return loginBuckets.get(clientIp, this::createLoginBucket);
     }
 
     /**
@@ -66,31 +192,78 @@ public class RateLimitConfig {
      */
     public Bucket resolveSignupBucket(String clientIp) {
         if (!enabled) return unlimitedBucket;
-        return signupBuckets.computeIfAbsent(clientIp, this::createSignupBucket);
+        if (isRedisSuspended()) return resolveLocalFallback(Policy.SIGNUP, clientIp);
+        return signupBuckets.get(clientIp, this::createSignupBucket);
+    }
+
+    /**
+     * Redis 버킷 사용 실패 시 대신 사용할 로컬 버킷 (같은 한도, 인스턴스별)
+     * - fail-open 대신 한도는 유지 (로그인 브루트포스 방지 등)
+     * - 이후 fallback-duration 동안은 resolve*Bucket도 로컬 버킷 반환
+     */
+    public Bucket fallbackBucket(Policy policy, String clientIp, RuntimeException cause) {
+        long now = System.currentTimeMillis();
+        if (now >= redisRetryAtMillis) {
+            LogUtils.atWarn(log)
+                    .field("fallbackDuration", fallbackDuration)
+                    .field("errorMessage", cause.getMessage())
+                    .log("Redis Rate Limit 버킷 사용 실패 - 로컬 버킷으로 대체");
+        }
+        redisRetryAtMillis = now + fallbackDuration.toMillis();
+        return resolveLocalFallback(policy, clientIp);
+    }
+
+    private boolean isRedisSuspended() {
+        return proxyManager != null && System.currentTimeMillis() < redisRetryAtMillis;
+    }
+
+    private Bucket resolveLocalFallback(Policy policy, String clientIp) {
+        fallbackCounts.get(policy).increment();
+        return fallbackBuckets.get(policy + ":" + clientIp, key -> createLocalBucket(switch (policy) {
+            case STANDARD -> STANDARD_LIMIT;
+            case LOGIN -> LOGIN_LIMIT;
+            case SIGNUP -> SIGNUP_LIMIT;
+        }));
     }
 
     private Bucket createStandardBucket(String clientIp) {
-        Bandwidth limit = Bandwidth.classic(
-                120,  // 버킷 용량 (최대 토큰)
-                Refill.greedy(100, Duration.ofMinutes(1))  // 분당 100개 충전
-        );
-        return Bucket.builder().addLimit(limit).build();
+        // 로컬 선소비: prefetch-tokens개 또는 sync-interval마다 Redis 왕복 1회
+        return createBucket("standard:" + clientIp, STANDARD_LIMIT, true);
     }
 
     private Bucket createLoginBucket(String clientIp) {
-        Bandwidth limit = Bandwidth.classic(
-                15,  // 버킷 용량
-                Refill.greedy(10, Duration.ofMinutes(1))  // 분당 10개 충전
-        );
-        return Bucket.builder().addLimit(limit).build();
+        // 브루트포스 방지: 선소비 없이 동시 요청만 묶어서 동기화
+        return createBucket("login:" + clientIp, LOGIN_LIMIT, false);
     }
 
     private Bucket createSignupBucket(String clientIp) {
-        Bandwidth limit = Bandwidth.classic(
-                10,  // 버킷 용량
-                Refill.greedy(5, Duration.ofHours(1))  // 시간당 5개 충전
-        );
-        return Bucket.builder().addLimit(limit).build();
+        return createBucket("signup:" + clientIp, SIGNUP_LIMIT, false);
+    }
+
+    /**
+     * 모드별 버킷 생성
+     * - local: 인메모리 버킷
+     * - redis: Redis 버킷 프록시 (저장소에 캐싱되어 최적화 상태 유지)
+     *   - prefetch=true: 로컬 선소비(delaying), false: 동시 요청 묶음(batching)
+     */
+    private Bucket createBucket(String key, BucketConfiguration configuration, boolean prefetch) {
+        if (proxyManager == null) {
+            return createLocalBucket(configuration);
+        }
+        Optimization optimization = prefetch
+                ? Optimizations.delaying(new DelayParameters(prefetchTokens, syncInterval))
+                : Optimizations.batching();
+        return proxyManager.builder()
+                .withOptimization(optimization)
+                .build((REDIS_KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8), () -> configuration);
+    }
+
+    private static Bucket createLocalBucket(BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
     }
 
     private Bucket createUnlimitedBucket() {
@@ -18,6 +18,8 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * - POST /api/auth/signup: 시간당 5회 (스팸 방지)
  * - 그 외 API: 분당 100회
  *
+ * Redis 버킷 장애 시 같은 한도의 로컬 버킷으로 대체 (RateLimitConfig.fallbackBucket)
+ *
  * 응답 헤더:
  * - X-Rate-Limit-Remaining: 남은 요청 수
  * - X-Rate-Limit-Retry-After-Seconds: 재시도까지 대기 시간 (제한 초과 시)
@@ -35,11 +37,15 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         String path = request.getRequestURI();
         String method = request.getMethod();
 
-        // Rate Limit 적용할 버킷 선택
-        Bucket bucket = selectBucket(clientIp, path, method);
-
-        // 토큰 소비 시도
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        // Rate Limit 적용할 버킷 선택 후 토큰 소비 시도
+        RateLimitConfig.Policy policy = selectPolicy(path, method);
+        ConsumptionProbe probe;
+        try {
+            probe = selectBucket(policy, clientIp).tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            // Redis 버킷 장애 → 로컬 버킷으로 제한 (모든 API가 500이 되지 않도록)
+            probe = rateLimitConfig.fallbackBucket(policy, clientIp, e).tryConsumeAndReturnRemaining(1);
+        }
 
         // 남은 요청 수 헤더 추가
         response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
@@ -61,17 +67,25 @@ public class RateLimitInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * 엔드포인트별 버킷 선택
+     * 엔드포인트별 버킷 종류 선택
      */
-    private Bucket selectBucket(String clientIp, String path, String method) {
+    private RateLimitConfig.Policy selectPolicy(String path, String method) {
         if ("POST".equals(method)) {
             if (path.equals("/api/auth/login")) {
-                return rateLimitConfig.resolveLoginBucket(clientIp);
+                return RateLimitConfig.Policy.LOGIN;
             } else if (path.equals("/api/auth/signup")) {
-                return rateLimitConfig.resolveSignupBucket(clientIp);
+                return RateLimitConfig.Policy.SIGNUP;
             }
         }
-        return rateLimitConfig.resolveBucket(clientIp);
+        return RateLimitConfig.Policy.STANDARD;
+    }
+
+    private Bucket selectBucket(RateLimitConfig.Policy policy, String clientIp) {
+        return switch (policy) {
+            case LOGIN -> rateLimitConfig.resolveLoginBucket(clientIp);
+            case SIGNUP -> rateLimitConfig.resolveSignupBucket(clientIp);
+            case STANDARD -> rateLimitConfig.resolveBucket(clientIp);
+        };
     }
 
     /**
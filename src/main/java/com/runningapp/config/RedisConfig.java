@@ -41,8 +41,9 @@ public class RedisConfig {
      * Java 8 날짜/시간 타입 직렬화를 지원하는 GenericJackson2JsonRedisSerializer 생성
      *
      * GenericJackson2JsonRedisSerializer 기본 설정 + JavaTimeModule
+     * (RedisSerializerBenchmark에서 같은 설정으로 측정하도록 package-private static)
      */
-    private GenericJackson2JsonRedisSerializer createJsonSerializer() {
+    static GenericJackson2JsonRedisSerializer createJsonSerializer() {
         ObjectMapper mapper = new ObjectMapper();
 
         // Java 8 날짜/시간 타입 지원
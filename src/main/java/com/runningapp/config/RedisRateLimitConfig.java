@@ -0,0 +1,53 @@
+package com.runningapp.config;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * 분산 Rate Limiting 설정 (app.rate-limit.mode=redis)
+ *
+ * 여러 인스턴스가 nginx 뒤에서 동작할 때 인스턴스별 버킷이면 실제 한도가 N배가 됨
+ * → 버킷 상태를 Redis에 두고 모든 인스턴스가 공유
+ *
+ * - LettuceBasedProxyManager: compare-and-swap 방식으로 버킷 상태 갱신
+ * - 만료: 버킷이 가득 찬 뒤 10초 후 Redis 키 자동 삭제 (유휴 IP 키 누적 방지)
+ * - 캐시용 RedisTemplate과 별도 연결 (byte[] 코덱)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "redis")
+public class RedisRateLimitConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient rateLimitRedisClient(RedisProperties redisProperties) {
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(redisProperties.getDatabase());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            uri.withPassword(redisProperties.getPassword().toCharArray());
+        }
+        if (redisProperties.getTimeout() != null) {
+            uri.withTimeout(redisProperties.getTimeout());
+        }
+        return RedisClient.create(uri.build());
+    }
+
+    @Bean
+    public ProxyManager<byte[]> rateLimitProxyManager(RedisClient rateLimitRedisClient) {
+        return LettuceBasedProxyManager.builderFor(rateLimitRedisClient)
+                .withClientSideConfig(ClientSideConfig.getDefault().withExpirationAfterWriteStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10))))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.runningapp.config;
+
+import com.runningapp.event.TokenRevokedEvent;
+import com.runningapp.security.TokenRevocationList;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 토큰 폐기 목록 노드 간 동기화 (Redis)
+ *
+ * - 저장: ZSET auth:revoked-tokens (member=jti, score=만료 시각) → 새로 뜬 노드가 기동 시 로드
+ * - 전파: Pub/Sub 채널 auth:token-revoked ("jti|만료 시각") → 실행 중인 노드가 즉시 반영
+ *
+ * Redis는 폐기 시점과 기동 시점에만 사용, 요청 경로의 확인은 TokenRevocationList(인메모리)만 사용
+ * Redis 장애 시 로컬 노드에는 반영되고 경고 로그만 남김
+ * (구독 실패로 기동이 막히지 않도록 기동 완료 후 구독, 실패 시 30초마다 재시도)
+ * 장애 중에 다른 노드가 발행한 폐기는 채널로 받지 못함 → Redis가 돌아와 구독에 성공하면 저장된 목록을 다시 로드
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class RedisTokenRevocationSync implements DisposableBean {
+
+    private static final String REVOKED_KEY = "auth:revoked-tokens";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("auth:token-revoked");
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenRevocationList revocationList;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /** 저장된 폐기 목록을 (다시) 로드해야 하는지 - 기동 시, Redis 작업이 실패한 뒤 */
+    private volatile boolean reloadNeeded = true;
+
+    public RedisTokenRevocationSync(StringRedisTemplate redisTemplate,
+                                    TokenRevocationList revocationList,
+                                    RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.revocationList = revocationList;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf('|');
+            if (separator > 0) {
+                revocationList.addRemote(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            }
+        }, CHANNEL);
+        this.listenerContainer.afterPropertiesSet();
+    }
+
+    /** 다른 노드의 폐기 전파 구독 + 폐기 목록 로드 (기동 완료 후 + 실패 시 주기적 재시도) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void subscribe() {
+        if (!listenerContainer.isRunning()) {
+            try {
+                listenerContainer.start();
+            } catch (Exception e) {
+                listenerContainer.stop();
+                reloadNeeded = true;
+                LogUtils.warn(log, "토큰 폐기 채널 구독 실패 - 재시도 예정", "errorMessage", e.getMessage());
+                return;
+            }
+        }
+        if (reloadNeeded) {
+            loadRevokedTokens();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /** 로컬에서 폐기된 토큰을 Redis에 저장하고 다른 노드에 전파 */
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(REVOKED_KEY, event.getJti(), event.getExpiresAtMillis());
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), event.getJti() + "|" + event.getExpiresAtMillis());
+        } catch (Exception e) {
+            reloadNeeded = true;  // Redis 장애 → 그동안 다른 노드의 전파도 놓쳤을 수 있음
+            LogUtils.warn(log, "토큰 폐기 전파 실패 - 로컬에만 반영", "jti", event.getJti());
+        }
+    }
+
+    /** 아직 만료되지 않은 폐기 토큰 로드 (구독 이후에 호출 → 로드와 구독 사이의 폐기도 놓치지 않음) */
+    void loadRevokedTokens() {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tokens = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (tokens != null) {
+                tokens.forEach(token -> revocationList.addRemote(token.getValue(), token.getScore().longValue()));
+            }
+            reloadNeeded = false;
+            LogUtils.info(log, "폐기 토큰 목록 로드", "count", revocationList.size());
+        } catch (Exception e) {
+            LogUtils.warn(log, "폐기 토큰 목록 로드 실패 - 재시도 예정", "errorMessage", e.getMessage());
+        }
+    }
+}
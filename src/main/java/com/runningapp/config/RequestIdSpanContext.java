@@ -0,0 +1,39 @@
+package com.runningapp.config;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prometheus exemplar용 요청 ID 제공
+ *
+ * 분산 트레이싱 없이 LoggingFilter의 MDC requestId를 trace_id로 사용:
+ * http_server_requests_seconds_bucket에 기록 당시 요청 ID가 exemplar로 붙음
+ * → Grafana에서 느린 p99 버킷의 exemplar 클릭 → 같은 requestId의 로그로 이동
+ *
+ * PrometheusMeterRegistry가 SpanContext 빈을 자동으로 사용
+ * exemplar는 OpenMetrics 형식 스크래핑에서만 노출 (Prometheus --enable-feature=exemplar-storage)
+ */
+@Component
+public class RequestIdSpanContext implements SpanContext {
+
+    @Override
+    public String getCurrentTraceId() {
+        return MDC.get(LoggingFilter.REQUEST_ID);
+    }
+
+    @Override
+    public String getCurrentSpanId() {
+        return MDC.get(LoggingFilter.REQUEST_ID);
+    }
+
+    @Override
+    public boolean isCurrentSpanSampled() {
+        return MDC.get(LoggingFilter.REQUEST_ID) != null;
+    }
+
+    @Override
+    public void markCurrentSpanAsExemplar() {
+        // 샘플링 여부는 LoggingFilter가 결정 (요청 ID는 항상 있음)
+    }
+}
@@ -1,7 +1,10 @@
 package com.runningapp.config;
 
 import com.runningapp.security.JwtAuthenticationFilter;
+import com.runningapp.security.OpsTokenAuthorizationManager;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,6 +30,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final OpsTokenAuthorizationManager opsTokenAuthorizationManager;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -40,10 +44,15 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // URL별 접근 권한 설정 (순서 중요 - 먼저 매칭된 규칙 적용)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/signup", "/api/auth/login").permitAll()  // 인증 불필요
+                        // StreamingResponseBody(활동 내보내기) 비동기 디스패치: 최초 요청에서 이미 인증됨
+                        // (JWT 필터는 ASYNC 디스패치에서 다시 돌지 않아 SecurityContext가 비어 있음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/refresh").permitAll()  // 인증 불필요
                         .requestMatchers(HttpMethod.GET, "/api/challenges").permitAll()  // 진행중 챌린지 목록 공개
                         .requestMatchers(HttpMethod.GET, "/api/plans").permitAll()  // 플랜 목록 공개
                         .requestMatchers(HttpMethod.GET, "/api/plans/*/schedule").permitAll()  // 주차별 스케줄 공개
+                        .requestMatchers("/actuator/jfr/**", "/actuator/slowqueries/**")
+                        .access(opsTokenAuthorizationManager)  // 프로파일링, 느린 쿼리: 운영 토큰 필요
                         .requestMatchers("/actuator/**").permitAll()  // 메트릭, 헬스체크
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/h2-console/**").permitAll()
                         .requestMatchers("/api/**").authenticated()  // 나머지 API는 인증 필수
@@ -58,8 +67,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 비밀번호 해싱 (BCrypt)
+     *
+     * app.security.bcrypt-strength: cost (기본값: 10, 1 증가할 때마다 해싱 시간 2배)
+     * 직접 호출하지 말고 PasswordHasher를 통해 전용 스레드 풀에서 실행
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();  // 비밀번호 해싱
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
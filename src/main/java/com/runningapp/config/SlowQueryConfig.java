@@ -0,0 +1,47 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 느린 쿼리 기록 설정
+ *
+ * DataSource 빈을 SlowQueryDataSource로 감싸 모든 JDBC 실행 시간 측정
+ * (Hikari 메트릭/헬스체크는 DelegatingDataSource를 풀어서 원본 사용)
+ *
+ * 프로퍼티 (app.db.slow-query):
+ * - threshold: 느린 쿼리 기준 (기본값: 200ms)
+ * - capacity: 보관 건수 (기본값: 100)
+ * - explain-sample-rate: 실행 계획 수집 비율 (기본값: 0.1, 0이면 수집 안 함)
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${app.db.slow-query.threshold:200ms}") Duration threshold,
+                                     @Value("${app.db.slow-query.capacity:100}") int capacity,
+                                     @Value("${app.db.slow-query.explain-sample-rate:0.1}") double explainSampleRate,
+                                     MeterRegistry registry) {
+        return new SlowQueryLog(threshold.toMillis(), capacity, explainSampleRate, registry);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                    return new SlowQueryDataSource(dataSource, slowQueryLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.runningapp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * 느린 쿼리 측정용 DataSource 래퍼 (JDBC 프록시)
+ *
+ * Connection/Statement를 동적 프록시로 감싸:
+ * - set*(index, value): 바인딩 파라미터 타입(형태)과 값 기록
+ * - execute*: 실행 시간 측정 → threshold 이상이면 SlowQueryLog에 전달
+ *
+ * 실행 계획 수집은 프록시를 거치지 않도록 원본 DataSource 사용
+ * EXPLAIN 구문은 첫 연결의 DB 종류로 결정 (PostgreSQL, H2 외에는 수집 안 함)
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+    private volatile String explainPrefix;
+    private volatile boolean databaseDetected;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) throws SQLException {
+        if (!databaseDetected) {
+            explainPrefix = explainPrefix(connection.getMetaData().getDatabaseProductName());
+            databaseDetected = true;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    static String explainPrefix(String databaseProductName) {
+        return switch (databaseProductName) {
+            case "PostgreSQL" -> "EXPLAIN (ANALYZE, BUFFERS) ";
+            case "H2" -> "EXPLAIN ANALYZE ";
+            default -> null;
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statementProxy(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> statementProxy(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> statementProxy(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        }
+
+        private Object statementProxy(Class<?> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private Object[] values = new Object[8];    // 1부터 사용 (JDBC 파라미터 인덱스)
+        private String[] types = new String[8];
+        private int parameterCount;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return timedExecute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(values, null);
+                Arrays.fill(types, null);
+                parameterCount = 0;
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object timedExecute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return SlowQueryDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (slowQueryLog.isSlow(elapsed)) {
+                    // Statement.execute(sql)는 실행 시점에 SQL 전달
+                    String executedSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                    if (executedSql != null) {
+                        slowQueryLog.record(executedSql, elapsed, parameterShape(),
+                                Arrays.copyOf(values, parameterCount + 1), getTargetDataSource(), explainPrefix);
+                    }
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index >= values.length) {
+                int capacity = Math.max(values.length * 2, index + 1);
+                values = Arrays.copyOf(values, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            values[index] = value;
+            types[index] = value == null ? "null" : value.getClass().getSimpleName();
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        /** 예: "[Long, Timestamp, Timestamp]" */
+        private String parameterShape() {
+            StringBuilder shape = new StringBuilder("[");
+            for (int i = 1; i <= parameterCount; i++) {
+                if (i > 1) {
+                    shape.append(", ");
+                }
+                shape.append(types[i] != null ? types[i] : "?");
+            }
+            return shape.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.runningapp.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 쿼리 조회 엔드포인트
+ *
+ * - GET /actuator/slowqueries: 최근 느린 쿼리 (최신순, 샘플링된 항목은 실행 계획 포함)
+ * - DELETE /actuator/slowqueries: 기록 초기화 (인덱스 추가 후 재확인 등)
+ *
+ * 접근: X-Ops-Token 헤더 필요 (SQL/실행 계획 노출)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQueryLog.SlowQuery> slowQueries() {
+        return slowQueryLog.entries();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,166 @@
+package com.runningapp.config;
+
+import com.runningapp.util.LogUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 쿼리 기록 (최근 N건 ring buffer, /actuator/slowqueries로 조회)
+ *
+ * SlowQueryDataSource가 threshold 이상 걸린 SQL을 전달:
+ * - SQL, 소요 시간, 바인딩 파라미터 형태(타입만, 값은 노출하지 않음), requestId
+ * - SELECT 중 explain-sample-rate 비율만큼 실행 계획 수집 (백그라운드 1개 스레드, 진행 중이면 건너뜀)
+ *   PostgreSQL: EXPLAIN (ANALYZE, BUFFERS) / H2: EXPLAIN ANALYZE
+ *   → 실제로 쿼리를 다시 실행하므로 읽기 전용 트랜잭션에서 실행 후 롤백, 5초 제한
+ *
+ * 인덱스(idx_running_activities_user_started 등) 사용 여부를 운영 데이터로 확인하는 용도
+ */
+@Slf4j
+public class SlowQueryLog implements DisposableBean {
+
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+    private final long thresholdNanos;
+    private final double explainSampleRate;
+    private final SlowQuery[] buffer;
+    private final Counter slowQueryCounter;
+    private final ThreadPoolExecutor explainExecutor;
+    private long written;
+
+    public SlowQueryLog(long thresholdMillis, int capacity, double explainSampleRate, MeterRegistry registry) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.explainSampleRate = explainSampleRate;
+        this.buffer = new SlowQuery[capacity];
+        this.slowQueryCounter = Counter.builder("runningapp_db_slow_queries")
+                .description("SQL statements slower than the slow query threshold")
+                .register(registry);
+        // 실행 계획 수집은 한 번에 1건만 (대기열 1, 초과 시 버림)
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), runnable -> {
+                    Thread thread = new Thread(runnable, "SlowQueryExplain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * 느린 쿼리 기록
+     *
+     * @param explainDataSource 실행 계획 수집용 (원본 DataSource), null이면 수집 안 함
+     * @param explainPrefix     DB별 EXPLAIN 구문, null이면 수집 안 함
+     * @param parameters        바인딩 값 (실행 계획 수집에만 사용, 저장하지 않음)
+     */
+    void record(String sql, long elapsedNanos, String parameterShape, Object[] parameters,
+                DataSource explainDataSource, String explainPrefix) {
+        slowQueryCounter.increment();
+        SlowQuery entry = new SlowQuery(Instant.now(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                sql, parameterShape, MDC.get(LoggingFilter.REQUEST_ID));
+        synchronized (this) {
+            buffer[(int) (written++ % buffer.length)] = entry;
+        }
+        LogUtils.atWarn(log)
+                .field("durationMs", entry.getDurationMs())
+                .field("sql", sql)
+                .field("parameterShape", parameterShape)
+                .log("느린 쿼리");
+
+        if (explainDataSource != null && explainPrefix != null && isSelect(sql)
+                && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+            explainExecutor.execute(() -> entry.plan = explain(explainDataSource, explainPrefix + sql, parameters));
+        }
+    }
+
+    /** 최근 느린 쿼리 (최신순) */
+    public synchronized List<SlowQuery> entries() {
+        int size = (int) Math.min(written, buffer.length);
+        List<SlowQuery> entries = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            entries.add(buffer[(int) ((written - i) % buffer.length)]);
+        }
+        return entries;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        written = 0;
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    private List<String> explain(DataSource dataSource, String explainSql, Object[] parameters) {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+                statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                for (int i = 1; i < parameters.length; i++) {
+                    statement.setObject(i, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            plan.add("EXPLAIN 실패: " + e.getMessage());
+        }
+        return plan;
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+
+    /** 느린 쿼리 1건 (actuator JSON 응답) */
+    @Getter
+    public static class SlowQuery {
+
+        private final Instant timestamp;
+        private final long durationMs;
+        private final String sql;
+        private final String parameterShape;
+        private final String requestId;
+        private volatile List<String> plan;  // 백그라운드에서 채워짐 (샘플링되지 않았으면 null)
+
+        SlowQuery(Instant timestamp, long durationMs, String sql, String parameterShape, String requestId) {
+            this.timestamp = timestamp;
+            this.durationMs = durationMs;
+            this.sql = sql;
+            this.parameterShape = parameterShape;
+            this.requestId = requestId;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * StreamingResponseBody(활동 내보내기) 실행 설정
+ *
+ * taskExecutor 빈이 따로 있어 Boot의 applicationTaskExecutor가 만들어지지 않음
+ * → 설정하지 않으면 MVC 비동기 요청이 SimpleAsyncTaskExecutor(요청마다 새 스레드, 상한 없음)로 실행됨
+ * → 전용 풀 + 작은 대기열, 초과 시 TaskRejectedException → 503
+ *
+ * 타임아웃: 기본값(컨테이너 30초)이면 활동 1만 건 + 경로 내보내기가 중간에 끊김
+ *
+ * 프로퍼티:
+ * - app.activity.export.threads: 동시 내보내기 수 (기본값: 4)
+ * - app.activity.export.queue-capacity: 대기 수 (기본값: 16)
+ * - app.activity.export.timeout: 비동기 요청 타임아웃 (기본값: 10m)
+ */
+@Configuration
+public class StreamingResponseConfig implements WebMvcConfigurer {
+
+    @Value("${app.activity.export.threads:4}")
+    private int threads;
+
+    @Value("${app.activity.export.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${app.activity.export.timeout:10m}")
+    private Duration timeout;
+
+    @Bean(name = "streamingResponseExecutor")
+    public ThreadPoolTaskExecutor streamingResponseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Streaming-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder streamingResponseExecutorMetrics(
+            @Qualifier("streamingResponseExecutor") ThreadPoolTaskExecutor executor) {
+        return registry -> new ExecutorServiceMetrics(
+                executor.getThreadPoolExecutor(), "streaming_response", Collections.emptyList()).bindTo(registry);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingResponseExecutor());
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
@@ -0,0 +1,285 @@
+package com.runningapp.config;
+
+import com.runningapp.domain.Challenge;
+import com.runningapp.domain.ChallengeType;
+import com.runningapp.domain.TrainingPlan;
+import com.runningapp.util.LevelCalculator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 생성기 (시드 고정, 결정적)
+ *
+ * 같은 seed + 사용자 인덱스 + 기준일이면 항상 같은 사용자/활동/경로/챌린지/플랜 생성
+ * (사용자마다 독립된 난수열 → 생성 순서, 스레드 수와 무관)
+ *
+ * 분포:
+ * - 사용자별 활동 수: 절단 파레토(멱법칙) P(X > x) ∝ x^-α, 1 ~ maxActivitiesPerUser
+ *   → 대부분 몇 건, 소수의 헤비 유저가 수천 건 (α=1.1이면 평균 약 6건)
+ * - 거리: 로그정규(중앙값 5.5km, 1km ~ 42.195km), 페이스: 사용자 기본 페이스 ± 5%
+ * - 시작 시각: 기준일 전날부터 historyDays일 전까지, 아침(06~08시) 60% / 저녁(19~21시) 40%
+ * - GPS 경로: routeProbability 비율만 생성, 사용자별 러닝 코스(한강 등) 근처에서 출발하는 랜덤 워크
+ *   (경로는 routeSeed만 들고 있다가 저장 시점에 route()로 생성 → 메모리 절약)
+ */
+class SyntheticDataGenerator {
+
+    static final String EMAIL_PREFIX = "synthetic-";
+    static final String EMAIL_DOMAIN = "@runningapp.test";
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final double MEDIAN_DISTANCE_KM = 5.5;
+    private static final double MARATHON_KM = 42.195;
+
+    // 러닝 코스 출발점 (lat, lng)
+    private static final double[][] START_POINTS = {
+            {37.5284, 126.9327},  // 여의도 한강공원
+            {37.5110, 126.9960},  // 반포 한강공원
+            {37.5296, 127.0670},  // 뚝섬 한강공원
+            {37.5206, 127.1214},  // 올림픽공원
+            {37.5444, 127.0374},  // 서울숲
+            {37.5512, 126.9882},  // 남산 둘레길
+            {35.1532, 129.1186},  // 부산 광안리
+            {36.3665, 127.3889},  // 대전 갑천
+    };
+
+    private final long seed;
+    private final double powerLawExponent;
+    private final int maxActivitiesPerUser;
+    private final double routeProbability;
+    private final int routeIntervalSeconds;
+    private final int historyDays;
+    private final double challengeJoinProbability;
+    private final double planEnrollProbability;
+    private final LocalDateTime anchor;  // 기준일 00:00 (활동은 모두 이전 시각)
+    private final List<Challenge> challenges;
+    private final List<TrainingPlan> plans;
+
+    SyntheticDataGenerator(long seed, double powerLawExponent, int maxActivitiesPerUser,
+                           double routeProbability, int routeIntervalSeconds, int historyDays,
+                           double challengeJoinProbability, double planEnrollProbability,
+                           LocalDate anchorDate, List<Challenge> challenges, List<TrainingPlan> plans) {
+        this.seed = seed;
+        this.powerLawExponent = powerLawExponent;
+        this.maxActivitiesPerUser = maxActivitiesPerUser;
+        this.routeProbability = routeProbability;
+        this.routeIntervalSeconds = routeIntervalSeconds;
+        this.historyDays = historyDays;
+        this.challengeJoinProbability = challengeJoinProbability;
+        this.planEnrollProbability = planEnrollProbability;
+        this.anchor = anchorDate.atStartOfDay();
+        this.challenges = challenges.stream().sorted(Comparator.comparing(Challenge::getId)).toList();
+        this.plans = plans.stream().sorted(Comparator.comparing(TrainingPlan::getId)).toList();
+    }
+
+    static String email(int userIndex) {
+        return EMAIL_PREFIX + userIndex + EMAIL_DOMAIN;
+    }
+
+    /** 사용자 1명 분량 생성 (난수 사용 순서를 바꾸면 같은 seed의 결과가 달라지므로 주의) */
+    SyntheticUser generateUser(int userIndex) {
+        SplittableRandom random = new SplittableRandom(mix(seed, userIndex));
+
+        double weight = round(clamp(68 + random.nextGaussian() * 11, 45, 110), 1);
+        double height = round(clamp(170 + random.nextGaussian() * 8, 150, 195), 1);
+        double basePace = clamp(370 + random.nextGaussian() * 50, 210, 600);
+        double baseHeartRate = clamp(150 + random.nextGaussian() * 10, 120, 180);
+        double baseCadence = clamp(170 + random.nextGaussian() * 8, 150, 195);
+        boolean hasWatch = random.nextDouble() < 0.6;
+        double[] home = START_POINTS[random.nextInt(START_POINTS.length)];
+
+        int activityCount = activityCount(random);
+        List<SyntheticActivity> activities = new ArrayList<>(activityCount);
+        double totalDistance = 0;
+        for (int i = 0; i < activityCount; i++) {
+            SyntheticActivity activity = generateActivity(random, weight, basePace, baseHeartRate, baseCadence, hasWatch, home);
+            activities.add(activity);
+            totalDistance += activity.distance();
+        }
+        activities.sort(Comparator.comparing(SyntheticActivity::startedAt));
+        totalDistance = round(totalDistance, 2);
+
+        LocalDateTime createdAt = activities.get(0).startedAt().minusDays(random.nextInt(30)).minusHours(random.nextInt(24));
+        List<ChallengeEntry> challengeEntries = generateChallenges(random, createdAt, activities);
+        PlanEntry plan = generatePlan(random, createdAt);
+
+        return new SyntheticUser(userIndex, email(userIndex), "러너" + userIndex, weight, height, createdAt,
+                activities, totalDistance, LevelCalculator.calculateLevel(totalDistance), challengeEntries, plan);
+    }
+
+    /** 절단 파레토 역함수: x = (1 - u(1 - max^-α))^(-1/α), 1 ≤ x ≤ max */
+    private int activityCount(SplittableRandom random) {
+        double tail = 1 - Math.pow(maxActivitiesPerUser, -powerLawExponent);
+        double x = Math.pow(1 - random.nextDouble() * tail, -1 / powerLawExponent);
+        return (int) Math.min(maxActivitiesPerUser, Math.max(1, Math.floor(x)));
+    }
+
+    private SyntheticActivity generateActivity(SplittableRandom random, double weight, double basePace,
+                                               double baseHeartRate, double baseCadence, boolean hasWatch,
+                                               double[] home) {
+        int dayOffset = 1 + random.nextInt(historyDays);
+        boolean morning = random.nextDouble() < 0.6;
+        int minuteOfDay = (morning ? 6 * 60 : 19 * 60) + random.nextInt(120);
+        LocalDateTime startedAt = anchor.minusDays(dayOffset).plusMinutes(minuteOfDay).plusSeconds(random.nextInt(60));
+
+        double distance = round(clamp(MEDIAN_DISTANCE_KM * Math.exp(random.nextGaussian() * 0.5), 1, MARATHON_KM), 2);
+        // 긴 거리일수록 조금 느리게
+        int pace = (int) Math.round(basePace * (1 + random.nextGaussian() * 0.05) + (distance - MEDIAN_DISTANCE_KM) * 2);
+        int duration = (int) Math.round(distance * pace);
+        int calories = (int) Math.round(distance * weight * 1.036);
+        Integer heartRate = hasWatch
+                ? (int) Math.round(baseHeartRate + random.nextGaussian() * 5 + (basePace - pace) / 10) : null;
+        Integer cadence = hasWatch ? (int) Math.round(baseCadence + random.nextGaussian() * 4) : null;
+        long routeSeed = random.nextDouble() < routeProbability ? random.nextLong() | 1 : 0;
+
+        return new SyntheticActivity(startedAt, distance, duration, pace, calories, heartRate, cadence,
+                routeSeed, home[0], home[1]);
+    }
+
+    /** 챌린지별 joinProbability로 참여, 진행률은 참여 이후 챌린지 기간 내 활동으로 계산 */
+    private List<ChallengeEntry> generateChallenges(SplittableRandom random, LocalDateTime createdAt,
+                                                    List<SyntheticActivity> activities) {
+        List<ChallengeEntry> entries = new ArrayList<>();
+        for (Challenge challenge : challenges) {
+            if (random.nextDouble() >= challengeJoinProbability) {
+                continue;
+            }
+            LocalDateTime start = challenge.getStartDate().atStartOfDay();
+            LocalDateTime end = challenge.getEndDate().plusDays(1).atStartOfDay();
+            LocalDateTime joinedAt = (start.isAfter(createdAt) ? start : createdAt).plusHours(random.nextInt(72));
+            if (!joinedAt.isBefore(anchor)) {
+                joinedAt = anchor.minusMinutes(1 + random.nextInt(60));
+            }
+
+            double distance = 0;
+            int count = 0;
+            LocalDateTime completedAt = null;
+            for (SyntheticActivity activity : activities) {
+                if (activity.startedAt().isBefore(joinedAt) || !activity.startedAt().isBefore(end)) {
+                    continue;
+                }
+                distance += activity.distance();
+                count++;
+                boolean reached = challenge.getType() == ChallengeType.DISTANCE
+                        ? distance >= challenge.getTargetDistance()
+                        : count >= challenge.getTargetCount();
+                if (completedAt == null && reached) {
+                    completedAt = activity.startedAt().plusSeconds(activity.duration());
+                }
+            }
+            entries.add(new ChallengeEntry(challenge.getId(), round(distance, 2), count, joinedAt, completedAt));
+        }
+        return entries;
+    }
+
+    /** planEnrollProbability로 플랜 1개 등록 (최근 totalWeeks×2주 내 시작, 기간이 지났으면 완료) */
+    private PlanEntry generatePlan(SplittableRandom random, LocalDateTime createdAt) {
+        if (plans.isEmpty() || random.nextDouble() >= planEnrollProbability) {
+            return null;
+        }
+        TrainingPlan plan = plans.get(random.nextInt(plans.size()));
+        int totalWeeks = plan.getTotalWeeks();
+        LocalDateTime startedAt = anchor.minusDays(1 + random.nextInt(totalWeeks * 14)).plusHours(random.nextInt(24));
+        if (startedAt.isBefore(createdAt)) {
+            startedAt = createdAt;
+        }
+        int elapsedWeeks = (int) (Duration.between(startedAt, anchor).toDays() / 7);
+        LocalDateTime completedAt = elapsedWeeks >= totalWeeks ? startedAt.plusWeeks(totalWeeks) : null;
+        return new PlanEntry(plan.getId(), startedAt, Math.min(totalWeeks, elapsedWeeks + 1), completedAt);
+    }
+
+    /**
+     * GPS 경로 ([{lat, lng, timestamp}, ...], routeIntervalSeconds 간격)
+     * 출발점 근처에서 방향을 조금씩 바꾸며 페이스만큼 이동, timestamp는 epoch ms (KST 기준)
+     */
+    List<Map<String, Object>> route(SyntheticActivity activity) {
+        if (activity.routeSeed() == 0) {
+            return null;
+        }
+        SplittableRandom random = new SplittableRandom(activity.routeSeed());
+        int points = activity.duration() / routeIntervalSeconds + 1;
+        double stepMeters = routeIntervalSeconds * 1000.0 / activity.averagePace();
+        double lat = activity.startLat() + random.nextGaussian() * 0.002;
+        double lng = activity.startLng() + random.nextGaussian() * 0.002;
+        double heading = random.nextDouble() * 2 * Math.PI;
+        long timestamp = activity.startedAt().toInstant(KST).toEpochMilli();
+
+        List<Map<String, Object>> route = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            if (i > 0) {
+                heading += random.nextGaussian() * 0.35;
+                lat += stepMeters * Math.cos(heading) / METERS_PER_DEGREE;
+                lng += stepMeters * Math.sin(heading) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat)));
+            }
+            route.add(Map.of("lat", Math.round(lat * 1e6) / 1e6,
+                    "lng", Math.round(lng * 1e6) / 1e6,
+                    "timestamp", timestamp + i * routeIntervalSeconds * 1000L));
+        }
+        return route;
+    }
+
+    String routeJson(SyntheticActivity activity) {
+        return routeJson(route(activity));
+    }
+
+    /** route 컬럼 값 (JPA 컨버터가 읽으면 같은 값의 List<Map>이 됨 → 경로 해시도 같음) */
+    static String routeJson(List<Map<String, Object>> route) {
+        if (route == null) {
+            return null;
+        }
+        StringBuilder json = new StringBuilder(route.size() * 56).append('[');
+        for (Map<String, Object> point : route) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"lat\":").append(point.get("lat"))
+                    .append(",\"lng\":").append(point.get("lng"))
+                    .append(",\"timestamp\":").append(point.get("timestamp"))
+                    .append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    /** seed와 사용자 인덱스를 섞어 사용자별 독립 시드 생성 (SplitMix64 finalizer) */
+    private static long mix(long seed, int userIndex) {
+        long z = seed * 0x9E3779B97F4A7C15L + userIndex;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+
+    record SyntheticUser(int index, String email, String nickname, double weight, double height,
+                         LocalDateTime createdAt, List<SyntheticActivity> activities,
+                         double totalDistance, int level, List<ChallengeEntry> challenges, PlanEntry plan) {
+    }
+
+    /** routeSeed == 0이면 경로 없음 (수동 입력 활동) */
+    record SyntheticActivity(LocalDateTime startedAt, double distance, int duration, int averagePace,
+                             int calories, Integer averageHeartRate, Integer cadence,
+                             long routeSeed, double startLat, double startLng) {
+    }
+
+    record ChallengeEntry(long challengeId, double currentDistance, int currentCount,
+                          LocalDateTime joinedAt, LocalDateTime completedAt) {
+    }
+
+    record PlanEntry(long planId, LocalDateTime startedAt, int currentWeek, LocalDateTime completedAt) {
+    }
+}
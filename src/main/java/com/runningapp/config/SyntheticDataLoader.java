@@ -0,0 +1,338 @@
+package com.runningapp.config;
+
+import com.runningapp.config.SyntheticDataGenerator.ChallengeEntry;
+import com.runningapp.config.SyntheticDataGenerator.PlanEntry;
+import com.runningapp.config.SyntheticDataGenerator.SyntheticActivity;
+import com.runningapp.config.SyntheticDataGenerator.SyntheticUser;
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.repository.ChallengeRepository;
+import com.runningapp.repository.TrainingPlanRepository;
+import com.runningapp.service.SignupEmailFilter;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 합성 데이터 로더 (synthetic 프로필)
+ *
+ * 부하 테스트/벤치마크가 운영 규모 데이터에서 돌도록 사용자, 활동, 챌린지 참여, 플랜 등록을 생성
+ * 내용은 SyntheticDataGenerator가 시드로 결정 (같은 설정이면 같은 데이터)
+ *
+ * 저장:
+ * - JPA를 거치지 않고 JDBC 배치 INSERT (batch-size 행마다 executeBatch, 사용자 chunk마다 커밋)
+ * - threads개 스레드가 사용자 chunk를 나눠 처리 (헤비 유저가 몰린 chunk가 있어도 남은 스레드가 다음 chunk 처리)
+ * - ID는 엔티티와 같은 시퀀스에서 블록 단위로 할당 (IdSequences), 처리 순서에 따라 달라질 수 있음 (threads=1이면 ID까지 재현)
+ * - PostgreSQL은 JDBC URL에 reWriteBatchedInserts=true를 붙이면 배치가 multi-row INSERT로 바뀌어 훨씬 빠름
+ *
+ * 챌린지/플랜 시드 로더(CommandLineRunner)가 끝난 뒤 실행되도록 ApplicationReadyEvent에서 시작
+ * synthetic-* 사용자가 이미 있으면 건너뜀 (재기동 시 중복 생성 방지)
+ * 모든 사용자의 비밀번호는 app.synthetic-data.password (로그인 부하 테스트용)
+ *
+ * 실행: SPRING_PROFILES_ACTIVE=prod,synthetic ./gradlew bootRun (설정은 application-synthetic.yml)
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+public class SyntheticDataLoader {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(id, email, password, nickname, weight, height, level, total_distance, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACTIVITY = "INSERT INTO running_activities "
+            + "(id, user_id, distance, duration, average_pace, calories, average_heart_rate, cadence, route, started_at, created_at, "
+            + "start_bucket, distance_bucket, duration_bucket, route_hash) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_CHALLENGE = "INSERT INTO user_challenges "
+            + "(id, user_id, challenge_id, current_distance, current_count, completed_at, joined_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_PLAN = "INSERT INTO user_plans "
+            + "(id, user_id, plan_id, started_at, current_week, completed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final IdSequences idSequences;
+    private final ChallengeRepository challengeRepository;
+    private final TrainingPlanRepository planRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SignupEmailFilter signupEmailFilter;
+
+    private final int users;
+    private final long seed;
+    private final double powerLawExponent;
+    private final int maxActivitiesPerUser;
+    private final double routeProbability;
+    private final Duration routeInterval;
+    private final int historyDays;
+    private final double challengeJoinProbability;
+    private final double planEnrollProbability;
+    private final String password;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int threads;
+
+    public SyntheticDataLoader(DataSource dataSource,
+                               IdSequences idSequences,
+                               ChallengeRepository challengeRepository,
+                               TrainingPlanRepository planRepository,
+                               PasswordEncoder passwordEncoder,
+                               SignupEmailFilter signupEmailFilter,
+                               @Value("${app.synthetic-data.users:10000}") int users,
+                               @Value("${app.synthetic-data.seed:42}") long seed,
+                               @Value("${app.synthetic-data.power-law-exponent:1.1}") double powerLawExponent,
+                               @Value("${app.synthetic-data.max-activities-per-user:10000}") int maxActivitiesPerUser,
+                               @Value("${app.synthetic-data.route-probability:0.2}") double routeProbability,
+                               @Value("${app.synthetic-data.route-interval:30s}") Duration routeInterval,
+                               @Value("${app.synthetic-data.history-days:730}") int historyDays,
+                               @Value("${app.synthetic-data.challenge-join-probability:0.3}") double challengeJoinProbability,
+                               @Value("${app.synthetic-data.plan-enroll-probability:0.25}") double planEnrollProbability,
+                               @Value("${app.synthetic-data.password:password123}") String password,
+                               @Value("${app.synthetic-data.batch-size:1000}") int batchSize,
+                               @Value("${app.synthetic-data.chunk-size:500}") int chunkSize,
+                               @Value("${app.synthetic-data.threads:4}") int threads) {
+        this.dataSource = dataSource;
+        this.idSequences = idSequences;
+        this.challengeRepository = challengeRepository;
+        this.planRepository = planRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.signupEmailFilter = signupEmailFilter;
+        this.users = users;
+        this.seed = seed;
+        this.powerLawExponent = powerLawExponent;
+        this.maxActivitiesPerUser = maxActivitiesPerUser;
+        this.routeProbability = routeProbability;
+        this.routeInterval = routeInterval;
+        this.historyDays = historyDays;
+        this.challengeJoinProbability = challengeJoinProbability;
+        this.planEnrollProbability = planEnrollProbability;
+        this.password = password;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() throws Exception {
+        if (countSyntheticUsers() > 0) {
+            LogUtils.info(log, "합성 데이터가 이미 있음 - 생성 건너뜀", "users", users);
+            return;
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed, powerLawExponent, maxActivitiesPerUser,
+                routeProbability, (int) routeInterval.toSeconds(), historyDays,
+                challengeJoinProbability, planEnrollProbability, LocalDate.now(),
+                challengeRepository.findAll(), planRepository.findAll());
+        // BCrypt는 느리므로 한 번만 해싱해서 모든 사용자가 공유
+        String encodedPassword = passwordEncoder.encode(password);
+
+        long start = System.nanoTime();
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicLong activityCount = new AtomicLong();
+        int chunks = (users + chunkSize - 1) / chunkSize;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        int from = chunk * chunkSize;
+                        activityCount.addAndGet(writeChunk(generator, encodedPassword, from, Math.min(users, from + chunkSize)));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // JDBC로 직접 넣은 이메일은 가입 Bloom filter에 없으므로 다시 로드
+        signupEmailFilter.rebuild();
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        LogUtils.atInfo(log)
+                .field("users", users)
+                .field("activities", activityCount.get())
+                .field("elapsedMs", elapsedMs)
+                .field("activitiesPerSecond", activityCount.get() * 1000 / Math.max(1, elapsedMs))
+                .log("합성 데이터 생성 완료");
+    }
+
+    private long countSyntheticUsers() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM users WHERE email LIKE ?")) {
+            statement.setString(1, SyntheticDataGenerator.EMAIL_PREFIX + "%" + SyntheticDataGenerator.EMAIL_DOMAIN);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /** 사용자 [from, to) 생성 + 저장 (한 트랜잭션), 저장한 활동 수 반환 */
+    private long writeChunk(SyntheticDataGenerator generator, String encodedPassword, int from, int to) throws SQLException {
+        List<SyntheticUser> chunk = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            chunk.add(generator.generateUser(i));
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long[] userIds = insertUsers(connection, chunk, encodedPassword);
+                long activities = insertActivities(connection, generator, chunk, userIds);
+                insertParticipations(connection, chunk, userIds);
+                connection.commit();
+                return activities;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private long[] insertUsers(Connection connection, List<SyntheticUser> chunk, String encodedPassword) throws SQLException {
+        long[] ids = idSequences.allocate(connection, "users", chunk.size());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER)) {
+            for (int u = 0; u < chunk.size(); u++) {
+                SyntheticUser user = chunk.get(u);
+                statement.setLong(1, ids[u]);
+                statement.setString(2, user.email());
+                statement.setString(3, encodedPassword);
+                statement.setString(4, user.nickname());
+                statement.setDouble(5, user.weight());
+                statement.setDouble(6, user.height());
+                statement.setInt(7, user.level());
+                statement.setDouble(8, user.totalDistance());
+                statement.setObject(9, user.createdAt());
+                statement.setObject(10, user.createdAt());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return ids;
+    }
+
+    private long insertActivities(Connection connection, SyntheticDataGenerator generator,
+                                  List<SyntheticUser> chunk, long[] userIds) throws SQLException {
+        int total = chunk.stream().mapToInt(user -> user.activities().size()).sum();
+        long[] ids = idSequences.allocate(connection, "running_activities", total);
+        int count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ACTIVITY)) {
+            for (int u = 0; u < chunk.size(); u++) {
+                for (SyntheticActivity activity : chunk.get(u).activities()) {
+                    statement.setLong(1, ids[count]);
+                    statement.setLong(2, userIds[u]);
+                    statement.setDouble(3, activity.distance());
+                    statement.setInt(4, activity.duration());
+                    statement.setInt(5, activity.averagePace());
+                    statement.setInt(6, activity.calories());
+                    setNullableInt(statement, 7, activity.averageHeartRate());
+                    setNullableInt(statement, 8, activity.cadence());
+                    List<Map<String, Object>> route = generator.route(activity);
+                    statement.setString(9, SyntheticDataGenerator.routeJson(route));
+                    statement.setObject(10, activity.startedAt());
+                    statement.setObject(11, activity.startedAt().plusSeconds(activity.duration()));
+                    // JDBC 직접 INSERT라 @PrePersist가 안 돎 → 중복 판정 지문을 같은 계산으로 채움
+                    ActivityFingerprint fingerprint = ActivityFingerprint.of(
+                            activity.startedAt(), activity.distance(), activity.duration(), route);
+                    statement.setInt(12, fingerprint.startBucket());
+                    statement.setInt(13, fingerprint.distanceBucket());
+                    statement.setInt(14, fingerprint.durationBucket());
+                    setNullableLong(statement, 15, fingerprint.routeHash());
+                    statement.addBatch();
+                    if (++count % batchSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+        return count;
+    }
+
+    private void insertParticipations(Connection connection, List<SyntheticUser> chunk, long[] userIds) throws SQLException {
+        long[] challengeIds = idSequences.allocate(connection, "user_challenges",
+                chunk.stream().mapToInt(user -> user.challenges().size()).sum());
+        long[] planIds = idSequences.allocate(connection, "user_plans",
+                (int) chunk.stream().filter(user -> user.plan() != null).count());
+        int challengeCount = 0;
+        int planCount = 0;
+        try (PreparedStatement challengeStatement = connection.prepareStatement(INSERT_USER_CHALLENGE);
+             PreparedStatement planStatement = connection.prepareStatement(INSERT_USER_PLAN)) {
+            for (int u = 0; u < chunk.size(); u++) {
+                SyntheticUser user = chunk.get(u);
+                for (ChallengeEntry entry : user.challenges()) {
+                    challengeStatement.setLong(1, challengeIds[challengeCount++]);
+                    challengeStatement.setLong(2, userIds[u]);
+                    challengeStatement.setLong(3, entry.challengeId());
+                    challengeStatement.setDouble(4, entry.currentDistance());
+                    challengeStatement.setInt(5, entry.currentCount());
+                    setNullableTimestamp(challengeStatement, 6, entry.completedAt());
+                    challengeStatement.setObject(7, entry.joinedAt());
+                    challengeStatement.addBatch();
+                }
+                PlanEntry plan = user.plan();
+                if (plan != null) {
+                    planStatement.setLong(1, planIds[planCount++]);
+                    planStatement.setLong(2, userIds[u]);
+                    planStatement.setLong(3, plan.planId());
+                    planStatement.setObject(4, plan.startedAt());
+                    planStatement.setInt(5, plan.currentWeek());
+                    setNullableTimestamp(planStatement, 6, plan.completedAt());
+                    planStatement.addBatch();
+                }
+            }
+            challengeStatement.executeBatch();
+            planStatement.executeBatch();
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setInt(index, value);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    private static void setNullableTimestamp(PreparedStatement statement, int index, LocalDateTime value) throws SQLException {
+        statement.setObject(index, value, Types.TIMESTAMP);
+    }
+}
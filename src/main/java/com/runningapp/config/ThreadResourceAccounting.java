@@ -0,0 +1,58 @@
+package com.runningapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 스레드의 힙 할당량/CPU 시간 측정 (com.sun.management.ThreadMXBean)
+ *
+ * 요청/비동기 작업 시작과 끝에 값을 읽어 차이를 기록:
+ * <pre>
+ * long allocatedStart = accounting.allocatedBytes();
+ * long cpuStart = accounting.cpuTimeNanos();
+ * ... 작업 ...
+ * accounting.allocatedBytes() - allocatedStart
+ * </pre>
+ * - 측정 대상은 현재 스레드만 (비밀번호 해싱 풀, @Async 작업은 각 스레드에서 따로 집계)
+ * - 호출당 비용은 수백 ns 수준, 비활성화 또는 JVM 미지원 시 항상 0 반환
+ *
+ * 프로퍼티: app.metrics.resource-accounting.enabled (기본값: true)
+ */
+@Slf4j
+@Component
+public class ThreadResourceAccounting {
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final boolean allocationEnabled;
+    private final boolean cpuEnabled;
+
+    public ThreadResourceAccounting(@Value("${app.metrics.resource-accounting.enabled:true}") boolean enabled) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadMXBean = bean instanceof com.sun.management.ThreadMXBean sunBean ? sunBean : null;
+
+        this.allocationEnabled = enabled && threadMXBean != null
+                && threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+        this.cpuEnabled = enabled && bean.isCurrentThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled();
+
+        if (enabled && !(allocationEnabled && cpuEnabled)) {
+            log.warn("스레드 자원 측정 일부 미지원: allocation={}, cpu={}", allocationEnabled, cpuEnabled);
+        }
+    }
+
+    public boolean isEnabled() {
+        return allocationEnabled || cpuEnabled;
+    }
+
+    /** 현재 스레드가 지금까지 할당한 힙 바이트 수 */
+    public long allocatedBytes() {
+        return allocationEnabled ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /** 현재 스레드가 지금까지 사용한 CPU 시간 (ns) */
+    public long cpuTimeNanos() {
+        return cpuEnabled ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+}
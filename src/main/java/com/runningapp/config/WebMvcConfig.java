@@ -47,6 +47,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Idempotent-Replayed")  // Idempotency-Key 재시도 응답 여부
                 .maxAge(3600);
         registry.addMapping("/swagger-ui/**")
                 .allowedOriginPatterns("*")
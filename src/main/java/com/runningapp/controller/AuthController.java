@@ -3,6 +3,7 @@ package com.runningapp.controller;
 import com.runningapp.dto.auth.AuthResponse;
 import com.runningapp.dto.auth.LoginRequest;
 import com.runningapp.dto.auth.ProfileUpdateRequest;
+import com.runningapp.dto.auth.RefreshTokenRequest;
 import com.runningapp.dto.auth.SignupRequest;
 import com.runningapp.security.AuthenticationPrincipal;
 import com.runningapp.service.AuthService;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -52,6 +54,31 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스/리프레시 토큰 발급. 사용한 리프레시 토큰은 폐기됨.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재발급 성공"),
+            @ApiResponse(responseCode = "401", description = "만료/폐기/존재하지 않는 리프레시 토큰")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰과 리프레시 토큰 폐기. 폐기된 액세스 토큰은 만료 전이라도 인증 실패.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "로그아웃 성공"),
+            @ApiResponse(responseCode = "403", description = "인증 필요")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @Valid @RequestBody RefreshTokenRequest request) {
+        // 필터에서 이미 검증된 "Bearer {token}" 헤더
+        authService.logout(authorization.substring("Bearer ".length()), request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "프로필 수정", description = "닉네임, 체중, 신장 수정. 전송한 필드만 수정됨.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
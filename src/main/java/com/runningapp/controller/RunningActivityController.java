@@ -1,23 +1,45 @@
 package com.runningapp.controller;
 
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.dto.activity.ActivityBatchRequest;
+import com.runningapp.dto.activity.ActivityBatchResponse;
+import com.runningapp.dto.activity.ActivityImportResponse;
 import com.runningapp.dto.activity.ActivityRequest;
 import com.runningapp.dto.activity.ActivityResponse;
 import com.runningapp.dto.activity.ActivityStatsResponse;
 import com.runningapp.dto.activity.ActivitySummaryResponse;
+import com.runningapp.dto.activity.ImportJobResponse;
 import com.runningapp.security.AuthenticationPrincipal;
+import com.runningapp.service.ActivityExportService;
+import com.runningapp.service.ActivityImportService;
+import com.runningapp.service.ActivityIngestService;
+import com.runningapp.service.HealthImportService;
+import com.runningapp.service.IdempotencyService;
 import com.runningapp.service.RunningActivityService;
+import com.runningapp.service.exporter.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 러닝 활동 API 컨트롤러
@@ -31,22 +53,133 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class RunningActivityController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final RunningActivityService activityService;
+    private final ActivityIngestService ingestService;
+    private final ActivityImportService importService;
+    private final HealthImportService healthImportService;
+    private final ActivityExportService exportService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "활동 저장", description = "새 러닝 활동을 저장합니다. 거리, 시간, 페이스 등 입력. GPS 경로(route)는 선택.")
+    @Operation(summary = "활동 저장", description = "새 러닝 활동을 저장합니다. 거리, 시간, 페이스 등 입력. GPS 경로(route)는 선택. "
+            + "Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 저장하고 처음 응답을 돌려줍니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "저장 성공"),
+            @ApiResponse(responseCode = "200", description = "저장 성공 (재시도면 Idempotent-Replayed: true)"),
             @ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
-            @ApiResponse(responseCode = "403", description = "인증 필요")
+            @ApiResponse(responseCode = "403", description = "인증 필요"),
+            @ApiResponse(responseCode = "409", description = "같은 키 요청이 다른 서버에서 처리 중, 또는 이미 있는 같은 활동 (ACTIVITY_006)"),
+            @ApiResponse(responseCode = "422", description = "같은 키를 다른 요청 본문에 사용")
     })
     @PostMapping
     public ResponseEntity<ActivityResponse> create(
             @AuthenticationPrincipal Long userId,
+            @Parameter(description = "재시도 시 같은 값 (예: UUID, 24시간 유지)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ActivityRequest request) {
-        ActivityResponse response = activityService.create(userId, request);
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(activityService.create(userId, request));
+        }
+        IdempotencyService.Result<ActivityResponse> result = idempotencyService.execute(
+                "activity-create", userId, idempotencyKey, request, ActivityResponse.class,
+                () -> activityService.create(userId, request));
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
+    }
+
+    @Operation(summary = "활동 일괄 저장", description = "워치/HealthKit 동기화 등 여러 활동을 한 번에 저장합니다. "
+            + "항목별로 검증해 잘못된 항목은 INVALID로 돌려주고 나머지는 저장합니다. "
+            + "이미 있는 같은 활동(" + ActivityFingerprint.MATCH_RULE + ")은 "
+            + "기존 활동의 빈 값만 채우고 DUPLICATE로 돌려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "빈 목록 또는 최대 건수 초과"),
+            @ApiResponse(responseCode = "403", description = "인증 필요")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ActivityBatchResponse> createBatch(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody ActivityBatchRequest request) {
+        ActivityBatchResponse response = ingestService.createBatch(userId, request.getActivities());
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "GPX/TCX 가져오기", description = "다른 앱에서 내보낸 GPX/TCX 파일(여러 개 가능)을 활동으로 저장. "
+            + "GPX trk / TCX Activity 1개가 활동 1건이며, 시간·거리가 없는 트랙은 건너뜁니다. "
+            + "이미 있는 같은 활동(" + ActivityFingerprint.MATCH_RULE + ")은 "
+            + "새로 저장하지 않고 기존 활동에 병합합니다 (duplicates).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (파일별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "파일 없음"),
+            @ApiResponse(responseCode = "403", description = "인증 필요")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ActivityImportResponse> importFiles(
+            @AuthenticationPrincipal Long userId,
+            @Parameter(description = "GPX/TCX 파일") @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+        ActivityImportResponse response = importService.importFiles(userId, files);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Apple Health 가져오기", description = "건강 앱 '모든 건강 데이터 내보내기' 파일(export.zip 또는 export.xml)을 "
+            + "요청 본문으로 업로드. 러닝 Workout과 경로(workout-routes/*.gpx)를 백그라운드에서 저장하고 작업 ID를 반환합니다. "
+            + "이미 있는 같은 활동(" + ActivityFingerprint.MATCH_RULE + ")은 "
+            + "새로 저장하지 않고 기존 활동의 빈 값(경로, 심박수 등)만 채워 중복으로 셉니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록 (Location: 상태 조회 URL)"),
+            @ApiResponse(responseCode = "400", description = "빈 본문"),
+            @ApiResponse(responseCode = "403", description = "인증 필요"),
+            @ApiResponse(responseCode = "413", description = "최대 크기 초과"),
+            @ApiResponse(responseCode = "429", description = "본인의 가져오기 작업이 이미 진행 중"),
+            @ApiResponse(responseCode = "503", description = "진행 중인 작업이 많음")
+    })
+    @PostMapping(value = "/import/apple-health",
+            consumes = {"application/zip", MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE})
+    public ResponseEntity<ImportJobResponse> importAppleHealth(
+            @AuthenticationPrincipal Long userId,
+            HttpServletRequest request) throws IOException {
+        ImportJobResponse response = ImportJobResponse.from(healthImportService.start(userId, request.getInputStream()));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/activities/import/jobs/" + response.getJobId()))
+                .body(response);
+    }
+
+    @Operation(summary = "가져오기 작업 상태", description = "Apple Health 가져오기 진행률과 저장/중복/건너뜀 건수 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인증 필요"),
+            @ApiResponse(responseCode = "404", description = "작업 없음 (만료되었거나 다른 사용자의 작업)")
+    })
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(ImportJobResponse.from(healthImportService.getJob(userId, jobId)));
+    }
+
+    @Operation(summary = "활동 내보내기", description = "내 전체 활동을 파일로 내려받기. "
+            + "ndjson(경로 포함 JSON 줄), csv(요약, 경로 제외), gpx-zip(경로 있는 활동별 GPX). 오래된 순.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "파일 스트리밍"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+            @ApiResponse(responseCode = "403", description = "인증 필요"),
+            @ApiResponse(responseCode = "503", description = "동시 내보내기 한도 초과")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal Long userId,
+            @Parameter(description = "형식: ndjson, csv, gpx-zip") @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.filename(LocalDate.now())).build().toString())
+                .body(body);
+    }
+
     @Operation(summary = "활동 목록 조회", description = "내 러닝 활동 목록을 페이징하여 조회. 최신순 정렬.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -0,0 +1,85 @@
+package com.runningapp.domain;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 중복 활동 판정용 지문
+ *
+ * 같은 러닝이 HealthKit 동기화 + 수동 입력 등으로 두 번 들어오면 값이 조금씩 다름 → 정확히 같은 값 비교로는 못 찾음
+ * → 시작 시간/거리/시간을 버킷으로 나눠 저장하고, 세 값 모두 인접 버킷(±1)이면 같은 활동으로 판정
+ *   (시작 ±5~10분, 거리 ±0.1~0.2km, 시간 ±1~2분)
+ * → 또는 경로 해시가 같으면 같은 활동 (같은 GPX를 두 번 가져온 경우 등, 요약값 계산 방식이 달라도 판정)
+ *
+ * 경로 해시: 포인트(위도/경도 1e-5 반올림 + 초 단위 timestamp)의 SHA-256 앞 8바이트
+ * - timestamp가 없는 경로는 해시하지 않음 (저장해 둔 코스를 여러 활동에 붙이는 경우 다른 러닝이 같은 해시가 됨)
+ *
+ * 버킷 폭을 바꾸면 저장된 버킷 값과 맞지 않으므로 상수로 고정
+ */
+public record ActivityFingerprint(int startBucket, int distanceBucket, int durationBucket, Long routeHash) {
+
+    static final int START_BUCKET_MINUTES = 5;
+    static final int DISTANCE_BUCKET_METERS = 100;
+    static final int DURATION_BUCKET_SECONDS = 60;
+
+    /** API 문서용 판정 규칙 (버킷 폭 상수에서 생성 → 상수를 바꾸면 문서도 같이 바뀜) */
+    public static final String MATCH_RULE = "시작 시간(" + START_BUCKET_MINUTES + "분 단위)·거리("
+            + DISTANCE_BUCKET_METERS + "m 단위)·운동 시간(" + DURATION_BUCKET_SECONDS + "초 단위) 구간이 "
+            + "모두 같거나 바로 옆 구간인 활동, 또는 GPS 경로(timestamp 포함)가 같은 활동";
+
+    public static ActivityFingerprint of(LocalDateTime startedAt, double distance, int duration,
+                                         List<Map<String, Object>> route) {
+        // 시간대와 무관하게 버킷 폭만 일정하면 되므로 LocalDateTime을 그대로 epoch 분으로 변환
+        long epochMinute = startedAt.toEpochSecond(ZoneOffset.UTC) / 60;
+        return new ActivityFingerprint(
+                (int) Math.floorDiv(epochMinute, START_BUCKET_MINUTES),
+                (int) (Math.round(distance * 1000) / DISTANCE_BUCKET_METERS),
+                duration / DURATION_BUCKET_SECONDS,
+                routeHash(route));
+    }
+
+    /** 같은 활동인지 (경로 해시 일치 또는 세 버킷 모두 ±1 이내) */
+    public boolean matches(ActivityFingerprint other) {
+        if (routeHash != null && routeHash.equals(other.routeHash)) {
+            return true;
+        }
+        return Math.abs(startBucket - other.startBucket) <= 1
+                && Math.abs(distanceBucket - other.distanceBucket) <= 1
+                && Math.abs(durationBucket - other.durationBucket) <= 1;
+    }
+
+    /** 후보 조회 시 확인할 시작 버킷 (자기 버킷 + 양옆) */
+    public List<Integer> neighborStartBuckets() {
+        return List.of(startBucket - 1, startBucket, startBucket + 1);
+    }
+
+    static Long routeHash(List<Map<String, Object>> route) {
+        if (route == null || route.size() < 2 || !(route.get(0).get("timestamp") instanceof Number)) {
+            return null;
+        }
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer point = ByteBuffer.allocate(3 * Long.BYTES);
+        for (Map<String, Object> p : route) {
+            if (!(p.get("lat") instanceof Number lat) || !(p.get("lng") instanceof Number lng)) {
+                continue;
+            }
+            long timestamp = p.get("timestamp") instanceof Number t ? t.longValue() / 1000 : 0;
+            point.clear();
+            point.putLong(Math.round(lat.doubleValue() * 1e5))
+                    .putLong(Math.round(lng.doubleValue() * 1e5))
+                    .putLong(timestamp);
+            sha256.update(point.array());
+        }
+        return ByteBuffer.wrap(sha256.digest()).getLong();
+    }
+}
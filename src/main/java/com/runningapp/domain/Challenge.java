@@ -2,6 +2,8 @@ package com.runningapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,6 +12,9 @@ import java.time.LocalDateTime;
  * 챌린지 엔티티
  *
  * 진행중인 챌린지 목록: start_date <= today <= end_date
+ *
+ * 2차 캐시(region: challenge): 시드 후 거의 변경되지 않는 참조 데이터
+ * - 이벤트 처리마다 같은 챌린지 행을 다시 조회/하이드레이션하지 않도록 캐싱
  */
 @Entity
 @Table(name = "challenges", indexes = {
@@ -22,6 +27,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "challenge")
 public class Challenge {
 
     @Id
@@ -2,9 +2,13 @@ package com.runningapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 플랜별 주차별 스케줄
+ *
+ * 2차 캐시(region: planWeek): 플랜 생성 후 변경되지 않음
  */
 @Entity
 @Table(name = "plan_weeks", indexes = {
@@ -15,6 +19,8 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "planWeek")
 public class PlanWeek {
 
     @Id
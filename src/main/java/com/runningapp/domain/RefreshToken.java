@@ -0,0 +1,66 @@
+package com.runningapp.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 엔티티
+ *
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장 (DB 유출 시 재사용 방지)
+ * 재발급 시 기존 토큰은 폐기(revokedAt)하고 새 토큰 발급 (rotation)
+ * → 폐기된 토큰이 다시 사용되면 탈취로 보고 해당 사용자의 토큰 전체 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    // 토큰 조회 (재발급/로그아웃)
+    @Index(name = "idx_refresh_tokens_hash", columnList = "token_hash", unique = true),
+    // 사용자별 전체 폐기
+    @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)  // pooled: 배치 INSERT 가능
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;  // null이면 사용 가능
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+
+    public void revoke() {
+        if (revokedAt == null) {
+            revokedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -14,13 +14,20 @@ import java.util.Map;
  *
  * @ManyToOne(fetch = LAZY): N:1 관계, 지연 로딩으로 user 조회 시 추가 쿼리
  * @JdbcTypeCode(JSON): Hibernate 6+ 에서 JSON 타입 매핑 (GPS 경로 저장)
+ *
+ * 중복 판정 지문(ActivityFingerprint): 저장/수정 시 버킷·경로 해시 컬럼을 계산해 두고
+ * 새 활동이 들어오면 인덱스로 후보만 조회 (ActivityDeduplicator)
  */
 @Entity
 @Table(name = "running_activities", indexes = {
     // 사용자별 활동 목록 조회 (페이징) - 가장 자주 사용
     @Index(name = "idx_running_activities_user_started", columnList = "user_id, started_at DESC"),
     // 기간별 통계 조회
-    @Index(name = "idx_running_activities_started", columnList = "started_at")
+    @Index(name = "idx_running_activities_started", columnList = "started_at"),
+    // 중복 판정: 시작 버킷 후보 조회 + 거리/시간 버킷은 인덱스에서 바로 거름
+    @Index(name = "idx_running_activities_fingerprint", columnList = "user_id, start_bucket, distance_bucket, duration_bucket"),
+    // 중복 판정: 같은 경로(GPX 재가져오기 등)
+    @Index(name = "idx_running_activities_route_hash", columnList = "user_id, route_hash")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,7 +36,8 @@ import java.util.Map;
 public class RunningActivity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "running_activities_seq")
+    @SequenceGenerator(name = "running_activities_seq", sequenceName = "running_activities_seq", allocationSize = 50)  // pooled: 배치 INSERT 가능
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)  // N:1, 지연 로딩 (필요할 때만 user 조회)
@@ -66,9 +74,36 @@ public class RunningActivity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 중복 판정 지문 (ActivityFingerprint, 저장/수정 시 계산)
+    @Column(name = "start_bucket")
+    private Integer startBucket;
+
+    @Column(name = "distance_bucket")
+    private Integer distanceBucket;
+
+    @Column(name = "duration_bucket")
+    private Integer durationBucket;
+
+    @Column(name = "route_hash")
+    private Long routeHash;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        applyFingerprint();
+    }
+
+    /** 현재 값 기준 지문 (저장 전 엔티티도 계산 가능) */
+    public ActivityFingerprint fingerprint() {
+        return ActivityFingerprint.of(startedAt, distance, duration, route);
+    }
+
+    private void applyFingerprint() {
+        ActivityFingerprint fingerprint = fingerprint();
+        this.startBucket = fingerprint.startBucket();
+        this.distanceBucket = fingerprint.distanceBucket();
+        this.durationBucket = fingerprint.durationBucket();
+        this.routeHash = fingerprint.routeHash();
     }
 
     /** 엔티티 수정 (불변 객체 대신 업데이트 메서드로 변경 사항 반영) */
@@ -84,5 +119,45 @@ public class RunningActivity {
         this.route = route;
         this.startedAt = startedAt;
         this.memo = memo;
+        applyFingerprint();
+    }
+
+    /**
+     * 중복으로 판정된 활동의 값 중 이 활동에 없는 것만 채움 (예: 수동 입력 + HealthKit 심박수/경로)
+     *
+     * 거리/시간/시작 시간은 그대로 → 누적 거리, 챌린지 진행률 변화 없음
+     *
+     * @return 바뀐 값이 있으면 true
+     */
+    public boolean mergeMissing(RunningActivity duplicate) {
+        boolean changed = false;
+        if (averagePace == null && duplicate.averagePace != null) {
+            averagePace = duplicate.averagePace;
+            changed = true;
+        }
+        if (calories == null && duplicate.calories != null) {
+            calories = duplicate.calories;
+            changed = true;
+        }
+        if (averageHeartRate == null && duplicate.averageHeartRate != null) {
+            averageHeartRate = duplicate.averageHeartRate;
+            changed = true;
+        }
+        if (cadence == null && duplicate.cadence != null) {
+            cadence = duplicate.cadence;
+            changed = true;
+        }
+        if ((route == null || route.isEmpty()) && duplicate.route != null && !duplicate.route.isEmpty()) {
+            route = duplicate.route;
+            changed = true;
+        }
+        if ((memo == null || memo.isBlank()) && duplicate.memo != null && !duplicate.memo.isBlank()) {
+            memo = duplicate.memo;
+            changed = true;
+        }
+        if (changed) {
+            applyFingerprint();
+        }
+        return changed;
     }
 }
@@ -2,6 +2,8 @@ package com.runningapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.List;
  * 트레이닝 플랜 엔티티
  *
  * 5K, 10K, 하프마라톤 목표별 주차별 러닝 스케줄
+ *
+ * 2차 캐시(region: trainingPlan, trainingPlanWeeks): 플랜과 주차 컬렉션 모두 캐싱
  */
 @Entity
 @Table(name = "training_plans", indexes = {
@@ -21,6 +25,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "trainingPlan")
 public class TrainingPlan {
 
     @Id
@@ -52,6 +58,7 @@ public class TrainingPlan {
 
     @OneToMany(mappedBy = "plan", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("weekNumber ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "trainingPlanWeeks")
     @Builder.Default
     private List<PlanWeek> weeks = new ArrayList<>();
 
@@ -20,7 +20,9 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id  // Primary Key
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // DB가 자동 증가 (AUTO_INCREMENT)
+    // 시퀀스 + pooled 옵티마이저: nextval 1번에 50개 ID 확보 → INSERT를 JDBC 배치로 묶을 수 있음 (IDENTITY는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)  // NOT NULL, UNIQUE 제약조건
@@ -68,6 +70,11 @@ public class User {
         this.level = com.runningapp.util.LevelCalculator.calculateLevel(this.totalDistance);
     }
 
+    /** 비밀번호 해시 교체 (BCrypt cost 변경 시 재해싱) */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /** 프로필 수정 (null이 아닌 필드만 반영) */
     public void updateProfile(String nickname, Double weight, Double height) {
         if (nickname != null) this.nickname = nickname;
@@ -28,7 +28,8 @@ import java.time.LocalDateTime;
 public class UserChallenge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_challenges_seq")
+    @SequenceGenerator(name = "user_challenges_seq", sequenceName = "user_challenges_seq", allocationSize = 50)  // pooled: 배치 INSERT 가능
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
 public class UserPlan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_plans_seq")
+    @SequenceGenerator(name = "user_plans_seq", sequenceName = "user_plans_seq", allocationSize = 50)  // pooled: 배치 INSERT 가능
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,24 @@
+package com.runningapp.dto.activity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 러닝 활동 일괄 저장 요청 DTO
+ *
+ * 항목별 검증은 서비스에서 개별 수행 (@Valid 미적용)
+ * → 일부 항목이 잘못돼도 나머지는 저장하고 항목별 결과로 알려줌
+ */
+@Schema(description = "러닝 활동 일괄 저장 요청 (워치/HealthKit 동기화)")
+@Getter
+@NoArgsConstructor
+public class ActivityBatchRequest {
+
+    @Schema(description = "저장할 활동 목록 (최대 app.activity.batch.max-size건)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "활동 목록은 비어 있을 수 없습니다")
+    private List<ActivityRequest> activities;
+}
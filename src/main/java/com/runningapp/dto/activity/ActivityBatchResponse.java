@@ -0,0 +1,51 @@
+package com.runningapp.dto.activity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 러닝 활동 일괄 저장 응답 DTO
+ *
+ * results: 요청 순서(index)대로 항목별 결과
+ * - CREATED: id 포함
+ * - DUPLICATE: 이미 저장된 활동(또는 앞 항목)과 같은 활동, 저장 안 하고 빈 값만 병합 → id는 그 활동 ID
+ * - INVALID: errors(필드 → 메시지) 포함, 저장 안 됨
+ */
+@Schema(description = "러닝 활동 일괄 저장 응답")
+@Getter
+@Builder
+public class ActivityBatchResponse {
+
+    @Schema(description = "요청 항목 수")
+    private int requested;
+    @Schema(description = "저장된 항목 수")
+    private int created;
+    @Schema(description = "중복이라 기존 활동에 병합된 항목 수")
+    private int duplicates;
+    @Schema(description = "검증 실패로 저장되지 않은 항목 수")
+    private int failed;
+    @Schema(description = "항목별 결과 (요청 순서)")
+    private List<ItemResult> results;
+
+    public enum ItemStatus {
+        CREATED, DUPLICATE, INVALID
+    }
+
+    @Schema(description = "항목별 결과")
+    @Getter
+    @Builder
+    public static class ItemResult {
+        @Schema(description = "요청 내 위치 (0부터)")
+        private int index;
+        @Schema(description = "결과")
+        private ItemStatus status;
+        @Schema(description = "저장된 활동 ID (CREATED) / 병합된 기존 활동 ID (DUPLICATE)")
+        private Long id;
+        @Schema(description = "검증 오류 (INVALID): 필드 → 메시지")
+        private Map<String, String> errors;
+    }
+}
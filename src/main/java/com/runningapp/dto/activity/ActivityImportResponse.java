@@ -0,0 +1,48 @@
+package com.runningapp.dto.activity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GPX/TCX 가져오기 응답 DTO
+ *
+ * files: 업로드 순서대로 파일별 결과
+ * - 파싱 도중 오류가 나면 error 포함, 그 전까지 저장된 배치는 유지 (imported에 반영)
+ * - skipped: 시간/거리가 없어 저장할 수 없는 트랙, 자전거 기록
+ * - duplicates: 이미 저장된 활동과 같은 트랙 (저장 안 하고 빈 값만 기존 활동에 병합)
+ */
+@Schema(description = "GPX/TCX 가져오기 응답")
+@Getter
+@Builder
+public class ActivityImportResponse {
+
+    @Schema(description = "저장된 활동 수 (전체 파일)")
+    private int imported;
+    @Schema(description = "중복이라 기존 활동에 병합된 트랙 수 (전체 파일)")
+    private int duplicates;
+    @Schema(description = "건너뛴 트랙 수 (전체 파일)")
+    private int skipped;
+    @Schema(description = "파일별 결과 (업로드 순서)")
+    private List<FileResult> files;
+
+    @Schema(description = "파일별 결과")
+    @Getter
+    @Builder
+    public static class FileResult {
+        @Schema(description = "파일명")
+        private String filename;
+        @Schema(description = "파일 형식 (GPX, TCX), 알 수 없으면 null")
+        private String format;
+        @Schema(description = "저장된 활동 수")
+        private int imported;
+        @Schema(description = "중복이라 기존 활동에 병합된 트랙 수")
+        private int duplicates;
+        @Schema(description = "건너뛴 트랙 수")
+        private int skipped;
+        @Schema(description = "오류 메시지 (정상 처리 시 null)")
+        private String error;
+    }
+}
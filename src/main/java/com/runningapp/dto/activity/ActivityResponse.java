@@ -2,8 +2,10 @@ package com.runningapp.dto.activity;
 
 import com.runningapp.domain.RunningActivity;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +16,13 @@ import java.util.Map;
  *
  * from(): Entity → DTO 변환 (정적 팩토리 메서드)
  * Entity를 직접 반환하지 않고 DTO로 감싸서 응답 (순환참조, 불필요 필드 노출 방지)
+ * 기본 생성자: Idempotency-Key 재시도 시 저장해 둔 응답(JSON)을 다시 읽기 위해 필요
  */
 @Schema(description = "러닝 활동 응답")
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ActivityResponse {
 
     @Schema(description = "활동 ID")
@@ -0,0 +1,61 @@
+package com.runningapp.dto.activity;
+
+import com.runningapp.service.importer.HealthImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Apple Health 가져오기 작업 상태 응답 DTO
+ *
+ * workouts = imported + duplicates + skipped + failed (완료 시)
+ */
+@Schema(description = "가져오기 작업 상태")
+@Getter
+@Builder
+public class ImportJobResponse {
+
+    @Schema(description = "작업 ID")
+    private String jobId;
+    @Schema(description = "상태 (QUEUED, RUNNING, COMPLETED, FAILED)")
+    private HealthImportJob.Status status;
+    @Schema(description = "진행률 (0~100, export.xml 읽은 비율)")
+    private double progress;
+    @Schema(description = "발견한 러닝 Workout 수")
+    private int workouts;
+    @Schema(description = "저장된 활동 수")
+    private int imported;
+    @Schema(description = "이미 있는 같은 활동이라 새로 저장하지 않은 Workout 수 (기존 활동에 병합, 같은 파일 안에서 시작 시간이 겹친 Workout 포함)")
+    private int duplicates;
+    @Schema(description = "시간/거리가 없어 건너뛴 수")
+    private int skipped;
+    @Schema(description = "저장 중 오류로 실패한 수")
+    private int failed;
+    @Schema(description = "작업 실패 사유 (FAILED)")
+    private String error;
+    @Schema(description = "작업 생성 시각")
+    private LocalDateTime createdAt;
+    @Schema(description = "처리 시작 시각")
+    private LocalDateTime startedAt;
+    @Schema(description = "처리 종료 시각")
+    private LocalDateTime finishedAt;
+
+    public static ImportJobResponse from(HealthImportJob job) {
+        return ImportJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .progress(job.getProgress())
+                .workouts(job.getWorkouts())
+                .imported(job.getImported())
+                .duplicates(job.getDuplicates())
+                .skipped(job.getSkipped())
+                .failed(job.getFailed())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 /**
  * 인증 응답 DTO (로그인/회원가입 응답)
  *
- * JWT 토큰 + 사용자 정보를 함께 반환
+ * 액세스 토큰 + 리프레시 토큰 + 사용자 정보를 함께 반환
  * UserInfo: 중첩 클래스로 사용자 정보만 필요한 경우 재사용 (GET /me)
  */
 @Schema(description = "인증 응답 (JWT 토큰 + 사용자 정보)")
@@ -15,9 +15,15 @@ import lombok.Getter;
 @Builder
 public class AuthResponse {
 
-    @Schema(description = "JWT 액세스 토큰")
+    @Schema(description = "JWT 액세스 토큰 (수명 짧음, 만료 시 refreshToken으로 재발급)")
     private String accessToken;
 
+    @Schema(description = "리프레시 토큰 (POST /api/auth/refresh)")
+    private String refreshToken;
+
+    @Schema(description = "액세스 토큰 만료까지 남은 시간 (초)")
+    private Long expiresIn;
+
     @Schema(description = "토큰 타입 (Bearer)")
     private String tokenType;
 
@@ -0,0 +1,17 @@
+package com.runningapp.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 토큰 재발급/로그아웃 요청 DTO */
+@Schema(description = "리프레시 토큰 요청")
+@Getter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @Schema(description = "로그인/재발급 시 받은 리프레시 토큰", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "리프레시 토큰은 필수입니다")
+    private String refreshToken;
+}
@@ -0,0 +1,35 @@
+package com.runningapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 러닝 활동 일괄 생성 이벤트 (POST /api/activities/batch 등)
+ *
+ * 활동마다 ActivityCompletedEvent를 발행하면 건수 × 3(레벨/챌린지/플랜) 비동기 작업이 생기므로
+ * 한 번의 저장에 대해 이벤트 1개 → 리스너별 비동기 작업 1개로 묶어서 처리
+ */
+@Getter
+public class ActivitiesCreatedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final List<CreatedActivity> activities;
+
+    public ActivitiesCreatedEvent(Object source, Long userId, List<CreatedActivity> activities) {
+        super(source);
+        this.userId = userId;
+        this.activities = List.copyOf(activities);
+    }
+
+    /** 누적 거리 증가분 (레벨 업데이트용) */
+    public double getTotalDistance() {
+        return activities.stream().mapToDouble(CreatedActivity::distance).sum();
+    }
+
+    /** 생성된 활동 1건 (ActivityCompletedEvent와 같은 정보) */
+    public record CreatedActivity(Long activityId, double distance, LocalDateTime startedAt) {
+    }
+}
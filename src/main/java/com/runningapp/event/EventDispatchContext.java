@@ -0,0 +1,45 @@
+package com.runningapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 비동기 이벤트 처리 디스패치 정보 (이벤트 종류, 디스패치 시각)
+ *
+ * AFTER_COMMIT 리스너가 @Async 처리기를 호출할 때 감싸서 사용:
+ * <pre>
+ * EventDispatchContext.dispatch(event, () -> asyncEventProcessor.processLevelUpdate(...));
+ * </pre>
+ * → MdcTaskDecorator가 제출 시점에 읽어 작업 스레드 MDC(eventType)와
+ *   커밋 → 처리 시작 지연 메트릭(runningapp_event_handler_lag)에 사용
+ *
+ * 리스너는 커밋 직후 호출되므로 디스패치 시각 ≈ 커밋 시각
+ */
+@Getter
+public final class EventDispatchContext {
+
+    private static final ThreadLocal<EventDispatchContext> CURRENT = new ThreadLocal<>();
+
+    private final String eventType;
+    private final long dispatchedAtNanos;
+
+    private EventDispatchContext(String eventType, long dispatchedAtNanos) {
+        this.eventType = eventType;
+        this.dispatchedAtNanos = dispatchedAtNanos;
+    }
+
+    /** 이벤트 정보를 현재 스레드에 설정한 상태로 비동기 처리기 호출 */
+    public static void dispatch(ApplicationEvent event, Runnable submit) {
+        CURRENT.set(new EventDispatchContext(event.getClass().getSimpleName(), System.nanoTime()));
+        try {
+            submit.run();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /** 현재 스레드에서 디스패치 중인 이벤트 (없으면 null) */
+    public static EventDispatchContext current() {
+        return CURRENT.get();
+    }
+}
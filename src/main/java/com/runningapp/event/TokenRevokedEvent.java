@@ -0,0 +1,22 @@
+package com.runningapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 액세스 토큰 폐기 이벤트
+ *
+ * 로그아웃 등으로 토큰이 폐기되면 발행되어 다른 노드로 전파
+ */
+@Getter
+public class TokenRevokedEvent extends ApplicationEvent {
+
+    private final String jti;
+    private final long expiresAtMillis;
+
+    public TokenRevokedEvent(Object source, String jti, long expiresAtMillis) {
+        super(source);
+        this.jti = jti;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+}
@@ -6,6 +6,7 @@ import com.runningapp.domain.PlanWeek;
 import com.runningapp.domain.User;
 import com.runningapp.domain.UserChallenge;
 import com.runningapp.domain.UserPlan;
+import com.runningapp.event.ActivitiesCreatedEvent.CreatedActivity;
 import com.runningapp.repository.PlanWeekRepository;
 import com.runningapp.repository.RunningActivityRepository;
 import com.runningapp.repository.UserChallengeRepository;
@@ -68,8 +69,27 @@ public class AsyncEventProcessor {
         log.debug("챌린지 진행률 업데이트: userId={}, distance={}", userId, distance);
 
         List<UserChallenge> activeUserChallenges = userChallengeRepository.findActiveByUserId(userId);
+        applyChallengeProgress(userId, activeUserChallenges, distance, activityDate);
 
-        for (UserChallenge uc : activeUserChallenges) {
+        log.debug("챌린지 진행률 업데이트 완료: userId={}, updatedCount={}", userId, activeUserChallenges.size());
+    }
+
+    /** 일괄 생성: 참여 챌린지를 한 번만 조회하고 활동별로 반영 (UPDATE는 커밋 시 JDBC 배치) */
+    @Async("taskExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Retryable(maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public void processChallengeProgressBatch(Long userId, List<CreatedActivity> activities) {
+        log.debug("챌린지 진행률 일괄 업데이트: userId={}, activityCount={}", userId, activities.size());
+
+        List<UserChallenge> activeUserChallenges = userChallengeRepository.findActiveByUserId(userId);
+        for (CreatedActivity activity : activities) {
+            applyChallengeProgress(userId, activeUserChallenges, activity.distance(), activity.startedAt().toLocalDate());
+        }
+    }
+
+    private void applyChallengeProgress(Long userId, List<UserChallenge> userChallenges,
+                                        double distance, LocalDate activityDate) {
+        for (UserChallenge uc : userChallenges) {
             if (uc.isCompleted()) continue;
             if (!uc.getChallenge().isActive(activityDate)) continue;
 
@@ -85,8 +105,6 @@ public class AsyncEventProcessor {
                 log.info("챌린지 완료: userId={}, challengeId={}", userId, c.getId());
             }
         }
-
-        log.debug("챌린지 진행률 업데이트 완료: userId={}, updatedCount={}", userId, activeUserChallenges.size());
     }
 
     @Async("taskExecutor")
@@ -96,9 +114,30 @@ public class AsyncEventProcessor {
         log.debug("플랜 진행 업데이트: userId={}, distance={}", userId, distance);
 
         List<UserPlan> activePlans = userPlanRepository.findActiveByUserId(userId);
+        advancePlans(userId, activePlans, startedAt);
+    }
+
+    /** 일괄 생성: 진행 중인 플랜을 한 번만 조회하고 활동 시각 순으로 주차 진행 체크 */
+    @Async("taskExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Retryable(maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public void processPlanProgressBatch(Long userId, List<CreatedActivity> activities) {
+        log.debug("플랜 진행 일괄 업데이트: userId={}, activityCount={}", userId, activities.size());
+
+        List<UserPlan> activePlans = userPlanRepository.findActiveByUserId(userId);
+        // 주차가 진행되면 다음 활동은 다음 주차 기준으로 판단해야 하므로 시간순 처리
+        activities.stream()
+                .map(CreatedActivity::startedAt)
+                .sorted()
+                .forEach(startedAt -> advancePlans(userId, activePlans, startedAt));
+    }
+
+    private void advancePlans(Long userId, List<UserPlan> activePlans, LocalDateTime startedAt) {
         LocalDate activityDate = startedAt.toLocalDate();
 
         for (UserPlan userPlan : activePlans) {
+            if (!userPlan.isInProgress()) continue;
+
             LocalDateTime planStart = userPlan.getStartedAt();
             int weekNum = (int) ChronoUnit.WEEKS.between(planStart.toLocalDate(), activityDate) + 1;
 
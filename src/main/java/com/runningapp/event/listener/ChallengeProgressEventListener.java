@@ -1,6 +1,8 @@
 package com.runningapp.event.listener;
 
+import com.runningapp.event.ActivitiesCreatedEvent;
 import com.runningapp.event.ActivityCompletedEvent;
+import com.runningapp.event.EventDispatchContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,6 +13,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * 챌린지 진행률 이벤트 리스너
  *
  * 활동 생성 시 비동기로 참여 중인 챌린지 진행률 업데이트
+ * 일괄 생성은 참여 챌린지 조회 1번으로 모든 활동 반영
  */
 @Slf4j
 @Component
@@ -21,10 +24,16 @@ public class ChallengeProgressEventListener {
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleActivityCompleted(ActivityCompletedEvent event) {
-        asyncEventProcessor.processChallengeProgress(
+        EventDispatchContext.dispatch(event, () -> asyncEventProcessor.processChallengeProgress(
                 event.getUserId(),
                 event.getDistance(),
                 event.getStartedAt().toLocalDate()
-        );
+        ));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleActivitiesCreated(ActivitiesCreatedEvent event) {
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processChallengeProgressBatch(event.getUserId(), event.getActivities()));
     }
 }
@@ -1,6 +1,8 @@
 package com.runningapp.event.listener;
 
+import com.runningapp.event.ActivitiesCreatedEvent;
 import com.runningapp.event.ActivityCompletedEvent;
+import com.runningapp.event.EventDispatchContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,6 +13,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * 트레이닝 플랜 이벤트 리스너
  *
  * 활동 생성 시 비동기로 진행 중인 플랜 주차 진행 체크
+ * 일괄 생성은 진행 중인 플랜 조회 1번으로 모든 활동 반영
  */
 @Slf4j
 @Component
@@ -21,10 +24,16 @@ public class TrainingPlanEventListener {
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleActivityCompleted(ActivityCompletedEvent event) {
-        asyncEventProcessor.processPlanProgress(
+        EventDispatchContext.dispatch(event, () -> asyncEventProcessor.processPlanProgress(
                 event.getUserId(),
                 event.getDistance(),
                 event.getStartedAt()
-        );
+        ));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleActivitiesCreated(ActivitiesCreatedEvent event) {
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processPlanProgressBatch(event.getUserId(), event.getActivities()));
     }
 }
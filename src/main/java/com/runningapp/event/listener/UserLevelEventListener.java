@@ -1,8 +1,10 @@
 package com.runningapp.event.listener;
 
+import com.runningapp.event.ActivitiesCreatedEvent;
 import com.runningapp.event.ActivityCompletedEvent;
 import com.runningapp.event.ActivityDeletedEvent;
 import com.runningapp.event.ActivityUpdatedEvent;
+import com.runningapp.event.EventDispatchContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * 사용자 레벨 이벤트 리스너
  *
  * 활동 생성/수정/삭제 시 비동기로 누적 거리 및 레벨 업데이트
+ * 일괄 생성은 거리 합계로 한 번만 업데이트
  */
 @Slf4j
 @Component
@@ -23,17 +26,27 @@ public class UserLevelEventListener {
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleActivityCompleted(ActivityCompletedEvent event) {
-        asyncEventProcessor.processLevelUpdate(event.getUserId(), event.getDistance(), "생성");
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processLevelUpdate(event.getUserId(), event.getDistance(), "생성"));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleActivitiesCreated(ActivitiesCreatedEvent event) {
+        double totalDistance = event.getTotalDistance();
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processLevelUpdate(event.getUserId(), totalDistance, "일괄 생성"));
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleActivityUpdated(ActivityUpdatedEvent event) {
         double diff = event.getNewDistance() - event.getOldDistance();
-        asyncEventProcessor.processLevelUpdate(event.getUserId(), diff, "수정");
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processLevelUpdate(event.getUserId(), diff, "수정"));
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleActivityDeleted(ActivityDeletedEvent event) {
-        asyncEventProcessor.processLevelUpdate(event.getUserId(), -event.getDistance(), "삭제");
+        EventDispatchContext.dispatch(event,
+                () -> asyncEventProcessor.processLevelUpdate(event.getUserId(), -event.getDistance(), "삭제"));
     }
 }
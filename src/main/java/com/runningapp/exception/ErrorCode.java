@@ -24,10 +24,15 @@ public enum ErrorCode {
     AUTH_003("AUTH_003", "사용자를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     AUTH_004("AUTH_004", "인증이 필요합니다", HttpStatus.UNAUTHORIZED),
     AUTH_005("AUTH_005", "접근 권한이 없습니다", HttpStatus.FORBIDDEN),
+    AUTH_006("AUTH_006", "유효하지 않은 리프레시 토큰입니다", HttpStatus.UNAUTHORIZED),
 
     // ACTIVITY (러닝 활동)
     ACTIVITY_001("ACTIVITY_001", "활동을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     ACTIVITY_002("ACTIVITY_002", "본인의 활동만 조회/수정/삭제할 수 있습니다", HttpStatus.FORBIDDEN),
+    ACTIVITY_003("ACTIVITY_003", "한 번에 저장할 수 있는 활동 수를 초과했습니다", HttpStatus.BAD_REQUEST),
+    ACTIVITY_004("ACTIVITY_004", "가져올 파일이 없습니다", HttpStatus.BAD_REQUEST),
+    ACTIVITY_005("ACTIVITY_005", "업로드 파일 크기 제한을 초과했습니다", HttpStatus.PAYLOAD_TOO_LARGE),
+    ACTIVITY_006("ACTIVITY_006", "이미 저장된 활동과 중복됩니다", HttpStatus.CONFLICT),
 
     // CHALLENGE (챌린지)
     CHALLENGE_001("CHALLENGE_001", "챌린지를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -42,6 +47,9 @@ public enum ErrorCode {
     // COMMON (공통)
     COMMON_001("COMMON_001", "입력값 검증 실패", HttpStatus.BAD_REQUEST),
     COMMON_002("COMMON_002", "서버 내부 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    COMMON_003("COMMON_003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
+    COMMON_004("COMMON_004", "같은 Idempotency-Key 요청을 처리 중입니다. 잠시 후 다시 시도해주세요", HttpStatus.CONFLICT),
+    COMMON_005("COMMON_005", "Idempotency-Key가 다른 요청 본문에 이미 사용되었습니다", HttpStatus.UNPROCESSABLE_ENTITY),
 
     // RATE_LIMIT (요청 제한)
     RATE_LIMIT_001("RATE_LIMIT_001", "요청 한도를 초과했습니다", HttpStatus.TOO_MANY_REQUESTS);
@@ -3,12 +3,14 @@ package com.runningapp.exception;
 import com.runningapp.util.LogUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -86,6 +88,26 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.RATE_LIMIT_001, e.getMessage()));
     }
 
+    /** 413 Payload Too Large - spring.servlet.multipart 크기 제한 초과 (GPX/TCX 가져오기) */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        LogUtils.warn(log, "업로드 크기 초과", "maxUploadSize", e.getMaxUploadSize());
+
+        return ResponseEntity
+                .status(ErrorCode.ACTIVITY_005.getHttpStatus())
+                .body(ErrorResponse.of(ErrorCode.ACTIVITY_005));
+    }
+
+    /** 503 Service Unavailable - 전용 스레드 풀 대기열 초과 (활동 내보내기 등) */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejected(TaskRejectedException e) {
+        LogUtils.warn(log, "작업 대기열 초과", "errorMessage", e.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.COMMON_003.getHttpStatus())
+                .body(ErrorResponse.of(ErrorCode.COMMON_003));
+    }
+
     /** 500 Internal Server Error - 기타 모든 예외 */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
@@ -1,8 +1,11 @@
 package com.runningapp.repository;
 
 import com.runningapp.domain.Challenge;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
@@ -13,7 +16,11 @@ import java.util.List;
  */
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
 
-    /** 진행중인 챌린지 (start_date <= today <= end_date) */
+    /** 진행중인 챌린지 (start_date <= today <= end_date) - 쿼리 캐시(region: activeChallengesQuery) */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "activeChallengesQuery")
+    })
     @Query("SELECT c FROM Challenge c WHERE c.startDate <= :date AND c.endDate >= :date ORDER BY c.startDate DESC")
     List<Challenge> findActiveByDate(@Param("date") LocalDate date);
 
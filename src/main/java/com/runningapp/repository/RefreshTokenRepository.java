@@ -0,0 +1,33 @@
+package com.runningapp.repository;
+
+import com.runningapp.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * RefreshToken 레포지토리
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /** 사용 가능한 토큰만 폐기 (동시 재발급 시 1건만 성공, 0이면 이미 사용/폐기된 토큰) */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.tokenHash = :tokenHash AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    /** 사용자의 사용 가능한 리프레시 토큰 전체 폐기 (재사용 탐지 시) */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.userId = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /** 만료된 토큰 + revokedBefore 이전에 폐기된 토큰 삭제 */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now OR r.revokedAt < :revokedBefore")
+    int deleteStale(@Param("now") LocalDateTime now, @Param("revokedBefore") LocalDateTime revokedBefore);
+}
@@ -1,13 +1,19 @@
 package com.runningapp.repository;
 
 import com.runningapp.domain.RunningActivity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,6 +42,73 @@ public interface RunningActivityRepository extends JpaRepository<RunningActivity
 
     List<RunningActivity> findByUserIdAndStartedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * 내보내기 첫 페이지 (오래된 순)
+     *
+     * 내보내기는 클라이언트 속도에 따라 수 분 걸림 → 스트림 하나로 읽으면 그동안 커넥션을 계속 점유
+     * → keyset 페이지(startedAt, id)마다 짧은 읽기 전용 트랜잭션, 응답 쓰는 동안은 커넥션 반납
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM RunningActivity a WHERE a.user.id = :userId ORDER BY a.startedAt ASC, a.id ASC")
+    List<RunningActivity> findExportPage(@Param("userId") Long userId, Limit limit);
+
+    /** 내보내기 다음 페이지: 직전 페이지의 마지막 (startedAt, id) 다음부터 (OFFSET 없이 인덱스 범위 조회) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM RunningActivity a WHERE a.user.id = :userId " +
+           "AND (a.startedAt > :afterStartedAt OR (a.startedAt = :afterStartedAt AND a.id > :afterId)) " +
+           "ORDER BY a.startedAt ASC, a.id ASC")
+    List<RunningActivity> findExportPageAfter(@Param("userId") Long userId,
+                                              @Param("afterStartedAt") LocalDateTime afterStartedAt,
+                                              @Param("afterId") Long afterId,
+                                              Limit limit);
+
+    /**
+     * 중복 판정 후보 - 지문 인덱스(user_id, start_bucket, distance_bucket, duration_bucket)만 조회
+     * 시작 버킷 IN 목록 + 거리/시간 버킷 범위 (일괄 저장이면 전체 항목의 최소~최대, 세부 판정은 ActivityFingerprint.matches)
+     */
+    @Query("SELECT a FROM RunningActivity a WHERE a.user.id = :userId AND a.startBucket IN :startBuckets " +
+           "AND a.distanceBucket BETWEEN :minDistanceBucket AND :maxDistanceBucket " +
+           "AND a.durationBucket BETWEEN :minDurationBucket AND :maxDurationBucket")
+    List<RunningActivity> findFingerprintCandidates(@Param("userId") Long userId,
+                                                    @Param("startBuckets") Collection<Integer> startBuckets,
+                                                    @Param("minDistanceBucket") int minDistanceBucket,
+                                                    @Param("maxDistanceBucket") int maxDistanceBucket,
+                                                    @Param("minDurationBucket") int minDurationBucket,
+                                                    @Param("maxDurationBucket") int maxDurationBucket);
+
+    /** 중복 판정 후보 - 같은 경로 해시 (user_id, route_hash 인덱스) */
+    @Query("SELECT a FROM RunningActivity a WHERE a.user.id = :userId AND a.routeHash IN :routeHashes")
+    List<RunningActivity> findByUserIdAndRouteHashIn(@Param("userId") Long userId,
+                                                     @Param("routeHashes") Collection<Long> routeHashes);
+
+    /**
+     * 지문이 없는 기존 활동 (지문 컬럼 추가 전에 저장된 행) - 백필용
+     * 채운 행은 다시 조회되지 않으므로 매번 앞에서부터 limit개
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM RunningActivity a WHERE a.startBucket IS NULL ORDER BY a.id ASC")
+    List<RunningActivity> findWithoutFingerprint(Limit limit);
+
+    /** 지문 컬럼만 갱신 (엔티티 UPDATE는 route JSON까지 다시 씀) */
+    @Modifying
+    @Query("UPDATE RunningActivity a SET a.startBucket = :startBucket, a.distanceBucket = :distanceBucket, " +
+           "a.durationBucket = :durationBucket, a.routeHash = :routeHash WHERE a.id = :id")
+    int updateFingerprint(@Param("id") Long id,
+                          @Param("startBucket") int startBucket,
+                          @Param("distanceBucket") int distanceBucket,
+                          @Param("durationBucket") int durationBucket,
+                          @Param("routeHash") Long routeHash);
+
+    /**
+     * 지문이 없는 기존 활동의 시작 시간 (기간 내) - Apple Health 가져오기 중복 판정 폴백
+     * 백필이 끝나기 전에는 지문 판정에 안 걸리므로 예전처럼 시작 시간으로 판정 (엔티티/route 로딩 없음)
+     */
+    @Query("SELECT a.startedAt FROM RunningActivity a WHERE a.user.id = :userId AND a.startBucket IS NULL " +
+           "AND a.startedAt BETWEEN :start AND :end")
+    List<LocalDateTime> findLegacyStartedAtByUserIdAndStartedAtBetween(@Param("userId") Long userId,
+                                                                       @Param("start") LocalDateTime start,
+                                                                       @Param("end") LocalDateTime end);
+
     /** 전체 활동 수 (기간별) - 통계 집계용 */
     @Query("SELECT COUNT(a) FROM RunningActivity a WHERE a.startedAt >= :start AND a.startedAt < :end")
     Long countByStartedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -2,8 +2,10 @@ package com.runningapp.repository;
 
 import com.runningapp.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User 레포지토리 (Spring Data JPA)
@@ -19,4 +21,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /** 가입 이메일 Bloom filter 로딩용 (이메일 컬럼만 스트리밍, 트랜잭션 안에서 사용) */
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
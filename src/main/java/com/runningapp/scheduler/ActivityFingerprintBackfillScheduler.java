@@ -0,0 +1,78 @@
+package com.runningapp.scheduler;
+
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 중복 판정 지문 백필 스케줄러
+ *
+ * 지문 컬럼(start_bucket 등)은 ddl-auto로 추가됨 → 그 전에 저장된 활동은 NULL이라 ActivityDeduplicator 판정에 안 걸림
+ * → 기동 1분 후부터 NULL인 행을 batch-size개씩 짧은 트랜잭션으로 채움 (지문 컬럼만 UPDATE)
+ * → 다 채우면 이후 실행은 바로 종료 (새 활동은 @PrePersist/합성 데이터 로더가 채움)
+ *
+ * 실패하면 다음 주기(1시간)에 남은 행부터 다시 시도, 여러 인스턴스가 동시에 돌아도 같은 값을 쓰므로 무해
+ */
+@Slf4j
+@Component
+public class ActivityFingerprintBackfillScheduler {
+
+    private final RunningActivityRepository activityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private volatile boolean completed;
+
+    public ActivityFingerprintBackfillScheduler(RunningActivityRepository activityRepository,
+                                                PlatformTransactionManager transactionManager,
+                                                @Value("${app.activity.fingerprint-backfill.batch-size:500}") int batchSize) {
+        this.activityRepository = activityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)  // 기동 1분 후, 이후 1시간마다 (완료 전까지)
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+        long total = 0;
+        try {
+            int updated;
+            do {
+                updated = transactionTemplate.execute(status -> backfillBatch());
+                total += updated;
+            } while (updated == batchSize);
+        } catch (RuntimeException e) {
+            LogUtils.atWarn(log)
+                    .field("updated", total)
+                    .field("error", e.getMessage())
+                    .log("활동 지문 백필 실패, 다음 주기에 재시도");
+            return;
+        }
+        completed = true;
+        if (total > 0) {
+            LogUtils.info(log, "활동 지문 백필 완료", "updated", total);
+        }
+    }
+
+    private int backfillBatch() {
+        List<RunningActivity> batch = activityRepository.findWithoutFingerprint(Limit.of(batchSize));
+        for (RunningActivity activity : batch) {
+            ActivityFingerprint fingerprint = activity.fingerprint();
+            activityRepository.updateFingerprint(activity.getId(), fingerprint.startBucket(),
+                    fingerprint.distanceBucket(), fingerprint.durationBucket(), fingerprint.routeHash());
+        }
+        return batch.size();
+    }
+}
@@ -1,11 +1,15 @@
 package com.runningapp.security;
 
+import com.runningapp.config.LoggingFilter;
 import com.runningapp.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,8 +25,10 @@ import java.util.Collections;
  * JWT 인증 필터
  *
  * OncePerRequestFilter: 요청당 한 번만 실행
- * 흐름: Authorization 헤더에서 JWT 추출 → 검증 → SecurityContext에 인증 정보 설정
+ * 흐름: Authorization 헤더에서 JWT 추출 → 검증(1회 파싱) → 폐기 여부 확인 → SecurityContext에 인증 정보 설정
+ * 폐기 여부는 인메모리 TokenRevocationList로만 확인 (DB/Redis 조회 없음)
  * principal에 userId(Long) 저장 → UserIdArgumentResolver가 컨트롤러에 주입
+ * 인증되면 MDC userId 설정 (체인을 나오면 제거) → 요청 스레드와 @Async 작업(MdcTaskDecorator) 로그에 포함
  */
 @Component
 @RequiredArgsConstructor
@@ -32,27 +38,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Long authenticatedUserId = null;
         try {
             String jwt = extractJwt(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                Long userId = jwtUtil.getUserIdFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // 파싱 + 서명 검증 한 번으로 Claims 획득 (최근 검증된 토큰은 캐시 히트)
+                Claims claims = jwtUtil.parseAndVerify(jwt);
+                if (tokenRevocationList.isRevoked(claims.getId())) {
+                    // 로그아웃 등으로 폐기된 토큰 → 인증되지 않은 상태로 진행
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                Long userId = Long.parseLong(claims.getSubject());
                 // principal에 userId 저장 (Spring 기본 UserDetails 대신 사용)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticatedUserId = userId;
             }
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             // JWT 파싱 실패 시 인증되지 않은 상태로 진행 (401/403은 Security가 처리)
         }
 
-        filterChain.doFilter(request, response);
+        if (authenticatedUserId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(LoggingFilter.USER_ID, authenticatedUserId.toString());
+        request.setAttribute(LoggingFilter.USER_ID, authenticatedUserId);  // LoggingFilter 완료 로그용
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(LoggingFilter.USER_ID);
+        }
     }
 
     /** Authorization: Bearer {token} 형태에서 token 추출 */
@@ -0,0 +1,45 @@
+package com.runningapp.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * 운영용 actuator 엔드포인트 접근 제어 (X-Ops-Token 헤더)
+ *
+ * 프로파일/SQL 등 내부 정보가 담긴 엔드포인트(/actuator/jfr, /actuator/slowqueries)는 공개 actuator와 분리:
+ * - app.security.ops-token(OPS_TOKEN)과 헤더 값이 일치할 때만 허용 (상수 시간 비교)
+ * - 토큰이 설정되지 않으면 항상 거부 → 기본값은 비활성화
+ */
+@Component
+public class OpsTokenAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String HEADER = "X-Ops-Token";
+
+    private final byte[] token;
+
+    public OpsTokenAuthorizationManager(@Value("${app.security.ops-token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(matches(context.getRequest()));
+    }
+
+    private boolean matches(HttpServletRequest request) {
+        String provided = request.getHeader(HEADER);
+        if (token.length == 0 || provided == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.runningapp.security;
+
+import com.runningapp.config.BusinessMetrics;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.util.LogUtils;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해싱 (전용 스레드 풀에서 BCrypt 실행)
+ *
+ * - encode/matches: passwordHashingExecutor에 제출 후 결과 대기
+ *   → 요청 스레드는 CPU를 쓰지 않고 대기만 함, 동시 해싱 수는 코어 수로 제한
+ * - 풀 대기열 초과 또는 timeout 초과 시 COMMON_003 (503) 즉시 반환
+ * - needsRehash: 저장된 해시의 cost가 현재 설정(app.security.bcrypt-strength)과 다르면 true
+ *   → 로그인 성공 시 새 cost로 재해싱
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // $2a$10$... 형식에서 cost(10) 추출
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final BusinessMetrics metrics;
+    private final int strength;
+    private final long timeoutMs;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+                          BusinessMetrics metrics,
+                          @Value("${app.security.bcrypt-strength:10}") int strength,
+                          @Value("${app.security.password-hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.strength = strength;
+        this.timeoutMs = timeout.toMillis();
+    }
+
+    /** 평문 비밀번호 해싱 */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), metrics.passwordEncodeTimer());
+    }
+
+    /** 평문 비밀번호와 저장된 해시 비교 */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), metrics.passwordMatchTimer());
+    }
+
+    /** 저장된 해시의 cost가 현재 설정과 다르면 재해싱 필요 (문자열 파싱만 하므로 요청 스레드에서 실행) */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (TaskRejectedException e) {
+            metrics.incrementPasswordHashRejected();
+            LogUtils.warn(log, "비밀번호 해싱 거절 - 풀 포화", "queueSize", executor.getQueueSize());
+            throw new BusinessException(ErrorCode.COMMON_003);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            metrics.incrementPasswordHashRejected();
+            LogUtils.warn(log, "비밀번호 해싱 시간 초과", "timeoutMs", timeoutMs);
+            throw new BusinessException(ErrorCode.COMMON_003);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.COMMON_003);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.runningapp.security;
+
+import com.runningapp.event.TokenRevokedEvent;
+import com.runningapp.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰 목록 (jti 기준, 인메모리)
+ *
+ * JwtAuthenticationFilter가 매 요청 확인하므로 DB/Redis 조회 없이 판단:
+ * 1. Bloom filter(2^20 bit = 128KB)에서 jti 비트 확인 → 대부분의 요청은 여기서 "폐기 안 됨"으로 끝남
+ *    (String 할당 없이 문자 단위 해싱 + 비트 배열 읽기만 수행)
+ * 2. Bloom filter가 양성이면 jti → 만료 시각 Map에서 정확히 확인 (오탐으로 정상 토큰이 거절되지 않음)
+ *
+ * 액세스 토큰 수명이 짧으므로(15분) 만료된 jti는 주기적으로 제거하고 Bloom filter를 다시 생성
+ *
+ * 노드 간 동기화:
+ * - revoke(): 로컬 반영 후 TokenRevokedEvent 발행 → RedisTokenRevocationSync가 Redis에 저장/전파
+ * - addRemote(): 다른 노드에서 전파된 폐기를 로컬에만 반영 (이벤트 재발행 없음)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final int BLOOM_BITS = 1 << 20;
+    private static final int HASH_COUNT = 4;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // jti → 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom = new BloomFilter(BLOOM_BITS, HASH_COUNT);
+
+    public TokenRevocationList(ApplicationEventPublisher eventPublisher, MeterRegistry registry) {
+        this.eventPublisher = eventPublisher;
+        Gauge.builder("runningapp_revoked_tokens", revoked, Map::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(registry);
+    }
+
+    /** 액세스 토큰 폐기 (로컬 반영 + 다른 노드로 전파) */
+    public void revoke(String jti, long expiresAtMillis) {
+        addRemote(jti, expiresAtMillis);
+        eventPublisher.publishEvent(new TokenRevokedEvent(this, jti, expiresAtMillis));
+    }
+
+    /** 다른 노드/Redis에서 받은 폐기 정보 반영 */
+    public synchronized void addRemote(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;  // 이미 만료된 토큰은 JWT 검증에서 거절됨
+        }
+        revoked.put(jti, expiresAtMillis);
+        bloom.put(jti);
+    }
+
+    /** 폐기 여부 확인 (요청 경로: 할당 없음, 락 없음) */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        return bloom.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /** 만료된 jti 제거 후 Bloom filter 재생성 (삭제 불가능한 구조이므로 통째로 교체) */
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(BLOOM_BITS, HASH_COUNT);
+        revoked.keySet().forEach(rebuilt::put);
+        bloom = rebuilt;
+    }
+}
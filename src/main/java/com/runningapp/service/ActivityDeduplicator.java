@@ -0,0 +1,108 @@
+package com.runningapp.service;
+
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.repository.RunningActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 중복 활동 판정 (단건 저장, 일괄 저장, 파일/Apple Health 가져오기 공용)
+ *
+ * HealthKit 동기화 + 수동 입력처럼 같은 러닝이 두 번 들어오면 누적 거리/통계/챌린지가 모두 부풀려짐
+ * → 저장 전에 들어온 활동들의 지문(ActivityFingerprint)으로 겹칠 수 있는 기존 활동만 조회
+ *   - 지문 인덱스: 시작 버킷 IN (각 항목 ±1) + 거리/시간 버킷 범위 → 쿼리 1번
+ *   - 경로 해시 인덱스: 경로 해시 IN → 쿼리 1번 (경로 있는 항목이 있을 때만)
+ *   → 사용자 기록이 몇 건이든 요청 1번에 인덱스 조회 최대 2번, 전체 기록을 읽지 않음
+ * → 같은 요청 안의 항목끼리도 add()로 등록해 판정
+ *
+ * 동시에 들어온 서로 다른 요청 간 중복은 판정하지 않음 (근사 비교라 유니크 제약으로 막을 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityDeduplicator {
+
+    private final RunningActivityRepository activityRepository;
+
+    /** 들어온 활동과 겹칠 수 있는 기존 활동만 조회해 판정 인덱스 생성 */
+    public Candidates load(Long userId, List<ActivityFingerprint> incoming) {
+        Candidates candidates = new Candidates();
+        if (incoming.isEmpty()) {
+            return candidates;
+        }
+        Set<Integer> startBuckets = new HashSet<>();
+        Set<Long> routeHashes = new HashSet<>();
+        int minDistance = Integer.MAX_VALUE;
+        int maxDistance = Integer.MIN_VALUE;
+        int minDuration = Integer.MAX_VALUE;
+        int maxDuration = Integer.MIN_VALUE;
+        for (ActivityFingerprint fingerprint : incoming) {
+            startBuckets.addAll(fingerprint.neighborStartBuckets());
+            minDistance = Math.min(minDistance, fingerprint.distanceBucket() - 1);
+            maxDistance = Math.max(maxDistance, fingerprint.distanceBucket() + 1);
+            minDuration = Math.min(minDuration, fingerprint.durationBucket() - 1);
+            maxDuration = Math.max(maxDuration, fingerprint.durationBucket() + 1);
+            if (fingerprint.routeHash() != null) {
+                routeHashes.add(fingerprint.routeHash());
+            }
+        }
+
+        activityRepository.findFingerprintCandidates(userId, startBuckets, minDistance, maxDistance, minDuration, maxDuration)
+                .forEach(candidates::add);
+        if (!routeHashes.isEmpty()) {
+            activityRepository.findByUserIdAndRouteHashIn(userId, routeHashes).forEach(candidates::add);
+        }
+        return candidates;
+    }
+
+    /** 판정 대상 활동 (기존 활동 + 같은 요청에서 먼저 받아들인 활동) */
+    public static class Candidates {
+
+        private final Map<Integer, List<Entry>> byStartBucket = new HashMap<>();
+        private final Map<Long, RunningActivity> byRouteHash = new HashMap<>();
+        private final Set<RunningActivity> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private record Entry(ActivityFingerprint fingerprint, RunningActivity activity) {
+        }
+
+        /** 같은 활동으로 판정된 기존/먼저 받아들인 활동 (없으면 null) */
+        public RunningActivity find(ActivityFingerprint fingerprint) {
+            if (fingerprint.routeHash() != null) {
+                RunningActivity sameRoute = byRouteHash.get(fingerprint.routeHash());
+                if (sameRoute != null) {
+                    return sameRoute;
+                }
+            }
+            for (int bucket : fingerprint.neighborStartBuckets()) {
+                for (Entry entry : byStartBucket.getOrDefault(bucket, List.of())) {
+                    if (entry.fingerprint().matches(fingerprint)) {
+                        return entry.activity();
+                    }
+                }
+            }
+            return null;
+        }
+
+        /** 판정 대상에 추가 (같은 요청의 뒤 항목이 이 활동과 겹치면 중복) */
+        public void add(RunningActivity activity) {
+            if (!registered.add(activity)) {
+                return;  // 지문/경로 해시 쿼리 양쪽에서 조회된 활동
+            }
+            ActivityFingerprint fingerprint = activity.fingerprint();
+            byStartBucket.computeIfAbsent(fingerprint.startBucket(), bucket -> new ArrayList<>())
+                    .add(new Entry(fingerprint, activity));
+            if (fingerprint.routeHash() != null) {
+                byRouteHash.putIfAbsent(fingerprint.routeHash(), activity);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.runningapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.service.exporter.ActivityExportWriter;
+import com.runningapp.service.exporter.CsvExportWriter;
+import com.runningapp.service.exporter.ExportFormat;
+import com.runningapp.service.exporter.GpxZipExportWriter;
+import com.runningapp.service.exporter.NdjsonExportWriter;
+import com.runningapp.util.LogUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 러닝 활동 전체 내보내기
+ *
+ * findByUserIdOrderByStartedAtDesc(..., Pageable.unpaged())는 전체를 List로 올림 → 활동 1만 건 + 경로면 수백 MB
+ * → PAGE_SIZE건씩 keyset 페이지로 읽어 바로 응답에 쓰고,
+ *    페이지마다 영속성 컨텍스트를 비워 읽은 엔티티가 쌓이지 않게 함 (메모리 일정)
+ *
+ * 트랜잭션 없음: 페이지 조회마다 짧은 읽기 전용 트랜잭션 → 느린 클라이언트에 쓰는 동안 DB 커넥션을 잡지 않음
+ *   (하나의 스트림/트랜잭션이면 동시 내보내기 수만큼 커넥션 풀을 내보내기 종료까지 점유)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityExportService {
+
+    static final int PAGE_SIZE = 500;
+
+    private final RunningActivityRepository activityRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public int export(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        ActivityExportWriter writer = createWriter(format, out);
+        int count = 0;
+        List<RunningActivity> page = activityRepository.findExportPage(userId, Limit.of(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            for (RunningActivity activity : page) {
+                writer.write(activity);
+            }
+            count += page.size();
+            entityManager.clear();  // OSIV로 요청에 묶인 영속성 컨텍스트가 있으면 페이지 엔티티 해제
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            RunningActivity last = page.get(page.size() - 1);
+            page = activityRepository.findExportPageAfter(userId, last.getStartedAt(), last.getId(), Limit.of(PAGE_SIZE));
+        }
+        writer.finish();
+
+        LogUtils.atInfo(log)
+                .field("userId", userId)
+                .field("format", format.name())
+                .field("count", count)
+                .field("durationMs", (System.nanoTime() - start) / 1_000_000)
+                .log("활동 내보내기 완료");
+        return count;
+    }
+
+    private ActivityExportWriter createWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(objectMapper, out);
+            case CSV -> new CsvExportWriter(out);
+            case GPX_ZIP -> new GpxZipExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.runningapp.service;
+
+import com.runningapp.dto.activity.ActivityImportResponse;
+import com.runningapp.dto.activity.ActivityImportResponse.FileResult;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.exception.NotFoundException;
+import com.runningapp.repository.UserRepository;
+import com.runningapp.service.importer.ImportedActivity;
+import com.runningapp.service.importer.TrackFileParser;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPX/TCX 파일 가져오기 (다른 앱에서 수년치 기록 이전)
+ *
+ * 메모리 상한이 파일 크기와 무관하도록:
+ * - 업로드는 임시 파일 (spring.servlet.multipart.file-size-threshold: 0), InputStream으로 읽음
+ * - TrackFileParser(StAX)가 트랙 1개씩 집계 → 경로는 route-max-points로 다운샘플링
+ * - batch-size건이 모일 때마다 ActivityIngestService.saveImported (배치마다 트랜잭션 → 영속성 컨텍스트 비움)
+ *
+ * 트랜잭션은 배치 단위 → 파일 중간에서 XML이 깨져도 앞에서 저장된 배치는 유지하고 파일별 결과에 오류 기록
+ */
+@Slf4j
+@Service
+public class ActivityImportService {
+
+    private final ActivityIngestService ingestService;
+    private final UserRepository userRepository;
+    private final TrackFileParser parser;
+    private final int batchSize;
+
+    public ActivityImportService(ActivityIngestService ingestService,
+                                 UserRepository userRepository,
+                                 @Value("${app.activity.import.batch-size:20}") int batchSize,
+                                 @Value("${app.activity.import.route-max-points:3600}") int routeMaxPoints) {
+        this.ingestService = ingestService;
+        this.userRepository = userRepository;
+        this.parser = new TrackFileParser(routeMaxPoints);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public ActivityImportResponse importFiles(Long userId, List<MultipartFile> files) {
+        if (files == null || files.stream().allMatch(MultipartFile::isEmpty)) {
+            throw new BusinessException(ErrorCode.ACTIVITY_004);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다");
+        }
+
+        List<FileResult> results = new ArrayList<>(files.size());
+        int imported = 0;
+        int duplicates = 0;
+        int skipped = 0;
+        for (MultipartFile file : files) {
+            if (file.isEmpty()) {
+                continue;
+            }
+            FileResult result = importFile(userId, file);
+            results.add(result);
+            imported += result.getImported();
+            duplicates += result.getDuplicates();
+            skipped += result.getSkipped();
+        }
+
+        LogUtils.atInfo(log)
+                .field("userId", userId)
+                .field("files", files.size())
+                .field("imported", imported)
+                .field("duplicates", duplicates)
+                .field("skipped", skipped)
+                .log("활동 파일 가져오기 완료");
+
+        return ActivityImportResponse.builder()
+                .imported(imported)
+                .duplicates(duplicates)
+                .skipped(skipped)
+                .files(results)
+                .build();
+    }
+
+    private FileResult importFile(Long userId, MultipartFile file) {
+        ImportBatch batch = new ImportBatch(userId);
+        String format = null;
+        String error = null;
+        try (InputStream input = new BufferedInputStream(file.getInputStream())) {
+            format = parser.parse(input, batch::add).name();
+            batch.flush();
+        } catch (XMLStreamException | IOException e) {
+            error = "파일을 읽을 수 없습니다: " + e.getMessage();
+            batch.flush();  // 오류 전까지 읽은 트랙은 저장
+            LogUtils.atWarn(log)
+                    .field("userId", userId)
+                    .field("filename", file.getOriginalFilename())
+                    .field("error", e.getMessage())
+                    .log("활동 파일 파싱 실패");
+        }
+        return FileResult.builder()
+                .filename(file.getOriginalFilename())
+                .format(format)
+                .imported(batch.saved)
+                .duplicates(batch.duplicates)
+                .skipped(batch.skipped)
+                .error(error)
+                .build();
+    }
+
+    /** 파서 sink: batchSize건마다 저장하고 비움 */
+    private class ImportBatch {
+        private final Long userId;
+        private final List<ImportedActivity> pending = new ArrayList<>(batchSize);
+        private int saved;
+        private int duplicates;
+        private int skipped;
+
+        ImportBatch(Long userId) {
+            this.userId = userId;
+        }
+
+        void add(ImportedActivity activity) {
+            if (activity == null) {
+                skipped++;
+                return;
+            }
+            pending.add(activity);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                ActivityIngestService.ImportSaveResult result = ingestService.saveImported(userId, pending);
+                saved += result.saved();
+                duplicates += result.duplicates();
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.runningapp.service;
+
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.domain.User;
+import com.runningapp.dto.activity.ActivityBatchResponse;
+import com.runningapp.dto.activity.ActivityBatchResponse.ItemResult;
+import com.runningapp.dto.activity.ActivityBatchResponse.ItemStatus;
+import com.runningapp.dto.activity.ActivityRequest;
+import com.runningapp.event.ActivitiesCreatedEvent;
+import com.runningapp.event.ActivitiesCreatedEvent.CreatedActivity;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.exception.NotFoundException;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.repository.UserRepository;
+import com.runningapp.service.importer.ImportedActivity;
+import com.runningapp.util.LogUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 러닝 활동 일괄 저장 (워치/HealthKit 동기화처럼 여러 건이 한꺼번에 들어오는 경우)
+ *
+ * 단건 저장(RunningActivityService.create)을 N번 호출할 때와 비교:
+ * - 인증/사용자 조회 1번
+ * - INSERT는 saveAll 한 번 → 시퀀스 ID + hibernate.jdbc.batch_size로 50건씩 JDBC 배치
+ * - 캐시 무효화 1번 (요약 + 영향받은 월별 통계 키)
+ * - ActivitiesCreatedEvent 1개 → 레벨/챌린지/플랜 비동기 작업도 리스너별 1개
+ *
+ * 항목별 검증: 잘못된 항목은 INVALID로 돌려주고 나머지는 저장 (전체 실패 아님)
+ * 중복 판정(ActivityDeduplicator): 이미 있는 활동(또는 같은 요청의 앞 항목)과 같은 활동이면 저장하지 않고
+ *   비어 있는 값(심박수/경로 등)만 기존 활동에 채움 → DUPLICATE + 기존 활동 ID (이벤트 없음, 누적 거리 그대로)
+ *
+ * 파일 가져오기(ActivityImportService)도 배치 단위로 saveImported를 호출 → 같은 저장/캐시/이벤트 경로 사용
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ActivityIngestService {
+
+    private final RunningActivityRepository activityRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final ActivityDeduplicator deduplicator;
+    private final int maxBatchSize;
+
+    public ActivityIngestService(RunningActivityRepository activityRepository,
+                                 UserRepository userRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Validator validator,
+                                 CacheManager cacheManager,
+                                 ActivityDeduplicator deduplicator,
+                                 @Value("${app.activity.batch.max-size:100}") int maxBatchSize) {
+        this.activityRepository = activityRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.cacheManager = cacheManager;
+        this.deduplicator = deduplicator;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Transactional
+    public ActivityBatchResponse createBatch(Long userId, List<ActivityRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new BusinessException(ErrorCode.ACTIVITY_003,
+                    "한 번에 최대 " + maxBatchSize + "건까지 저장할 수 있습니다 (요청 " + requests.size() + "건)");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        List<RunningActivity> activities = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ActivityRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            if (errors.isEmpty()) {
+                activities.add(RunningActivityService.toEntity(user, request));
+                indexes.add(i);
+            } else {
+                results[i] = ItemResult.builder().index(i).status(ItemStatus.INVALID).errors(errors).build();
+            }
+        }
+
+        Ingested ingested = persist(userId, activities);
+        for (int i = 0; i < activities.size(); i++) {
+            int index = indexes.get(i);
+            RunningActivity duplicateOf = ingested.duplicateOf().get(i);
+            results[index] = duplicateOf == null
+                    ? ItemResult.builder().index(index).status(ItemStatus.CREATED).id(activities.get(i).getId()).build()
+                    : ItemResult.builder().index(index).status(ItemStatus.DUPLICATE).id(duplicateOf.getId()).build();
+        }
+        int created = ingested.created();
+        int duplicates = activities.size() - created;
+
+        LogUtils.atInfo(log)
+                .field("userId", userId)
+                .field("requested", requests.size())
+                .field("created", created)
+                .field("duplicates", duplicates)
+                .field("invalid", requests.size() - activities.size())
+                .log("활동 일괄 저장 완료");
+
+        return ActivityBatchResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .duplicates(duplicates)
+                .failed(requests.size() - activities.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * 파일에서 읽은 활동 저장 (가져오기 배치 1개 = 트랜잭션 1개)
+     *
+     * 호출자가 배치마다 부르므로 트랜잭션이 끝날 때 영속성 컨텍스트도 비워짐 → 파일 크기와 무관하게 메모리 일정
+     * 이미 있는 활동과 같은 활동은 저장하지 않고 병합 (duplicates)
+     */
+    @Transactional
+    public ImportSaveResult saveImported(Long userId, List<ImportedActivity> imported) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        List<RunningActivity> activities = new ArrayList<>(imported.size());
+        for (ImportedActivity activity : imported) {
+            activities.add(RunningActivity.builder()
+                    .user(user)
+                    .distance(activity.distance())
+                    .duration(activity.duration())
+                    .averagePace(activity.averagePace())
+                    .calories(activity.calories())
+                    .averageHeartRate(activity.averageHeartRate())
+                    .cadence(activity.cadence())
+                    .route(activity.route())
+                    .startedAt(activity.startedAt())
+                    .memo(activity.memo())
+                    .build());
+        }
+        int created = persist(userId, activities).created();
+        return new ImportSaveResult(created, activities.size() - created);
+    }
+
+    /** 가져오기 배치 1개 결과 */
+    public record ImportSaveResult(int saved, int duplicates) {
+    }
+
+    /**
+     * 저장 결과
+     * duplicateOf: activities와 같은 순서, 중복이면 병합된 활동 (새로 저장했으면 null)
+     */
+    private record Ingested(int created, List<RunningActivity> duplicateOf) {
+    }
+
+    /**
+     * 중복 판정 → 새 활동만 saveAll 1번 + 캐시 무효화 + 이벤트 1개
+     *
+     * 중복은 기존 활동에 빈 값만 채움 (변경 감지로 커밋 시 UPDATE, 거리/시간은 그대로라 이벤트 없음)
+     * 같은 요청의 앞 항목과 겹치면 그 항목(저장 후 ID 부여)에 병합
+     */
+    private Ingested persist(Long userId, List<RunningActivity> activities) {
+        List<ActivityFingerprint> fingerprints = new ArrayList<>(activities.size());
+        activities.forEach(activity -> fingerprints.add(activity.fingerprint()));
+        ActivityDeduplicator.Candidates candidates = deduplicator.load(userId, fingerprints);
+
+        List<RunningActivity> accepted = new ArrayList<>(activities.size());
+        List<RunningActivity> duplicateOf = new ArrayList<>(activities.size());
+        Set<YearMonth> mergedMonths = new TreeSet<>();
+        for (int i = 0; i < activities.size(); i++) {
+            RunningActivity activity = activities.get(i);
+            RunningActivity existing = candidates.find(fingerprints.get(i));
+            if (existing == null) {
+                candidates.add(activity);
+                accepted.add(activity);
+            } else if (existing.mergeMissing(activity)) {
+                mergedMonths.add(YearMonth.from(existing.getStartedAt()));
+            }
+            duplicateOf.add(existing);
+        }
+
+        List<RunningActivity> saved = activityRepository.saveAll(accepted);
+        List<CreatedActivity> created = new ArrayList<>(saved.size());
+        for (RunningActivity activity : saved) {
+            created.add(new CreatedActivity(activity.getId(), activity.getDistance(), activity.getStartedAt()));
+        }
+        if (!created.isEmpty() || !mergedMonths.isEmpty()) {
+            created.forEach(activity -> mergedMonths.add(YearMonth.from(activity.startedAt())));
+            evictCaches(userId, mergedMonths);
+        }
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new ActivitiesCreatedEvent(this, userId, created));
+        }
+        return new Ingested(created.size(), duplicateOf);
+    }
+
+    private Map<String, String> validate(ActivityRequest request) {
+        if (request == null) {
+            return Map.of("activity", "활동 데이터가 비어 있습니다");
+        }
+        Map<String, String> errors = new TreeMap<>();
+        for (ConstraintViolation<ActivityRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    /**
+     * 단건 저장의 @CacheEvict와 같은 키를 한 번씩만 무효화
+     * - activitySummary: 사용자 키
+     * - activityStats: 이번 달 + 저장/병합된 활동이 속한 월 (과거 기록 동기화 시 해당 월 통계도 바뀜)
+     */
+    private void evictCaches(Long userId, Set<YearMonth> months) {
+        Cache summary = cacheManager.getCache("activitySummary");
+        if (summary != null) {
+            summary.evict(userId);
+        }
+        Cache stats = cacheManager.getCache("activityStats");
+        if (stats != null) {
+            months.add(YearMonth.from(LocalDate.now()));
+            months.forEach(month -> stats.evict(userId + "_" + month.getYear() + "_" + month.getMonthValue()));
+        }
+    }
+}
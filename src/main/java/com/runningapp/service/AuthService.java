@@ -7,14 +7,19 @@ import com.runningapp.dto.auth.LoginRequest;
 import com.runningapp.dto.auth.ProfileUpdateRequest;
 import com.runningapp.dto.auth.SignupRequest;
 import com.runningapp.exception.BadRequestException;
+import com.runningapp.exception.BusinessException;
 import com.runningapp.repository.UserRepository;
+import com.runningapp.security.PasswordHasher;
+import com.runningapp.security.TokenRevocationList;
 import com.runningapp.util.JwtUtil;
 import com.runningapp.util.LogUtils;
+import io.jsonwebtoken.Claims;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
@@ -25,6 +30,13 @@ import java.util.Map;
  * @Service: Spring Bean으로 등록, 비즈니스 로직 담당
  * @Transactional(readOnly = true): 기본은 읽기 전용. 쓰기 작업은 @Transactional 별도 지정
  * @RequiredArgsConstructor: final 필드에 대한 생성자 주입 (의존성 주입)
+ *
+ * 비밀번호 해싱은 PasswordHasher 전용 풀에서 실행 (요청 스레드 점유 방지, 포화 시 503)
+ * 회원가입/로그인은 트랜잭션 없이 해싱/검증 → 해싱 큐를 기다리는 동안 DB 커넥션을 잡고 있지 않음
+ *
+ * 토큰: 짧은 수명의 액세스 토큰(JWT) + 리프레시 토큰
+ * - refresh: 리프레시 토큰 rotation 후 새 토큰 쌍 발급
+ * - logout: 액세스 토큰 jti를 폐기 목록에 등록 + 리프레시 토큰 폐기
  */
 @Slf4j
 @Service
@@ -33,42 +45,59 @@ import java.util.Map;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final SignupEmailFilter signupEmailFilter;
     private final BusinessMetrics metrics;
 
-    @Transactional  // 쓰기 작업이므로 별도 트랜잭션 (readOnly=false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해싱 후 조회/저장만 각각 짧은 트랜잭션
     @Timed(value = "auth.signup", description = "회원가입 처리 시간")
     public AuthResponse signup(SignupRequest request) {
-        // 1. 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
-            LogUtils.warn(log, "회원가입 실패 - 이메일 중복", "email", request.getEmail());
-            throw new BadRequestException("이미 사용 중인 이메일입니다");
+        // 1. 비밀번호 암호화 먼저 (해싱 큐를 기다리는 동안 DB 커넥션을 잡지 않도록 DB 작업 전에, 평문 비밀번호 절대 저장 금지)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+
+        // 2. 이메일 중복 체크 (Bloom filter가 확실히 없다고 하면 DB 조회 생략)
+        if (signupEmailFilter.mightExist(request.getEmail())) {
+            if (userRepository.existsByEmail(request.getEmail())) {
+                LogUtils.warn(log, "회원가입 실패 - 이메일 중복", "email", request.getEmail());
+                throw new BadRequestException("이미 사용 중인 이메일입니다");
+            }
+            signupEmailFilter.recordFalsePositive();
         }
 
-        // 2. 비밀번호 암호화 후 사용자 저장 (평문 비밀번호 절대 저장 금지)
+        // 3. 사용자 저장
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .nickname(request.getNickname())
                 .build();
 
-        user = userRepository.save(user);
+        try {
+            // pooled 시퀀스라 save()는 커밋 시점에 INSERT → 여기서 flush해야 UNIQUE 제약 위반을 잡을 수 있음
+            user = userRepository.saveAndFlush(user);  // UNIQUE 제약이 최종 중복 검사 (저장소 트랜잭션)
+        } catch (DataIntegrityViolationException e) {
+            LogUtils.warn(log, "회원가입 실패 - 이메일 중복 (UNIQUE 제약)", "email", request.getEmail());
+            throw new BadRequestException("이미 사용 중인 이메일입니다");
+        }
+        signupEmailFilter.add(user.getEmail());
 
-        // 3. JWT 토큰 생성하여 반환
+        // 4. JWT 토큰 생성하여 반환
         String token = jwtUtil.generateToken(user.getId(), user.getEmail());
 
-        // 4. 메트릭 수집
+        // 5. 메트릭 수집
         metrics.incrementSignup();
 
-        LogUtils.info(log, "회원가입 성공", Map.of(
-                "userId", user.getId(),
-                "email", user.getEmail()
-        ));
+        LogUtils.atInfo(log)
+                .field("userId", user.getId())
+                .field("email", user.getEmail())
+                .log("회원가입 성공");
 
         return buildAuthResponse(token, user);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 조회/저장은 각각 짧은 트랜잭션
     @Timed(value = "auth.login", description = "로그인 처리 시간")
     public AuthResponse login(LoginRequest request) {
         // 1. 이메일로 사용자 조회
@@ -80,7 +109,7 @@ public class AuthService {
                 });
 
         // 2. 비밀번호 검증 (BCrypt.matches: 입력 비밀번호와 해시 비교)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             LogUtils.warn(log, "로그인 실패 - 비밀번호 불일치", Map.of(
                     "userId", user.getId(),
                     "email", user.getEmail()
@@ -89,19 +118,43 @@ public class AuthService {
             throw new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
+        // 3. cost가 바뀌었으면 평문 비밀번호가 있는 지금 재해싱 (해싱 후 저장만 트랜잭션)
+        rehashIfNeeded(user, request.getPassword());
+
         String token = jwtUtil.generateToken(user.getId(), user.getEmail());
 
         // 메트릭 수집
         metrics.incrementLoginSuccess();
 
-        LogUtils.info(log, "로그인 성공", Map.of(
-                "userId", user.getId(),
-                "email", user.getEmail()
-        ));
+        LogUtils.atInfo(log)
+                .field("userId", user.getId())
+                .field("email", user.getEmail())
+                .log("로그인 성공");
 
         return buildAuthResponse(token, user);
     }
 
+    /** 리프레시 토큰으로 새 액세스/리프레시 토큰 발급 (재사용 탐지 시 전체 폐기가 롤백되지 않도록 noRollbackFor) */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public AuthResponse refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BadRequestException("사용자를 찾을 수 없습니다"));
+
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+        return buildAuthResponse(token, user);
+    }
+
+    /** 로그아웃: 현재 액세스 토큰은 만료 전까지 폐기 목록으로 차단, 본인의 리프레시 토큰은 폐기 */
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        Claims claims = jwtUtil.parseAndVerify(accessToken);
+        tokenRevocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+        refreshTokenService.revoke(refreshToken, Long.valueOf(claims.getSubject()));
+
+        LogUtils.info(log, "로그아웃", "userId", claims.getSubject());
+    }
+
     @Transactional
     public AuthResponse.UserInfo updateProfile(Long userId, ProfileUpdateRequest request) {
         User user = userRepository.findById(userId)
@@ -132,9 +185,25 @@ public class AuthService {
                 .build();
     }
 
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.changePassword(passwordHasher.encode(rawPassword));
+            userRepository.save(user);
+            LogUtils.info(log, "비밀번호 재해싱 완료", "userId", user.getId());
+        } catch (BusinessException e) {
+            // 풀 포화 시 재해싱은 다음 로그인으로 미루고 로그인은 성공 처리
+            LogUtils.warn(log, "비밀번호 재해싱 보류", "userId", user.getId());
+        }
+    }
+
     private AuthResponse buildAuthResponse(String token, User user) {
         return AuthResponse.builder()
                 .accessToken(token)
+                .refreshToken(refreshTokenService.issue(user.getId()))
+                .expiresIn(jwtUtil.getExpirationMs() / 1000)
                 .tokenType("Bearer")
                 .user(AuthResponse.UserInfo.builder()
                         .id(user.getId())
@@ -0,0 +1,465 @@
+package com.runningapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runningapp.exception.BadRequestException;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.exception.NotFoundException;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.repository.UserRepository;
+import com.runningapp.service.importer.HealthExportParser;
+import com.runningapp.service.importer.HealthImportJob;
+import com.runningapp.service.importer.HealthWorkout;
+import com.runningapp.service.importer.ImportedActivity;
+import com.runningapp.service.importer.TrackFileParser;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Apple Health 내보내기(export.zip) 가져오기
+ *
+ * iOS HealthKitManager는 최근 운동만 동기화 → 수년치 기록은 "건강 데이터 내보내기" 파일을 서버에서 처리
+ *
+ * 흐름:
+ * 1. 요청 본문(zip 또는 export.xml)을 임시 파일로 복사 (최대 app.activity.health-import.max-size) → 202 + jobId
+ * 2. 작업 스레드: ZipFile에서 export.xml을 StAX로 스트리밍 파싱, 러닝 Workout을 chunk-size개씩 묶음
+ * 3. 청크 스레드(병렬): WorkoutRoute 경로 GPX를 zip에서 바로 읽어 결합 → saveImported (청크 = 트랜잭션)
+ * 4. GET /api/activities/import/jobs/{jobId}로 진행률/건수 조회
+ *
+ * 메모리: 진행 중 청크 수를 workers개로 제한 (Semaphore) → 파일 크기와 무관
+ * 디스크: 본문을 받기 전에 작업 자리(max-jobs + queue-capacity)와 사용자별 자리(max-jobs-per-user)를 확보
+ *   → 자리가 없으면 본문을 임시 파일에 쓰지 않고 바로 503/429 (받은 뒤 대기열 초과로 거절하지 않음)
+ * 중복: saveImported의 지문 판정(ActivityDeduplicator) → HealthKit 동기화/수동 입력으로 이미 있는 활동은 병합
+ *   같은 작업의 다른 청크(병렬 트랜잭션)끼리는 서로 보이지 않으므로 시작 시간 claim으로 한 번 더 거름
+ *   지문이 아직 없는 기존 활동(백필 전)은 예전처럼 시작 시간 ±1분 이내면 건너뜀
+ *
+ * 작업 상태는 인스턴스 메모리에 보관 (job-retention 후 만료) → 다중 인스턴스에서는 업로드한 인스턴스로 조회해야 함
+ */
+@Slf4j
+@Service
+public class HealthImportService {
+
+    private static final Duration LEGACY_DUPLICATE_WINDOW = Duration.ofMinutes(1);
+
+    private final ActivityIngestService ingestService;
+    private final RunningActivityRepository activityRepository;
+    private final UserRepository userRepository;
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final ThreadPoolTaskExecutor workerExecutor;
+    private final HealthExportParser exportParser = new HealthExportParser();
+    private final TrackFileParser routeParser;
+    private final int workers;
+    private final int chunkSize;
+    private final long maxUploadBytes;
+    private final Cache<String, HealthImportJob> jobs;
+
+    // 업로드 중 + 대기 + 실행 중인 작업 수 (전체 / 사용자별)
+    private final Semaphore jobSlots;
+    private final int maxJobsPerUser;
+    private final ConcurrentMap<Long, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+
+    public HealthImportService(ActivityIngestService ingestService,
+                               RunningActivityRepository activityRepository,
+                               UserRepository userRepository,
+                               @Qualifier("healthImportJobExecutor") ThreadPoolTaskExecutor jobExecutor,
+                               @Qualifier("healthImportWorkerExecutor") ThreadPoolTaskExecutor workerExecutor,
+                               @Value("${app.activity.health-import.workers:4}") int workers,
+                               @Value("${app.activity.health-import.chunk-size:50}") int chunkSize,
+                               @Value("${app.activity.health-import.max-size:4GB}") DataSize maxUploadSize,
+                               @Value("${app.activity.health-import.job-retention:24h}") Duration jobRetention,
+                               @Value("${app.activity.health-import.max-jobs:2}") int maxJobs,
+                               @Value("${app.activity.health-import.queue-capacity:4}") int queueCapacity,
+                               @Value("${app.activity.health-import.max-jobs-per-user:1}") int maxJobsPerUser,
+                               @Value("${app.activity.import.route-max-points:3600}") int routeMaxPoints) {
+        this.ingestService = ingestService;
+        this.activityRepository = activityRepository;
+        this.userRepository = userRepository;
+        this.jobExecutor = jobExecutor;
+        this.workerExecutor = workerExecutor;
+        this.routeParser = new TrackFileParser(routeMaxPoints);
+        this.workers = Math.max(1, workers);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxUploadBytes = maxUploadSize.toBytes();
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+        this.jobSlots = new Semaphore(maxJobs + queueCapacity);  // = 작업 실행기의 스레드 + 대기열
+        this.maxJobsPerUser = Math.max(1, maxJobsPerUser);
+    }
+
+    /** 업로드 본문을 임시 파일로 받고 작업 시작 */
+    public HealthImportJob start(Long userId, InputStream body) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다");
+        }
+
+        reserveSlot(userId);  // 본문을 받기 전에 확보 → 초과 요청은 디스크에 쓰지 않음
+        boolean submitted = false;
+        try {
+            Path file = receive(body);
+            HealthImportJob job = new HealthImportJob(UUID.randomUUID().toString(), userId);
+            jobs.put(job.getId(), job);
+            try {
+                jobExecutor.execute(() -> {
+                    try {
+                        run(job, file);
+                    } finally {
+                        releaseSlot(userId);
+                    }
+                });
+                submitted = true;
+            } catch (TaskRejectedException e) {
+                jobs.invalidate(job.getId());
+                deleteQuietly(file);
+                throw new BusinessException(ErrorCode.COMMON_003, "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요");
+            }
+
+            LogUtils.atInfo(log)
+                    .field("userId", userId)
+                    .field("jobId", job.getId())
+                    .log("Apple Health 가져오기 작업 등록");
+            return job;
+        } finally {
+            if (!submitted) {
+                releaseSlot(userId);
+            }
+        }
+    }
+
+    /** 사용자별 자리 → 전체 자리 순으로 확보 (실패 시 확보한 것은 돌려놓음) */
+    private void reserveSlot(Long userId) {
+        if (activeJobsByUser.merge(userId, 1, Integer::sum) > maxJobsPerUser) {
+            releaseUserSlot(userId);
+            throw new BusinessException(ErrorCode.RATE_LIMIT_001, "진행 중인 가져오기 작업이 끝난 뒤 다시 시도해주세요");
+        }
+        if (!jobSlots.tryAcquire()) {
+            releaseUserSlot(userId);
+            throw new BusinessException(ErrorCode.COMMON_003, "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private void releaseSlot(Long userId) {
+        jobSlots.release();
+        releaseUserSlot(userId);
+    }
+
+    private void releaseUserSlot(Long userId) {
+        activeJobsByUser.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /** 본인 작업만 조회 (다른 사용자 작업 ID는 없는 것과 동일하게 404) */
+    public HealthImportJob getJob(Long userId, String jobId) {
+        HealthImportJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new NotFoundException("가져오기 작업을 찾을 수 없습니다");
+        }
+        return job;
+    }
+
+    private Path receive(InputStream body) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("health-export-", ".upload");
+            long size = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (OutputStream out = Files.newOutputStream(file)) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxUploadBytes) {
+                        throw new BusinessException(ErrorCode.ACTIVITY_005);
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new BusinessException(ErrorCode.ACTIVITY_004);
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new BadRequestException("업로드 파일을 받을 수 없습니다: " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void run(HealthImportJob job, Path file) {
+        try {
+            if (isZip(file)) {
+                try (ZipFile zip = new ZipFile(file.toFile())) {
+                    ZipEntry export = findExport(zip);
+                    Map<String, ZipEntry> routes = routeEntries(zip);
+                    job.start(export.getSize());
+                    try (InputStream input = zip.getInputStream(export)) {
+                        parse(job, input, path -> loadRoute(zip, routes, path));
+                    }
+                }
+            } else {
+                job.start(Files.size(file));
+                try (InputStream input = Files.newInputStream(file)) {
+                    parse(job, input, path -> null);  // export.xml만 올린 경우 경로 없음
+                }
+            }
+            job.complete();
+            LogUtils.atInfo(log)
+                    .field("userId", job.getUserId())
+                    .field("jobId", job.getId())
+                    .field("workouts", job.getWorkouts())
+                    .field("imported", job.getImported())
+                    .field("duplicates", job.getDuplicates())
+                    .field("failed", job.getFailed())
+                    .log("Apple Health 가져오기 완료");
+        } catch (Exception e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            LogUtils.error(log, "Apple Health 가져오기 실패", e, "jobId", job.getId());
+        } finally {
+            jobs.put(job.getId(), job);  // 완료 시점부터 보관 기간 다시 계산
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * export.xml 파싱 (현재 스레드) + 청크 처리 (workerExecutor)
+     *
+     * 진행 중 청크가 workers개면 파싱을 멈추고 기다림 → 파싱이 저장보다 빨라도 메모리에 쌓이지 않음
+     */
+    private void parse(HealthImportJob job, InputStream input, Function<String, ImportedActivity> routeLoader)
+            throws Exception {
+        Semaphore inFlight = new Semaphore(workers);
+        List<HealthWorkout> chunk = new ArrayList<>(chunkSize);
+        try {
+            exportParser.parse(new BufferedInputStream(new CountingInputStream(input, job), 64 * 1024), workout -> {
+                if (workout == null) {
+                    job.addSkipped(1);
+                    return;
+                }
+                job.addWorkouts(1);
+                chunk.add(workout);
+                if (chunk.size() >= chunkSize) {
+                    dispatch(job, List.copyOf(chunk), routeLoader, inFlight);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                dispatch(job, List.copyOf(chunk), routeLoader, inFlight);
+            }
+        } finally {
+            inFlight.acquireUninterruptibly(workers);  // 남은 청크 완료 대기 (zip을 닫기 전에)
+        }
+    }
+
+    private void dispatch(HealthImportJob job, List<HealthWorkout> chunk,
+                          Function<String, ImportedActivity> routeLoader, Semaphore inFlight) {
+        inFlight.acquireUninterruptibly();
+        try {
+            workerExecutor.execute(() -> {
+                try {
+                    processChunk(job, chunk, routeLoader);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /** 청크 1개: 경로 결합 → 저장(중복은 병합) (실패해도 다른 청크는 계속) */
+    private void processChunk(HealthImportJob job, List<HealthWorkout> chunk,
+                              Function<String, ImportedActivity> routeLoader) {
+        int duplicates = 0;
+        int skipped = 0;
+        List<ImportedActivity> activities = new ArrayList<>(chunk.size());
+        try {
+            TreeSet<LocalDateTime> legacy = legacyStartTimes(job.getUserId(), chunk);
+            for (HealthWorkout workout : chunk) {
+                if (isLegacyDuplicate(legacy, workout.startedAt()) || !job.claim(workout.startedAt())) {
+                    duplicates++;
+                    continue;
+                }
+                ImportedActivity activity = toActivity(workout, routeLoader.apply(workout.routePath()));
+                if (activity == null) {
+                    skipped++;
+                } else {
+                    activities.add(activity);
+                }
+            }
+            if (!activities.isEmpty()) {
+                ActivityIngestService.ImportSaveResult result = ingestService.saveImported(job.getUserId(), activities);
+                job.addImported(result.saved());
+                duplicates += result.duplicates();
+            }
+        } catch (RuntimeException e) {
+            int processed = duplicates + skipped;
+            job.addFailed(chunk.size() - processed);
+            LogUtils.atWarn(log)
+                    .field("jobId", job.getId())
+                    .field("chunkSize", chunk.size())
+                    .field("error", e.getMessage())
+                    .log("Apple Health 가져오기 청크 실패");
+        } finally {
+            job.addDuplicates(duplicates);
+            job.addSkipped(skipped);
+        }
+    }
+
+    /** 지문이 없는 기존 활동의 시작 시간 (청크 기간 ±1분) - 백필이 끝나면 빈 결과 */
+    private TreeSet<LocalDateTime> legacyStartTimes(Long userId, List<HealthWorkout> chunk) {
+        LocalDateTime from = chunk.stream().map(HealthWorkout::startedAt).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = chunk.stream().map(HealthWorkout::startedAt).max(Comparator.naturalOrder()).orElseThrow();
+        return new TreeSet<>(activityRepository.findLegacyStartedAtByUserIdAndStartedAtBetween(
+                userId, from.minus(LEGACY_DUPLICATE_WINDOW), to.plus(LEGACY_DUPLICATE_WINDOW)));
+    }
+
+    private static boolean isLegacyDuplicate(TreeSet<LocalDateTime> legacy, LocalDateTime startedAt) {
+        LocalDateTime nearest = legacy.ceiling(startedAt.minus(LEGACY_DUPLICATE_WINDOW));
+        return nearest != null && !nearest.isAfter(startedAt.plus(LEGACY_DUPLICATE_WINDOW));
+    }
+
+    /** Workout 요약값 우선, 거리가 없으면 경로 GPX 거리 사용 */
+    private static ImportedActivity toActivity(HealthWorkout workout, ImportedActivity route) {
+        double distance = workout.distance() != null ? workout.distance()
+                : route != null ? route.distance() : 0;
+        if (distance <= 0) {
+            return null;
+        }
+        return new ImportedActivity(
+                distance,
+                workout.duration(),
+                (int) Math.round(workout.duration() / distance),
+                workout.calories(),
+                workout.averageHeartRate() != null ? workout.averageHeartRate()
+                        : route != null ? route.averageHeartRate() : null,
+                route != null ? route.cadence() : null,
+                route != null ? route.route() : null,
+                workout.startedAt(),
+                null);
+    }
+
+    /** 경로 GPX 1개 파싱 (없거나 깨졌으면 경로 없이 저장) */
+    private ImportedActivity loadRoute(ZipFile zip, Map<String, ZipEntry> routes, String path) {
+        if (path == null) {
+            return null;
+        }
+        ZipEntry entry = routes.get(fileName(path));
+        if (entry == null) {
+            return null;
+        }
+        List<ImportedActivity> tracks = new ArrayList<>(1);
+        try (InputStream input = new BufferedInputStream(zip.getInputStream(entry))) {
+            routeParser.parse(input, tracks::add);
+        } catch (Exception e) {
+            LogUtils.debug(log, "경로 파일 파싱 실패", "path", path);
+            return null;
+        }
+        return tracks.isEmpty() ? null : tracks.get(0);
+    }
+
+    private static boolean isZip(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            byte[] magic = input.readNBytes(4);
+            return magic.length == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+        }
+    }
+
+    /** apple_health_export/export.xml (export_cda.xml 제외) */
+    private static ZipEntry findExport(ZipFile zip) {
+        return zip.stream()
+                .filter(entry -> !entry.isDirectory())
+                .filter(entry -> entry.getName().equals("export.xml") || entry.getName().endsWith("/export.xml"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("zip 안에 export.xml이 없습니다"));
+    }
+
+    /** workout-routes/*.gpx를 파일명으로 색인 (FileReference path와 zip 안의 상위 폴더명이 다를 수 있음) */
+    private static Map<String, ZipEntry> routeEntries(ZipFile zip) {
+        Map<String, ZipEntry> routes = new HashMap<>();
+        zip.stream()
+                .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".gpx"))
+                .forEach(entry -> routes.putIfAbsent(fileName(entry.getName()), entry));
+        return routes;
+    }
+
+    private static String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LogUtils.warn(log, "임시 파일 삭제 실패", "path", file.toString());
+        }
+    }
+
+    /** 읽은 바이트 수를 작업 진행률에 반영 */
+    private static class CountingInputStream extends FilterInputStream {
+        private final HealthImportJob job;
+
+        CountingInputStream(InputStream in, HealthImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                job.addBytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                job.addBytesRead(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            job.addBytesRead(skipped);
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.runningapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runningapp.exception.BadRequestException;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.util.LogUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (POST /api/activities 재시도 중복 저장 방지)
+ *
+ * 네트워크가 불안정한 모바일 클라이언트가 같은 요청을 재시도하면 활동이 중복 저장되고
+ * ActivityCompletedEvent가 다시 발행되어 누적 거리/챌린지 진행률이 부풀려짐
+ * → 클라이언트가 요청마다 키를 만들어 재시도에도 같은 키를 보내면, 처음 응답을 그대로 돌려줌 (DB 접근 없음)
+ *
+ * 저장소:
+ * - 로컬 Caffeine (크기 제한 + TTL): 항상 먼저 확인, 같은 노드 재시도는 Redis 왕복도 없음
+ * - Redis (idempotency:{scope}:{userId}:{key}): 다른 노드로 재시도가 들어와도 같은 응답
+ *   Redis가 없거나 장애면 로컬 저장소만 사용 (경고 로그만 남김)
+ *   장애 시 redis-retry-interval 동안 Redis를 건너뜀 → 요청마다 조회/선점/저장 각각 타임아웃(3초)을 기다리지 않음
+ *
+ * 동시 중복 요청:
+ * - 같은 노드: 먼저 온 요청만 실행하고 나머지는 그 결과(CompletableFuture)를 기다렸다가 같은 응답
+ * - 다른 노드: Redis SET NX로 처리 중 표시(lock-timeout 후 자동 만료) → 선점 못 한 요청은 409 (COMMON_004)
+ *
+ * 같은 키에 다른 본문이면 422 (COMMON_005) - 요청 본문 SHA-256을 함께 저장해 비교
+ * 실패한 요청은 저장하지 않음 → 같은 키로 재시도하면 다시 실행
+ *
+ * 프로퍼티:
+ * - app.idempotency.ttl: 응답 보관 시간 (기본값: 24h)
+ * - app.idempotency.lock-timeout: 처리 중 표시 유지/동시 요청 대기 시간 (기본값: 30s)
+ * - app.idempotency.max-local-entries: 로컬 저장소 최대 키 수 (기본값: 100000)
+ * - app.idempotency.redis-retry-interval: Redis 실패 후 로컬 저장소만 사용하는 시간 (기본값: 10s)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;  // Redis 미사용(테스트 등)이면 null
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Duration redisRetryInterval;
+    private volatile long redisRetryAtMillis;  // 이 시각 전까지는 Redis를 건너뜀 (마지막 실패 + redisRetryInterval)
+    private final Cache<String, StoredResponse> localStore;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+
+    public IdempotencyService(ObjectMapper objectMapper,
+                              ObjectProvider<StringRedisTemplate> redisTemplate,
+                              MeterRegistry registry,
+                              @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.lock-timeout:30s}") Duration lockTimeout,
+                              @Value("${app.idempotency.max-local-entries:100000}") long maxLocalEntries,
+                              @Value("${app.idempotency.redis-retry-interval:10s}") Duration redisRetryInterval) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.redisRetryInterval = redisRetryInterval;
+        this.localStore = Caffeine.newBuilder()
+                .maximumSize(maxLocalEntries)
+                .expireAfterWrite(ttl)
+                .build();
+        this.executedCounter = Counter.builder("runningapp_idempotency_requests_total")
+                .description("Requests with an Idempotency-Key, by whether the stored response was replayed")
+                .tag("result", "executed")
+                .register(registry);
+        this.replayedCounter = Counter.builder("runningapp_idempotency_requests_total")
+                .description("Requests with an Idempotency-Key, by whether the stored response was replayed")
+                .tag("result", "replayed")
+                .register(registry);
+    }
+
+    /** 처리 결과 (replayed=true: 저장된 응답을 돌려줌, action 실행 안 함) */
+    public record Result<T>(T response, boolean replayed) {
+    }
+
+    /** 저장된 응답 (body == null: 다른 노드에서 처리 중, Redis에만 저장) */
+    record StoredResponse(String requestHash, String body) {
+    }
+
+    /**
+     * 키당 action을 한 번만 실행
+     *
+     * @param scope 엔드포인트 구분 (같은 키를 다른 API에 써도 섞이지 않도록)
+     */
+    public <T> Result<T> execute(String scope, Long userId, String idempotencyKey, Object request,
+                                 Class<T> responseType, Supplier<T> action) {
+        validateKey(idempotencyKey);
+        String key = KEY_PREFIX + scope + ":" + userId + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        StoredResponse stored = find(key);
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 같은 노드에서 같은 키 처리 중 → 그 결과를 같이 사용
+            return replay(await(running), requestHash, responseType);
+        }
+        try {
+            return executeOnce(key, requestHash, responseType, action, mine);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> Result<T> executeOnce(String key, String requestHash, Class<T> responseType,
+                                      Supplier<T> action, CompletableFuture<StoredResponse> mine) {
+        try {
+            // find() 이후 inFlight 등록 전에 끝난 요청이 있을 수 있으므로 다시 확인
+            StoredResponse stored = find(key);
+            if (stored == null) {
+                stored = claim(key, requestHash);
+            }
+            if (stored != null) {
+                if (stored.body() == null) {
+                    throw new BusinessException(ErrorCode.COMMON_004);  // 다른 노드에서 처리 중
+                }
+                mine.complete(stored);
+                return replay(stored, requestHash, responseType);
+            }
+
+            T response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                release(key);
+                throw e;
+            }
+            StoredResponse result = new StoredResponse(requestHash, toJson(response));
+            save(key, result);
+            mine.complete(result);
+            executedCounter.increment();
+            return new Result<>(response, false);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> Result<T> replay(StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BusinessException(ErrorCode.COMMON_005);
+        }
+        try {
+            T response = objectMapper.readValue(stored.body(), responseType);
+            replayedCounter.increment();
+            return new Result<>(response, true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 온 요청이 실패 → 같은 예외로 응답 (저장되지 않았으므로 다음 재시도는 다시 실행)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.COMMON_004);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.COMMON_004);
+        }
+    }
+
+    /** 완료된 응답 조회 (로컬 → Redis 순) */
+    private StoredResponse find(String key) {
+        StoredResponse stored = localStore.getIfPresent(key);
+        StringRedisTemplate redis = redis();
+        if (stored != null || redis == null) {
+            return stored;
+        }
+        try {
+            String value = redis.opsForValue().get(key);
+            stored = value != null ? objectMapper.readValue(value, StoredResponse.class) : null;
+        } catch (Exception e) {
+            redisFailed("Idempotency 키 조회 실패 - 로컬 저장소만 사용", e);
+            return null;
+        }
+        if (stored == null || stored.body() == null) {
+            return null;  // 처리 중 표시는 claim()에서 판단
+        }
+        localStore.put(key, stored);
+        return stored;
+    }
+
+    /**
+     * 다른 노드와의 동시 실행 방지 (Redis SET NX, lock-timeout 후 자동 만료)
+     *
+     * @return 선점 성공이면 null, 실패하면 이미 저장된 값 (처리 중 표시 또는 완료된 응답)
+     */
+    private StoredResponse claim(String key, String requestHash) {
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return null;
+        }
+        try {
+            String pending = objectMapper.writeValueAsString(new StoredResponse(requestHash, null));
+            if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, pending, lockTimeout))) {
+                return null;
+            }
+            String value = redis.opsForValue().get(key);
+            return value != null ? objectMapper.readValue(value, StoredResponse.class) : null;
+        } catch (Exception e) {
+            redisFailed("Idempotency 키 선점 실패 - 로컬에서만 중복 방지", e);
+            return null;
+        }
+    }
+
+    private void save(String key, StoredResponse stored) {
+        localStore.put(key, stored);
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(stored), ttl);
+        } catch (Exception e) {
+            redisFailed("Idempotency 응답 저장 실패 - 로컬에만 저장", e);
+        }
+    }
+
+    /** 실행 실패 시 처리 중 표시 제거 (같은 키로 바로 재시도 가능하도록) */
+    private void release(String key) {
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.delete(key);
+        } catch (Exception e) {
+            redisFailed("Idempotency 처리 중 표시 제거 실패", e);
+        }
+    }
+
+    /** 사용할 Redis (없거나 최근 실패했으면 null → 로컬 저장소만 사용) */
+    private StringRedisTemplate redis() {
+        return redisTemplate != null && System.currentTimeMillis() >= redisRetryAtMillis ? redisTemplate : null;
+    }
+
+    /** Redis 연결/명령 실패면 redisRetryInterval 동안 건너뜀 (저장된 값 파싱 실패처럼 Redis 장애가 아니면 계속 사용) */
+    private void redisFailed(String message, Exception e) {
+        if (e instanceof DataAccessException) {
+            redisRetryAtMillis = System.currentTimeMillis() + redisRetryInterval.toMillis();
+        }
+        LogUtils.warn(log, message, "errorMessage", e.getMessage());
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문 해시 실패", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.runningapp.service;
+
+import com.runningapp.domain.RefreshToken;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.repository.RefreshTokenRepository;
+import com.runningapp.util.LogUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 리프레시 토큰 서비스 (발급, 재발급, 폐기)
+ *
+ * - 토큰: 256bit 랜덤 값 (JWT 아님 → 액세스 토큰으로 오용 불가)
+ * - 저장: SHA-256 해시만 저장
+ * - rotate: 사용한 토큰은 폐기하고 새 토큰 발급, 폐기된 토큰 재사용 시 사용자 토큰 전체 폐기
+ *   폐기는 조건부 UPDATE (revoked_at IS NULL) → 같은 토큰으로 동시에 재발급해도 1건만 성공, 나머지는 재사용으로 처리
+ * - 정리: 만료된 토큰, 폐기 후 보관 기간이 지난 토큰은 1시간마다 삭제
+ *   (폐기된 토큰은 보관 기간 동안만 재사용 탐지, 이후 재사용은 일반 무효 토큰으로 거절)
+ *
+ * 프로퍼티:
+ * - jwt.refresh-expiration-ms: 리프레시 토큰 유효 시간 (기본값: 14일)
+ * - jwt.refresh-revoked-retention: 폐기된 토큰 보관 기간 (기본값: 3d)
+ */
+@Slf4j
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationMs;
+    private final Duration revokedRetention;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration-ms:1209600000}") long refreshExpirationMs,
+                               @Value("${jwt.refresh-revoked-retention:3d}") Duration revokedRetention) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationMs = refreshExpirationMs;
+        this.revokedRetention = revokedRetention;
+    }
+
+    /** 새 리프레시 토큰 발급 (원문은 응답으로만 전달) */
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(token))
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)))
+                .build());
+        return token;
+    }
+
+    /**
+     * 리프레시 토큰 검증 후 폐기 (rotation)
+     *
+     * @return 토큰 소유자 userId (호출자가 새 액세스/리프레시 토큰 발급)
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Long consume(String token) {
+        String tokenHash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_006));
+
+        if (refreshToken.isRevoked()) {
+            throw reuseDetected(refreshToken.getUserId());
+        }
+        if (refreshToken.isExpired()) {
+            throw new BusinessException(ErrorCode.AUTH_006);
+        }
+        // 조회 이후 다른 요청이 먼저 폐기했으면 0건 → 같은 토큰이 두 번 사용된 것
+        if (refreshTokenRepository.revokeIfActive(tokenHash, LocalDateTime.now()) == 0) {
+            throw reuseDetected(refreshToken.getUserId());
+        }
+        return refreshToken.getUserId();
+    }
+
+    /** 로그아웃: 리프레시 토큰 폐기 (없는 토큰, 다른 사용자의 토큰은 무시) */
+    public void revoke(String token, Long userId) {
+        refreshTokenRepository.findByTokenHash(hash(token)).ifPresent(refreshToken -> {
+            if (!refreshToken.getUserId().equals(userId)) {
+                LogUtils.warn(log, "로그아웃 - 다른 사용자의 리프레시 토큰 폐기 시도 무시", Map.of(
+                        "userId", userId,
+                        "ownerId", refreshToken.getUserId()
+                ));
+                return;
+            }
+            refreshToken.revoke();
+        });
+    }
+
+    /** 만료된 토큰 + 보관 기간이 지난 폐기 토큰 삭제 */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeStale() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = refreshTokenRepository.deleteStale(now, now.minus(revokedRetention));
+        if (deleted > 0) {
+            LogUtils.info(log, "만료/폐기된 리프레시 토큰 삭제", "deletedCount", deleted);
+        }
+    }
+
+    /** 이미 사용/폐기된 토큰 재사용 → 탈취 가능성, 해당 사용자의 모든 세션 종료 */
+    private BusinessException reuseDetected(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        LogUtils.warn(log, "리프레시 토큰 재사용 탐지 - 전체 폐기", Map.of(
+                "userId", userId,
+                "revokedCount", revoked
+        ));
+        return new BusinessException(ErrorCode.AUTH_006);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.runningapp.service;
 
+import com.runningapp.domain.ActivityFingerprint;
 import com.runningapp.domain.RunningActivity;
 import com.runningapp.domain.User;
 import com.runningapp.dto.activity.ActivityRequest;
@@ -10,6 +11,8 @@ import com.runningapp.dto.activity.PeriodSummary;
 import com.runningapp.event.ActivityCompletedEvent;
 import com.runningapp.event.ActivityDeletedEvent;
 import com.runningapp.event.ActivityUpdatedEvent;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
 import com.runningapp.exception.NotFoundException;
 import com.runningapp.repository.RunningActivityRepository;
 import com.runningapp.repository.UserRepository;
@@ -31,7 +34,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 러닝 활동 서비스 (CRUD, 통계)
@@ -49,6 +51,7 @@ public class RunningActivityService {
     private final RunningActivityRepository activityRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ActivityDeduplicator deduplicator;
 
     @Transactional
     @Caching(evict = {
@@ -56,30 +59,19 @@ public class RunningActivityService {
             @CacheEvict(value = "activityStats", key = "#userId + '_' + T(java.time.LocalDate).now().year + '_' + T(java.time.LocalDate).now().monthValue")
     })
     public ActivityResponse create(Long userId, ActivityRequest request) {
+        rejectDuplicate(userId, request);
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
 
-        RunningActivity activity = RunningActivity.builder()
-                .user(user)
-                .distance(request.getDistance())
-                .duration(request.getDuration())
-                .averagePace(request.getAveragePace())
-                .calories(request.getCalories())
-                .averageHeartRate(request.getAverageHeartRate())
-                .cadence(request.getCadence())
-                .route(request.getRoute())
-                .startedAt(request.getStartedAt())
-                .memo(request.getMemo())
-                .build();
+        RunningActivity activity = activityRepository.save(toEntity(user, request));
 
-        activity = activityRepository.save(activity);
-
-        LogUtils.info(log, "활동 저장 완료", Map.of(
-                "activityId", activity.getId(),
-                "userId", userId,
-                "distance", request.getDistance(),
-                "duration", request.getDuration()
-        ));
+        LogUtils.atInfo(log)
+                .field("activityId", activity.getId())
+                .field("userId", userId)
+                .field("distance", request.getDistance())
+                .field("duration", request.getDuration())
+                .log("활동 저장 완료");
 
         // 비동기 이벤트 발행 (레벨/챌린지/플랜 업데이트는 리스너에서 처리)
         eventPublisher.publishEvent(new ActivityCompletedEvent(
@@ -93,6 +85,36 @@ public class RunningActivityService {
         return ActivityResponse.from(activity);
     }
 
+    /**
+     * 이미 저장된 같은 활동이면 409 (ACTIVITY_006)
+     * 단건 저장은 사용자가 직접 보낸 1건이므로 합치지 않고 거절 (일괄 저장/가져오기는 ActivityIngestService에서 병합)
+     */
+    private void rejectDuplicate(Long userId, ActivityRequest request) {
+        ActivityFingerprint fingerprint = ActivityFingerprint.of(
+                request.getStartedAt(), request.getDistance(), request.getDuration(), request.getRoute());
+        RunningActivity duplicate = deduplicator.load(userId, List.of(fingerprint)).find(fingerprint);
+        if (duplicate != null) {
+            throw new BusinessException(ErrorCode.ACTIVITY_006,
+                    "이미 저장된 활동과 중복됩니다 (activityId=" + duplicate.getId() + ")");
+        }
+    }
+
+    /** 요청 DTO → 엔티티 (단건 저장, 일괄 저장(ActivityIngestService) 공용) */
+    static RunningActivity toEntity(User user, ActivityRequest request) {
+        return RunningActivity.builder()
+                .user(user)
+                .distance(request.getDistance())
+                .duration(request.getDuration())
+                .averagePace(request.getAveragePace())
+                .calories(request.getCalories())
+                .averageHeartRate(request.getAverageHeartRate())
+                .cadence(request.getCadence())
+                .route(request.getRoute())
+                .startedAt(request.getStartedAt())
+                .memo(request.getMemo())
+                .build();
+    }
+
     public Page<ActivityResponse> getMyActivities(Long userId, Pageable pageable) {
         // sort 파라미터 오염 방지 (Swagger 등에서 sort=["string"] 전송 시 PropertyReferenceException 발생)
         Pageable safePageable = PageRequest.of(
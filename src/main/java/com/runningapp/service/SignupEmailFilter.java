@@ -0,0 +1,146 @@
+package com.runningapp.service;
+
+import com.runningapp.repository.UserRepository;
+import com.runningapp.util.BloomFilter;
+import com.runningapp.util.LogUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 회원가입 이메일 중복 체크 Bloom filter
+ *
+ * 가입 폭주 시 existsByEmail 인덱스 조회가 커넥션 풀을 점유하지 않도록 앞단에서 걸러냄:
+ * - mightExist == false → 확실히 미가입 이메일, DB 조회 생략
+ * - mightExist == true → 기존대로 existsByEmail로 확인 (오탐이면 false_positive 카운트)
+ * - 최종 보장은 users.email UNIQUE 제약 (다른 노드 가입분/재생성 중 가입분 누락 대비)
+ *
+ * 로딩: 기동 완료 시 users에서 전체 이메일 스트리밍, 이후 가입 시 add()
+ * 재생성: 주기적으로 새로 만들어 교체 (다른 노드 가입분 반영, 채움 비율 초기화)
+ *
+ * 메트릭:
+ * - runningapp_signup_email_filter_checks_total{result=negative|positive|false_positive}
+ * - runningapp_signup_email_filter_expected_fpp: 현재 채움 비율 기준 예상 오탐률
+ *
+ * 프로퍼티:
+ * - app.signup.email-filter.expected-users: 예상 사용자 수 (기본값: 1000000)
+ * - app.signup.email-filter.fpp: 목표 오탐률 (기본값: 0.01)
+ * - app.signup.email-filter.rebuild-interval: 재생성 주기 (기본값: 6시간)
+ */
+@Slf4j
+@Component
+public class SignupEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final long expectedUsers;
+    private final double fpp;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter filter;
+    private BloomFilter rebuilding;  // 재생성 중 가입한 이메일도 새 필터에 반영
+    private volatile boolean ready;
+
+    public SignupEmailFilter(UserRepository userRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry registry,
+                             @Value("${app.signup.email-filter.expected-users:1000000}") long expectedUsers,
+                             @Value("${app.signup.email-filter.fpp:0.01}") double fpp) {
+        this.userRepository = userRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.expectedUsers = expectedUsers;
+        this.fpp = fpp;
+        this.filter = BloomFilter.forExpectedInsertions(expectedUsers, fpp);
+
+        this.negativeCounter = checkCounter(registry, "negative");
+        this.positiveCounter = checkCounter(registry, "positive");
+        this.falsePositiveCounter = checkCounter(registry, "false_positive");
+        Gauge.builder("runningapp_signup_email_filter_expected_fpp", this, f -> f.filter.expectedFalsePositiveRate())
+                .description("Expected false-positive rate of the signup email Bloom filter")
+                .register(registry);
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String result) {
+        return Counter.builder("runningapp_signup_email_filter_checks")
+                .description("Signup email Bloom filter checks")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** false면 확실히 미가입 (로딩 전에는 항상 true → DB 확인) */
+    public boolean mightExist(String email) {
+        if (!ready || filter.mightContain(normalize(email))) {
+            positiveCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    /** mightExist == true였지만 DB에 없었던 경우 */
+    public void recordFalsePositive() {
+        falsePositiveCounter.increment();
+    }
+
+    public synchronized void add(String email) {
+        String normalized = normalize(email);
+        filter.put(normalized);
+        if (rebuilding != null) {
+            rebuilding.put(normalized);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+        ready = true;
+    }
+
+    /** 새 필터를 만들어 교체 (기동 시 + 주기적) */
+    @Scheduled(fixedDelayString = "${app.signup.email-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${app.signup.email-filter.rebuild-interval:PT6H}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.forExpectedInsertions(expectedUsers, fpp);
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            });
+            synchronized (this) {
+                filter = next;
+            }
+            LogUtils.info(log, "가입 이메일 필터 생성", Map.of(
+                    "bits", next.bitSize(),
+                    "expectedFpp", next.expectedFalsePositiveRate()
+            ));
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
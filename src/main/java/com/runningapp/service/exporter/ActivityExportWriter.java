@@ -0,0 +1,18 @@
+package com.runningapp.service.exporter;
+
+import com.runningapp.domain.RunningActivity;
+
+import java.io.IOException;
+
+/**
+ * 내보내기 형식별 출력기
+ *
+ * 활동을 1건씩 받아 바로 응답 스트림에 씀 (모아두지 않음) → finish()에서 남은 버퍼만 flush
+ * 응답 스트림은 서블릿 컨테이너가 닫으므로 close하지 않음
+ */
+public interface ActivityExportWriter {
+
+    void write(RunningActivity activity) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,75 @@
+package com.runningapp.service.exporter;
+
+import com.runningapp.domain.RunningActivity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV (RFC 4180): 요약 값만, 경로 제외
+ *
+ * - UTF-8 BOM: 엑셀에서 한글 메모가 깨지지 않도록
+ * - 메모가 =, +, -, @로 시작하면 앞에 ' 추가 (엑셀 수식 실행 방지)
+ */
+public class CsvExportWriter implements ActivityExportWriter {
+
+    private static final String HEADER =
+            "id,startedAt,distanceKm,durationSec,averagePace,calories,averageHeartRate,cadence,memo";
+
+    private final Writer writer;
+
+    public CsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(RunningActivity activity) throws IOException {
+        writer.write(String.valueOf(activity.getId()));
+        writer.write(',');
+        writer.write(activity.getStartedAt().toString());
+        writer.write(',');
+        writer.write(String.valueOf(activity.getDistance()));
+        writer.write(',');
+        writer.write(String.valueOf(activity.getDuration()));
+        writer.write(',');
+        writeNullable(activity.getAveragePace());
+        writer.write(',');
+        writeNullable(activity.getCalories());
+        writer.write(',');
+        writeNullable(activity.getAverageHeartRate());
+        writer.write(',');
+        writeNullable(activity.getCadence());
+        writer.write(',');
+        writer.write(escape(activity.getMemo()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeNullable(Integer value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
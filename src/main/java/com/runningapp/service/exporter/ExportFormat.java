@@ -0,0 +1,49 @@
+package com.runningapp.service.exporter;
+
+import com.runningapp.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 활동 내보내기 형식 (GET /api/activities/export?format=...)
+ *
+ * - ndjson: 활동 1건 = JSON 1줄 (경로 포함, 다시 가져오거나 스크립트로 처리하기 쉬움)
+ * - csv: 요약 값만 (엑셀/스프레드시트용, 경로 제외)
+ * - gpx-zip: 경로가 있는 활동마다 GPX 파일 1개 (다른 러닝 앱으로 이전)
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson", new MediaType("application", "x-ndjson"), "ndjson"),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    GPX_ZIP("gpx-zip", new MediaType("application", "zip"), "zip");
+
+    private final String parameter;
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String parameter, MediaType mediaType, String extension) {
+        this.parameter = parameter;
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat from(String parameter) {
+        for (ExportFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(parameter)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + parameter + " (ndjson, csv, gpx-zip)");
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /** 예: running-activities-2025-02-01.ndjson */
+    public String filename(LocalDate date) {
+        return "running-activities-" + date + "." + extension;
+    }
+}
@@ -0,0 +1,98 @@
+package com.runningapp.service.exporter;
+
+import com.runningapp.domain.RunningActivity;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * GPX zip: 경로가 있는 활동마다 GPX 1.1 파일 1개 (경로 없는 활동은 건너뜀)
+ *
+ * 파일명: 2025-02-01_0700_123.gpx (시작 시간 + 활동 ID)
+ * GPX는 StAX XMLStreamWriter로 zip 엔트리에 바로 씀 → 활동 1건 분량도 문자열로 만들지 않음
+ * TrackFileParser(POST /api/activities/import)로 다시 가져올 수 있는 형식
+ */
+public class GpxZipExportWriter implements ActivityExportWriter {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);  // startedAt은 한국 시간 기준 LocalDateTime
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd_HHmm");
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newFactory();
+
+    private final ZipOutputStream zip;
+
+    public GpxZipExportWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out);
+    }
+
+    @Override
+    public void write(RunningActivity activity) throws IOException {
+        List<Map<String, Object>> route = activity.getRoute();
+        if (route == null || route.isEmpty()) {
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(activity.getStartedAt().format(FILE_TIME) + "_" + activity.getId() + ".gpx"));
+        try {
+            writeGpx(activity, route);
+        } catch (XMLStreamException e) {
+            throw new IOException("GPX 생성 실패 (activityId=" + activity.getId() + ")", e);
+        }
+        zip.closeEntry();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writeGpx(RunningActivity activity, List<Map<String, Object>> route) throws XMLStreamException {
+        XMLStreamWriter xml = FACTORY.createXMLStreamWriter(zip, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("gpx");
+        xml.writeDefaultNamespace("http://www.topografix.com/GPX/1/1");
+        xml.writeAttribute("version", "1.1");
+        xml.writeAttribute("creator", "Running App");
+
+        xml.writeStartElement("metadata");
+        writeText(xml, "time", activity.getStartedAt().atOffset(KST).toString());
+        xml.writeEndElement();
+
+        xml.writeStartElement("trk");
+        writeText(xml, "name", activity.getMemo() != null && !activity.getMemo().isBlank()
+                ? activity.getMemo() : "러닝 " + activity.getStartedAt().toLocalDate());
+        xml.writeStartElement("trkseg");
+        for (Map<String, Object> point : route) {
+            if (!(point.get("lat") instanceof Number lat) || !(point.get("lng") instanceof Number lng)) {
+                continue;
+            }
+            xml.writeStartElement("trkpt");
+            xml.writeAttribute("lat", lat.toString());
+            xml.writeAttribute("lon", lng.toString());
+            if (point.get("timestamp") instanceof Number timestamp) {
+                writeText(xml, "time", Instant.ofEpochMilli(timestamp.longValue()).toString());
+            }
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();  // trkseg
+        xml.writeEndElement();  // trk
+        xml.writeEndElement();  // gpx
+        xml.writeEndDocument();
+        xml.flush();  // close()는 하지 않음 (zip 스트림 유지)
+    }
+
+    private static void writeText(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+}
@@ -0,0 +1,38 @@
+package com.runningapp.service.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.dto.activity.ActivityResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON: 줄마다 ActivityResponse JSON 1개 (API 응답과 같은 필드/날짜 형식)
+ *
+ * JsonGenerator 1개를 재사용 (활동마다 ObjectMapper.writeValueAsString으로 String을 만들지 않음)
+ */
+public class NdjsonExportWriter implements ActivityExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator generator;
+
+    public NdjsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.objectMapper = objectMapper;
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);  // 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+    }
+
+    @Override
+    public void write(RunningActivity activity) throws IOException {
+        objectMapper.writeValue(generator, ActivityResponse.from(activity));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,187 @@
+package com.runningapp.service.importer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * Apple Health export.xml 스트리밍 파서 (StAX)
+ *
+ * export.xml은 수 GB까지 커지고 대부분이 Record(걸음 수, 심박 샘플 등) → 요소를 순서대로 흘려 읽으며
+ * 러닝 Workout만 골라 HealthWorkout으로 넘김 (Record는 객체로 만들지 않음)
+ *
+ * Workout 형식 (iOS 버전에 따라 둘 중 하나 또는 둘 다):
+ * - 속성: duration/durationUnit, totalDistance/totalDistanceUnit, totalEnergyBurned/totalEnergyBurnedUnit
+ * - 자식: WorkoutStatistics (DistanceWalkingRunning sum, ActiveEnergyBurned sum, HeartRate average)
+ * - 경로: WorkoutRoute/FileReference path → zip 안의 workout-routes/*.gpx
+ */
+public class HealthExportParser {
+
+    private static final String RUNNING = "HKWorkoutActivityTypeRunning";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z");
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    /**
+     * @param sink 러닝 Workout 1건을 다 읽을 때마다 호출 (시작 시간/시간이 없는 Workout은 null)
+     * @throws XMLStreamException XML이 깨졌거나 Apple Health 내보내기가 아닌 경우
+     */
+    public void parse(InputStream input, Consumer<HealthWorkout> sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // 루트 요소까지 건너뜀 (XML 선언, 내장 DTD)
+            }
+            if (!reader.isStartElement() || !"HealthData".equals(reader.getLocalName())) {
+                throw new XMLStreamException("Apple Health 내보내기 파일이 아닙니다");
+            }
+
+            WorkoutBuilder workout = null;
+            boolean inRoute = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "Workout" -> workout = RUNNING.equals(reader.getAttributeValue(null, "workoutActivityType"))
+                                ? new WorkoutBuilder(reader) : null;
+                        case "WorkoutStatistics" -> {
+                            if (workout != null) workout.statistics(reader);
+                        }
+                        case "WorkoutRoute" -> inRoute = workout != null;
+                        case "FileReference" -> {
+                            if (inRoute) workout.routePath = reader.getAttributeValue(null, "path");
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "WorkoutRoute" -> inRoute = false;
+                        case "Workout" -> {
+                            if (workout != null) sink.accept(workout.build());
+                            workout = null;
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /** 예: 2024-05-01 06:30:00 +0900 → 한국 시간 LocalDateTime */
+    static LocalDateTime parseDate(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(text, DATE_FORMAT)
+                    .atZoneSameInstant(TrackAccumulator.KST)
+                    .toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static class WorkoutBuilder {
+        private final LocalDateTime startedAt;
+        private final LocalDateTime endedAt;
+        private double seconds;
+        private double kilometers;
+        private double kilocalories;
+        private double heartRate;
+        private String routePath;
+
+        WorkoutBuilder(XMLStreamReader reader) {
+            startedAt = parseDate(reader.getAttributeValue(null, "startDate"));
+            endedAt = parseDate(reader.getAttributeValue(null, "endDate"));
+            seconds = seconds(number(reader.getAttributeValue(null, "duration")),
+                    reader.getAttributeValue(null, "durationUnit"));
+            kilometers = kilometers(number(reader.getAttributeValue(null, "totalDistance")),
+                    reader.getAttributeValue(null, "totalDistanceUnit"));
+            kilocalories = kilocalories(number(reader.getAttributeValue(null, "totalEnergyBurned")),
+                    reader.getAttributeValue(null, "totalEnergyBurnedUnit"));
+        }
+
+        /** 속성에 값이 없을 때만 WorkoutStatistics로 채움 (둘 다 있으면 같은 값) */
+        void statistics(XMLStreamReader reader) {
+            String type = reader.getAttributeValue(null, "type");
+            String unit = reader.getAttributeValue(null, "unit");
+            if (type == null) {
+                return;
+            }
+            switch (type) {
+                case "HKQuantityTypeIdentifierDistanceWalkingRunning" -> {
+                    if (kilometers <= 0) kilometers = kilometers(number(reader.getAttributeValue(null, "sum")), unit);
+                }
+                case "HKQuantityTypeIdentifierActiveEnergyBurned" -> {
+                    if (kilocalories <= 0) kilocalories = kilocalories(number(reader.getAttributeValue(null, "sum")), unit);
+                }
+                case "HKQuantityTypeIdentifierHeartRate" -> heartRate = number(reader.getAttributeValue(null, "average"));
+                default -> {
+                }
+            }
+        }
+
+        HealthWorkout build() {
+            if (seconds <= 0 && startedAt != null && endedAt != null) {
+                seconds = Duration.between(startedAt, endedAt).toSeconds();
+            }
+            if (startedAt == null || seconds <= 0) {
+                return null;
+            }
+            return new HealthWorkout(
+                    startedAt,
+                    (int) Math.round(seconds),
+                    kilometers > 0 ? Math.round(kilometers * 100) / 100.0 : null,
+                    kilocalories > 0 ? (int) Math.round(kilocalories) : null,
+                    heartRate > 0 ? (int) Math.round(heartRate) : null,
+                    routePath);
+        }
+
+        private static double seconds(double value, String unit) {
+            if ("s".equals(unit)) return value;
+            if ("hr".equals(unit)) return value * 3600;
+            return value * 60;  // 기본 단위 min
+        }
+
+        private static double kilometers(double value, String unit) {
+            if ("m".equals(unit)) return value / 1000;
+            if ("mi".equals(unit)) return value * 1.609344;
+            return value;  // km
+        }
+
+        private static double kilocalories(double value, String unit) {
+            return "kJ".equals(unit) ? value / 4.184 : value;  // kcal (Cal)
+        }
+    }
+
+    private static double number(String text) {
+        if (text == null) {
+            return 0;
+        }
+        try {
+            double value = Double.parseDouble(text.strip());
+            return Double.isNaN(value) || value < 0 ? 0 : value;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** export.xml 앞부분의 내장 DTD 선언은 읽지 않고 건너뜀 (DTD/외부 엔티티 비활성화) */
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,154 @@
+package com.runningapp.service.importer;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Apple Health 가져오기 작업 상태
+ *
+ * 파싱 스레드와 청크 처리 스레드가 동시에 갱신 → 카운터는 Atomic, 상태/시각은 volatile
+ * 상태 조회 API는 이 객체를 그대로 읽음 (별도 저장소 없음, 인스턴스 로컬)
+ */
+public class HealthImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Long userId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile long totalBytes;  // export.xml 크기 (압축 해제 기준), 진행률 분모
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicInteger workouts = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    /** 같은 파일 안의 중복 Workout (워치/폰에서 각각 기록) 판정용 시작 시간 */
+    private final Set<LocalDateTime> claimed = ConcurrentHashMap.newKeySet();
+
+    public HealthImportJob(String id, Long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+
+    public void start(long totalBytes) {
+        this.totalBytes = totalBytes;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    /** 이 작업에서 처음 보는 시작 시간이면 true */
+    public boolean claim(LocalDateTime startedAt) {
+        return claimed.add(startedAt);
+    }
+
+    public void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    public void addWorkouts(int count) {
+        workouts.addAndGet(count);
+    }
+
+    public void addImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void addDuplicates(int count) {
+        duplicates.addAndGet(count);
+    }
+
+    public void addSkipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    public void addFailed(int count) {
+        failed.addAndGet(count);
+    }
+
+    /** 진행률 0~100 (export.xml을 읽은 바이트 기준, 완료 시 100) */
+    public double getProgress() {
+        if (status == Status.COMPLETED) {
+            return 100;
+        }
+        if (totalBytes <= 0) {
+            return 0;
+        }
+        return Math.min(99.9, Math.floor(bytesRead.get() * 1000.0 / totalBytes) / 10);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public int getWorkouts() {
+        return workouts.get();
+    }
+
+    public int getImported() {
+        return imported.get();
+    }
+
+    public int getDuplicates() {
+        return duplicates.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,18 @@
+package com.runningapp.service.importer;
+
+import java.time.LocalDateTime;
+
+/**
+ * Apple Health export.xml의 러닝 Workout 1건
+ *
+ * @param distance  km (기록이 없으면 null → 경로 GPX 거리 사용)
+ * @param routePath WorkoutRoute/FileReference 경로 (예: /workout-routes/route_2024-05-01_6.30am.gpx), 없으면 null
+ */
+public record HealthWorkout(
+        LocalDateTime startedAt,
+        int duration,
+        Double distance,
+        Integer calories,
+        Integer averageHeartRate,
+        String routePath) {
+}
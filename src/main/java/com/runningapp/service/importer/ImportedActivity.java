@@ -0,0 +1,22 @@
+package com.runningapp.service.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일에서 읽어 집계까지 끝난 활동 1건 (저장 직전 형태)
+ *
+ * route는 RunningActivity.route와 같은 저장 형식: [{lat, lng, timestamp(epoch ms)}, ...]
+ */
+public record ImportedActivity(
+        double distance,
+        int duration,
+        Integer averagePace,
+        Integer calories,
+        Integer averageHeartRate,
+        Integer cadence,
+        List<Map<String, Object>> route,
+        LocalDateTime startedAt,
+        String memo) {
+}
@@ -0,0 +1,234 @@
+package com.runningapp.service.importer;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트랙 1개(GPX trk / TCX Activity)의 집계를 포인트가 들어올 때마다 갱신
+ *
+ * 포인트 목록을 모았다가 계산하지 않음 → 포인트 수와 무관하게 집계 상태는 고정 크기
+ * - 거리: 세그먼트 내 연속 포인트 간 하버사인 합 (TCX에 누적 DistanceMeters/Lap 합계가 있으면 그 값 우선)
+ * - 시간: Lap TotalTimeSeconds 합 (TCX, 정지 시간 제외) 또는 첫 포인트 ~ 마지막 포인트
+ * - 심박/케이던스: 합계/개수만 유지
+ * - 경로: 위도/경도/시각을 primitive 배열에 저장, maxRoutePoints를 넘으면 한 칸 건너 하나씩 버리고
+ *   최소 간격을 두 배로 늘림 (몇 시간짜리 1초 기록이어도 경로 메모리 상한 고정)
+ */
+class TrackAccumulator {
+
+    static final ZoneOffset KST = ZoneOffset.ofHours(9);  // startedAt은 한국 시간 기준 LocalDateTime
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final int maxRoutePoints;
+
+    private String name;
+    private long firstTime = Long.MIN_VALUE;
+    private long lastTime = Long.MIN_VALUE;
+    private Instant lapStartTime;  // 시각 있는 포인트가 없는 TCX (수동 입력) 대비
+
+    private double gpsMeters;
+    private double lastLat = Double.NaN;
+    private double lastLng = Double.NaN;
+    private double maxCumulativeMeters;
+
+    private double lapSeconds;
+    private double lapMeters;
+    private int lapCalories;
+
+    private long heartRateSum;
+    private int heartRateCount;
+    private long cadenceSum;
+    private int cadenceCount;
+
+    // 경로 (다운샘플링)
+    private double[] routeLat = new double[64];
+    private double[] routeLng = new double[64];
+    private long[] routeTime = new long[64];
+    private int routeSize;
+    private long routeIntervalMillis;
+    private double pendingLat = Double.NaN;  // 마지막 포인트 (간격 때문에 빠졌어도 경로 끝은 유지)
+    private double pendingLng;
+    private long pendingTime;
+
+    TrackAccumulator(int maxRoutePoints) {
+        this.maxRoutePoints = Math.max(2, maxRoutePoints);
+    }
+
+    void name(String name) {
+        if (name != null && !name.isBlank()) {
+            this.name = name.strip();
+        }
+    }
+
+    /** 새 세그먼트 시작 (GPX trkseg, TCX Track) - 세그먼트 사이 이동은 거리에 포함하지 않음 */
+    void segmentBreak() {
+        lastLat = Double.NaN;
+        lastLng = Double.NaN;
+    }
+
+    /** TCX Lap StartTime (첫 Lap만 사용) */
+    void lapStart(Instant startTime) {
+        if (lapStartTime == null) {
+            lapStartTime = startTime;
+        }
+    }
+
+    /** TCX Lap 합계 */
+    void lap(double totalTimeSeconds, double distanceMeters, int calories) {
+        lapSeconds += totalTimeSeconds;
+        lapMeters += distanceMeters;
+        lapCalories += calories;
+    }
+
+    /**
+     * 트랙 포인트 1개
+     *
+     * @param time             시각 (없으면 null → 시간/경로에서 제외)
+     * @param cumulativeMeters TCX 누적 거리 (없으면 NaN)
+     * @param heartRate        bpm (없으면 0)
+     * @param cadence          한쪽 발 기준 RPM (없으면 0) → SPM으로 2배
+     */
+    void point(double lat, double lng, Instant time, double cumulativeMeters, int heartRate, int cadence) {
+        boolean hasPosition = !Double.isNaN(lat) && !Double.isNaN(lng);
+        if (hasPosition) {
+            if (!Double.isNaN(lastLat)) {
+                gpsMeters += haversine(lastLat, lastLng, lat, lng);
+            }
+            lastLat = lat;
+            lastLng = lng;
+        }
+        if (!Double.isNaN(cumulativeMeters)) {
+            maxCumulativeMeters = Math.max(maxCumulativeMeters, cumulativeMeters);
+        }
+        if (heartRate > 0) {
+            heartRateSum += heartRate;
+            heartRateCount++;
+        }
+        if (cadence > 0) {
+            cadenceSum += cadence * 2L;
+            cadenceCount++;
+        }
+        if (time == null) {
+            return;
+        }
+
+        long millis = time.toEpochMilli();
+        if (firstTime == Long.MIN_VALUE) {
+            firstTime = millis;
+        }
+        lastTime = Math.max(lastTime, millis);
+        if (hasPosition) {
+            sample(lat, lng, millis);
+        }
+    }
+
+    /** 집계 결과 (시간/거리가 없으면 저장할 수 없으므로 null) */
+    ImportedActivity build() {
+        if (firstTime == Long.MIN_VALUE) {
+            if (lapStartTime == null || lapSeconds <= 0) {
+                return null;
+            }
+            firstTime = lapStartTime.toEpochMilli();
+        }
+        double meters = lapMeters > 0 ? lapMeters : maxCumulativeMeters > 0 ? maxCumulativeMeters : gpsMeters;
+        int duration = (int) Math.round(lapSeconds > 0 ? lapSeconds : (lastTime - firstTime) / 1000.0);
+        double distanceKm = Math.round(meters / 10.0) / 100.0;  // 소수 둘째 자리 (10m)
+        if (duration <= 0 || distanceKm <= 0) {
+            return null;
+        }
+
+        return new ImportedActivity(
+                distanceKm,
+                duration,
+                (int) Math.round(duration / (meters / 1000.0)),
+                lapCalories > 0 ? lapCalories : null,
+                heartRateCount > 0 ? (int) Math.round((double) heartRateSum / heartRateCount) : null,
+                cadenceCount > 0 ? (int) Math.round((double) cadenceSum / cadenceCount) : null,
+                route(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(firstTime), KST),
+                name);
+    }
+
+    /** 현재 보관 중인 경로 포인트 수 (테스트/메모리 확인용) */
+    int routeSize() {
+        return routeSize;
+    }
+
+    private void sample(double lat, double lng, long millis) {
+        pendingLat = lat;
+        pendingLng = lng;
+        pendingTime = millis;
+        if (routeSize > 0 && millis - routeTime[routeSize - 1] < routeIntervalMillis) {
+            return;
+        }
+        if (routeSize == maxRoutePoints) {
+            decimate();
+            if (millis - routeTime[routeSize - 1] < routeIntervalMillis) {
+                return;
+            }
+        }
+        if (routeSize == routeLat.length) {
+            int capacity = Math.min(maxRoutePoints, routeSize * 2);
+            routeLat = Arrays.copyOf(routeLat, capacity);
+            routeLng = Arrays.copyOf(routeLng, capacity);
+            routeTime = Arrays.copyOf(routeTime, capacity);
+        }
+        routeLat[routeSize] = lat;
+        routeLng[routeSize] = lng;
+        routeTime[routeSize] = millis;
+        routeSize++;
+        pendingLat = Double.NaN;
+    }
+
+    /** 짝수 번째만 남기고 최소 간격을 남은 포인트 평균 간격으로 */
+    private void decimate() {
+        int kept = 0;
+        for (int i = 0; i < routeSize; i += 2) {
+            routeLat[kept] = routeLat[i];
+            routeLng[kept] = routeLng[i];
+            routeTime[kept] = routeTime[i];
+            kept++;
+        }
+        routeSize = kept;
+        long span = routeTime[routeSize - 1] - routeTime[0];
+        routeIntervalMillis = Math.max(routeIntervalMillis * 2, span / Math.max(1, routeSize - 1));
+    }
+
+    /** 저장 형식으로 변환 (활동 1건 저장 직전에만 객체 생성) */
+    private List<Map<String, Object>> route() {
+        if (routeSize == 0) {
+            return null;
+        }
+        boolean appendLast = !Double.isNaN(pendingLat);
+        List<Map<String, Object>> route = new ArrayList<>(routeSize + (appendLast ? 1 : 0));
+        for (int i = 0; i < routeSize; i++) {
+            route.add(point(routeLat[i], routeLng[i], routeTime[i]));
+        }
+        if (appendLast) {
+            route.add(point(pendingLat, pendingLng, pendingTime));
+        }
+        return route;
+    }
+
+    private static Map<String, Object> point(double lat, double lng, long timestamp) {
+        Map<String, Object> point = new LinkedHashMap<>(4);
+        point.put("lat", lat);
+        point.put("lng", lng);
+        point.put("timestamp", timestamp);
+        return point;
+    }
+
+    static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,264 @@
+package com.runningapp.service.importer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * GPX / TCX 스트리밍 파서 (StAX)
+ *
+ * 파일 전체를 DOM이나 List로 올리지 않고 요소 단위로 읽으면서 TrackAccumulator에 바로 반영
+ * → 트랙 1개가 끝날 때마다 ImportedActivity를 sink로 넘기고 버림 (메모리는 트랙 1개분 집계 상태만 사용)
+ *
+ * - GPX: trk 1개 = 활동 1건 (trkpt lat/lon, time, extensions의 hr/cad)
+ * - TCX: Activity 1개 = 활동 1건 (Lap 합계, Trackpoint Position/Time/DistanceMeters/HeartRateBpm/RunCadence)
+ * - 네임스페이스는 무시하고 local name으로 판단 (Garmin/Strava/Polar 확장 접두사가 제각각)
+ * - DTD/외부 엔티티 비활성화 (XXE 방지)
+ */
+public class TrackFileParser {
+
+    public enum Format {
+        GPX, TCX
+    }
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private final int maxRoutePoints;
+
+    public TrackFileParser(int maxRoutePoints) {
+        this.maxRoutePoints = maxRoutePoints;
+    }
+
+    /**
+     * @param sink 트랙 1개를 다 읽을 때마다 호출 (저장할 수 없는 트랙 - 시간/거리 없음, 자전거 - 은 null)
+     * @return 파일 형식
+     * @throws XMLStreamException XML이 깨졌거나 GPX/TCX가 아닌 경우
+     */
+    public Format parse(InputStream input, Consumer<ImportedActivity> sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // 루트 요소까지 건너뜀 (XML 선언, 주석)
+            }
+            if (!reader.isStartElement()) {
+                throw new XMLStreamException("빈 파일입니다");
+            }
+            String root = reader.getLocalName();
+            if ("gpx".equals(root)) {
+                parseGpx(reader, sink);
+                return Format.GPX;
+            }
+            if ("TrainingCenterDatabase".equals(root)) {
+                parseTcx(reader, sink);
+                return Format.TCX;
+            }
+            throw new XMLStreamException("GPX/TCX 파일이 아닙니다 (루트 요소: " + root + ")");
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void parseGpx(XMLStreamReader reader, Consumer<ImportedActivity> sink) throws XMLStreamException {
+        TrackAccumulator track = null;
+        boolean inPoint = false;
+        double lat = Double.NaN, lng = Double.NaN;
+        Instant time = null;
+        int heartRate = 0, cadence = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "trk" -> track = new TrackAccumulator(maxRoutePoints);
+                    case "trkseg" -> {
+                        if (track != null) track.segmentBreak();
+                    }
+                    case "trkpt" -> {
+                        inPoint = track != null;
+                        lat = parseDouble(reader.getAttributeValue(null, "lat"));
+                        lng = parseDouble(reader.getAttributeValue(null, "lon"));
+                        time = null;
+                        heartRate = 0;
+                        cadence = 0;
+                    }
+                    case "name" -> {
+                        if (track != null && !inPoint) track.name(reader.getElementText());
+                    }
+                    case "time" -> {
+                        if (inPoint) time = parseTime(reader.getElementText());
+                    }
+                    case "hr" -> {
+                        if (inPoint) heartRate = parseInt(reader.getElementText());
+                    }
+                    case "cad" -> {
+                        if (inPoint) cadence = parseInt(reader.getElementText());
+                    }
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "trkpt" -> {
+                        if (inPoint) track.point(lat, lng, time, Double.NaN, heartRate, cadence);
+                        inPoint = false;
+                    }
+                    case "trk" -> {
+                        if (track != null) sink.accept(track.build());
+                        track = null;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    private void parseTcx(XMLStreamReader reader, Consumer<ImportedActivity> sink) throws XMLStreamException {
+        TrackAccumulator track = null;
+        boolean inLap = false, inPoint = false, inHeartRate = false;
+        double lapSeconds = 0, lapMeters = 0;
+        int lapCalories = 0;
+        double lat = Double.NaN, lng = Double.NaN, meters = Double.NaN;
+        Instant time = null;
+        int heartRate = 0, cadence = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Activity" -> track = isRunning(reader.getAttributeValue(null, "Sport"))
+                            ? new TrackAccumulator(maxRoutePoints) : null;
+                    case "Lap" -> {
+                        inLap = track != null;
+                        if (inLap) track.lapStart(parseTime(reader.getAttributeValue(null, "StartTime")));
+                        lapSeconds = 0;
+                        lapMeters = 0;
+                        lapCalories = 0;
+                    }
+                    case "Track" -> {
+                        if (track != null) track.segmentBreak();
+                    }
+                    case "Trackpoint" -> {
+                        inPoint = track != null;
+                        lat = Double.NaN;
+                        lng = Double.NaN;
+                        meters = Double.NaN;
+                        time = null;
+                        heartRate = 0;
+                        cadence = 0;
+                    }
+                    case "HeartRateBpm" -> inHeartRate = inPoint;
+                    case "Value" -> {
+                        if (inHeartRate) heartRate = parseInt(reader.getElementText());
+                    }
+                    case "Time" -> {
+                        if (inPoint) time = parseTime(reader.getElementText());
+                    }
+                    case "LatitudeDegrees" -> {
+                        if (inPoint) lat = parseDouble(reader.getElementText());
+                    }
+                    case "LongitudeDegrees" -> {
+                        if (inPoint) lng = parseDouble(reader.getElementText());
+                    }
+                    case "DistanceMeters" -> {
+                        if (inPoint) {
+                            meters = parseDouble(reader.getElementText());
+                        } else if (inLap) {
+                            lapMeters = positive(parseDouble(reader.getElementText()));
+                        }
+                    }
+                    case "TotalTimeSeconds" -> {
+                        if (inLap && !inPoint) lapSeconds = positive(parseDouble(reader.getElementText()));
+                    }
+                    case "Calories" -> {
+                        if (inLap && !inPoint) lapCalories = parseInt(reader.getElementText());
+                    }
+                    case "Cadence", "RunCadence" -> {
+                        if (inPoint) cadence = parseInt(reader.getElementText());
+                    }
+                    case "Notes" -> {
+                        if (track != null && !inLap) track.name(reader.getElementText());
+                    }
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "HeartRateBpm" -> inHeartRate = false;
+                    case "Trackpoint" -> {
+                        if (inPoint) track.point(lat, lng, time, meters, heartRate, cadence);
+                        inPoint = false;
+                    }
+                    case "Lap" -> {
+                        if (inLap) track.lap(lapSeconds, lapMeters, lapCalories);
+                        inLap = false;
+                    }
+                    case "Activity" -> {
+                        sink.accept(track != null ? track.build() : null);  // 자전거 기록도 건너뜀으로 집계
+                        track = null;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    /** 러닝 앱이므로 자전거 기록은 건너뜀 (Sport 속성이 없거나 Other면 가져옴) */
+    private static boolean isRunning(String sport) {
+        return sport == null || !"Biking".equalsIgnoreCase(sport);
+    }
+
+    /** ISO-8601 (Z/오프셋 포함이 일반적, 오프셋 없으면 UTC로 간주) */
+    static Instant parseTime(String text) {
+        if (text == null) {
+            return null;
+        }
+        String value = text.strip();
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static double parseDouble(String text) {
+        if (text == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(text.strip());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static int parseInt(String text) {
+        double value = parseDouble(text);
+        return Double.isNaN(value) || value < 0 ? 0 : (int) Math.round(value);
+    }
+
+    private static double positive(double value) {
+        return Double.isNaN(value) || value < 0 ? 0 : value;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
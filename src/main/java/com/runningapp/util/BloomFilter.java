@@ -0,0 +1,93 @@
+package com.runningapp.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter (thread-safe, 조회 시 할당 없음)
+ *
+ * - mightContain == false: 확실히 없음
+ * - mightContain == true: 있을 수도 있음 (오탐 가능) → 호출자가 정확한 저장소로 확인
+ *
+ * 해싱: FNV-1a 64bit(+fmix)를 두 32bit 값으로 나눠 k개 위치 계산 (Kirsch-Mitzenmacher)
+ * 비트 배열: AtomicLongArray → 동시 put에서도 비트 유실 없음
+ * 삭제 불가 → 항목이 빠져야 하면 새로 만들어 교체
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int mask;
+    private final int hashCount;
+
+    /** @param bitCount 비트 수 (2의 거듭제곱으로 올림) */
+    public BloomFilter(int bitCount, int hashCount) {
+        int size = Integer.highestOneBit(Math.max(bitCount - 1, Long.SIZE - 1)) << 1;
+        this.bits = new AtomicLongArray(size / Long.SIZE);
+        this.mask = size - 1;
+        this.hashCount = hashCount;
+    }
+
+    /** 예상 항목 수와 목표 오탐률로 크기/해시 수 계산 */
+    public static BloomFilter forExpectedInsertions(long expectedInsertions, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int bitCount = (int) Math.min(optimalBits, 1L << 30);
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(CharSequence value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bits.getAndAccumulate(bit >>> 6, 1L << bit, (current, flag) -> current | flag);
+        }
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 현재 채워진 비트 비율 기준 예상 오탐률 = (set bits / m)^k */
+    public double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / (mask + 1L), hashCount);
+    }
+
+    public int bitSize() {
+        return mask + 1;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /** FNV-1a 64bit + murmur3 fmix64 (charAt 순회, 할당 없음) */
+    private static long hash64(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // 상위/하위 비트를 고르게 섞어 두 32bit 해시의 상관관계 제거
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
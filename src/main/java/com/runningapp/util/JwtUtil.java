@@ -1,5 +1,8 @@
 package com.runningapp.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +11,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 유틸리티 (생성, 검증, 파싱)
@@ -16,23 +21,49 @@ import java.util.Date;
  * - payload의 subject에 userId 저장
  * - HMAC-SHA256으로 서명 (secretKey)
  * - @Value: application.yml에서 설정 주입
+ *
+ * 검증 최적화:
+ * - JwtParser는 thread-safe → 한 번만 생성해서 재사용
+ * - parseAndVerify: 파싱 + 서명 검증을 한 번에 수행하고 Claims 반환
+ * - 검증된 토큰 LRU 캐시: 같은 토큰 재요청 시 HMAC 계산 생략
+ *   (크기 제한 + 토큰 만료 시각에 맞춰 엔트리 만료)
+ *
+ * 액세스 토큰은 수명이 짧고(기본 15분) jti(토큰 ID)를 포함
+ * → 로그아웃 시 jti를 TokenRevocationList에 등록해 만료 전에도 차단
+ * → 장기 세션은 RefreshTokenService의 리프레시 토큰으로 재발급
+ *
+ * 프로퍼티:
+ * - jwt.expiration-ms: 액세스 토큰 유효 시간
+ * - jwt.verified-cache-size: 검증 캐시 최대 토큰 수 (기본값: 10000, 0이면 비활성화)
  */
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long expirationMs;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
-                   @Value("${jwt.expiration-ms}") long expirationMs) {
+                   @Value("${jwt.expiration-ms}") long expirationMs,
+                   @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
         // secret은 최소 256비트(32자) 권장
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .executor(Runnable::run)  // 제거를 호출 스레드에서 바로 수행 → 크기 0이면 즉시 제거(실제로 비활성화)
+                .build();
     }
 
-    /** JWT 토큰 생성 */
+    /** JWT 액세스 토큰 생성 (jti: 폐기 목록 식별용 랜덤 ID) */
     public String generateToken(Long userId, String email) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .claim("email", email)
                 .issuedAt(new Date())
@@ -41,26 +72,66 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰 파싱 + 서명/만료 검증 (한 번만 수행)
+     *
+     * 최근 검증된 토큰은 캐시에서 바로 반환 (만료 시각이 지나면 캐시에서도 제거됨)
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public Claims parseAndVerify(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(token, claims);
+        return claims;
+    }
+
+    /** 액세스 토큰 유효 시간 (ms) */
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
     /** JWT에서 userId 추출 (subject에 저장됨) */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(parseAndVerify(token).getSubject());
     }
 
     /** 토큰 유효성 검증 (만료, 서명) */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseAndVerify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+
+    /** 캐시 엔트리 수명 = 토큰 남은 유효 시간 (exp 클레임 기준) */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;  // 만료 없는 토큰은 캐싱하지 않음 (매번 검증)
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.runningapp.util;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 import java.util.Map;
 
@@ -24,6 +25,19 @@ import java.util.Map;
  * ));
  * </pre>
  *
+ * 빌더 방식 (할당 최소화, 요청 경로 권장):
+ * <pre>
+ * LogUtils.atInfo(log)
+ *     .field("activityId", 123L)
+ *     .field("distance", 5.5)
+ *     .log("활동 저장");
+ * </pre>
+ *
+ * 성능:
+ * - 모든 메서드는 레벨 확인 후에만 인자 생성 (꺼진 레벨은 할당 없음)
+ * - 메시지 패턴("{} {} ...")은 필드 개수별로 미리 만들어 재사용 (호출마다 문자열 연결 없음)
+ * - 빌더는 필드 전체를 하나의 인자로 전달하고 primitive setter로 박싱 생략 (StructuredLog 참고)
+ *
  * JSON 출력 예시:
  * <pre>
  * {
@@ -37,43 +51,77 @@ import java.util.Map;
 @Slf4j
 public final class LogUtils {
 
+    // PATTERNS[n] = "{} {} ... {}" (n개): 메시지 1개 + 필드 n-1개
+    private static final int CACHED_PATTERNS = 16;
+    private static final String[] PATTERNS = new String[CACHED_PATTERNS + 1];
+
+    static {
+        for (int i = 0; i <= CACHED_PATTERNS; i++) {
+            PATTERNS[i] = "{} ".repeat(i).trim();
+        }
+    }
+
     private LogUtils() {
         // 유틸리티 클래스
     }
 
+    // ========== 빌더 ==========
+
+    public static StructuredLog atInfo(Logger logger) {
+        return logger.isInfoEnabled() ? new StructuredLog(logger, Level.INFO) : StructuredLog.NOOP;
+    }
+
+    public static StructuredLog atWarn(Logger logger) {
+        return logger.isWarnEnabled() ? new StructuredLog(logger, Level.WARN) : StructuredLog.NOOP;
+    }
+
+    public static StructuredLog atError(Logger logger) {
+        return logger.isErrorEnabled() ? new StructuredLog(logger, Level.ERROR) : StructuredLog.NOOP;
+    }
+
+    public static StructuredLog atDebug(Logger logger) {
+        return logger.isDebugEnabled() ? new StructuredLog(logger, Level.DEBUG) : StructuredLog.NOOP;
+    }
+
     // ========== INFO 레벨 ==========
 
     /**
      * INFO 로그 - 단일 필드
      */
     public static void info(Logger logger, String message, String key, Object value) {
-        logger.info(message + " {}", StructuredArguments.kv(key, value));
+        if (logger.isInfoEnabled()) {
+            logger.info(PATTERNS[2], message, StructuredArguments.kv(key, value));
+        }
     }
 
     /**
      * INFO 로그 - 다중 필드
      */
     public static void info(Logger logger, String message, Map<String, Object> fields) {
-        Object[] args = fields.entrySet().stream()
-                .map(e -> StructuredArguments.kv(e.getKey(), e.getValue()))
-                .toArray();
-        logger.info(message + " " + "{} ".repeat(args.length).trim(), args);
+        if (logger.isInfoEnabled()) {
+            Object[] args = toArguments(message, fields, null);
+            logger.info(pattern(args.length), args);
+        }
     }
 
     /**
      * INFO 로그 - 키-값 쌍
      */
     public static void info(Logger logger, String message, Object... keyValues) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
         if (keyValues.length % 2 != 0) {
             logger.info(message);
             return;
         }
 
-        Object[] args = new Object[keyValues.length / 2];
+        Object[] args = new Object[keyValues.length / 2 + 1];
+        args[0] = message;
         for (int i = 0; i < keyValues.length; i += 2) {
-            args[i / 2] = StructuredArguments.kv(String.valueOf(keyValues[i]), keyValues[i + 1]);
+            args[i / 2 + 1] = StructuredArguments.kv(String.valueOf(keyValues[i]), keyValues[i + 1]);
         }
-        logger.info(message + " " + "{} ".repeat(args.length).trim(), args);
+        logger.info(pattern(args.length), args);
     }
 
     // ========== WARN 레벨 ==========
@@ -82,17 +130,19 @@ public final class LogUtils {
      * WARN 로그 - 단일 필드
      */
     public static void warn(Logger logger, String message, String key, Object value) {
-        logger.warn(message + " {}", StructuredArguments.kv(key, value));
+        if (logger.isWarnEnabled()) {
+            logger.warn(PATTERNS[2], message, StructuredArguments.kv(key, value));
+        }
     }
 
     /**
      * WARN 로그 - 다중 필드
      */
     public static void warn(Logger logger, String message, Map<String, Object> fields) {
-        Object[] args = fields.entrySet().stream()
-                .map(e -> StructuredArguments.kv(e.getKey(), e.getValue()))
-                .toArray();
-        logger.warn(message + " " + "{} ".repeat(args.length).trim(), args);
+        if (logger.isWarnEnabled()) {
+            Object[] args = toArguments(message, fields, null);
+            logger.warn(pattern(args.length), args);
+        }
     }
 
     // ========== ERROR 레벨 ==========
@@ -101,20 +151,20 @@ public final class LogUtils {
      * ERROR 로그 - 예외 포함
      */
     public static void error(Logger logger, String message, Throwable t, String key, Object value) {
-        logger.error(message + " {}", StructuredArguments.kv(key, value), t);
+        if (logger.isErrorEnabled()) {
+            logger.error(PATTERNS[2], message, StructuredArguments.kv(key, value), t);
+        }
     }
 
     /**
      * ERROR 로그 - 예외 + 다중 필드
      */
     public static void error(Logger logger, String message, Throwable t, Map<String, Object> fields) {
-        Object[] args = new Object[fields.size() + 1];
-        int i = 0;
-        for (Map.Entry<String, Object> entry : fields.entrySet()) {
-            args[i++] = StructuredArguments.kv(entry.getKey(), entry.getValue());
+        if (logger.isErrorEnabled()) {
+            Object[] args = toArguments(message, fields, t);
+            // 마지막 인자(Throwable)는 패턴 자리 없이 스택트레이스로 출력
+            logger.error(pattern(args.length - 1), args);
         }
-        args[i] = t;
-        logger.error(message + " " + "{} ".repeat(fields.size()).trim(), args);
     }
 
     // ========== DEBUG 레벨 ==========
@@ -124,7 +174,7 @@ public final class LogUtils {
      */
     public static void debug(Logger logger, String message, String key, Object value) {
         if (logger.isDebugEnabled()) {
-            logger.debug(message + " {}", StructuredArguments.kv(key, value));
+            logger.debug(PATTERNS[2], message, StructuredArguments.kv(key, value));
         }
     }
 
@@ -133,10 +183,28 @@ public final class LogUtils {
      */
     public static void debug(Logger logger, String message, Map<String, Object> fields) {
         if (logger.isDebugEnabled()) {
-            Object[] args = fields.entrySet().stream()
-                    .map(e -> StructuredArguments.kv(e.getKey(), e.getValue()))
-                    .toArray();
-            logger.debug(message + " " + "{} ".repeat(args.length).trim(), args);
+            Object[] args = toArguments(message, fields, null);
+            logger.debug(pattern(args.length), args);
         }
     }
+
+    // ========== 내부 ==========
+
+    /** [message, kv..., (throwable)] 배열 생성 (stream 없이 한 번에) */
+    private static Object[] toArguments(String message, Map<String, Object> fields, Throwable t) {
+        Object[] args = new Object[fields.size() + (t != null ? 2 : 1)];
+        args[0] = message;
+        int i = 1;
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            args[i++] = StructuredArguments.kv(entry.getKey(), entry.getValue());
+        }
+        if (t != null) {
+            args[i] = t;
+        }
+        return args;
+    }
+
+    private static String pattern(int placeholders) {
+        return placeholders <= CACHED_PATTERNS ? PATTERNS[placeholders] : "{} ".repeat(placeholders).trim();
+    }
 }
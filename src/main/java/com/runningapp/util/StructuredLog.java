@@ -0,0 +1,191 @@
+package com.runningapp.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 빌더 방식 구조화 로그 (LogUtils.atInfo(log) 등으로 시작)
+ *
+ * <pre>
+ * LogUtils.atInfo(log)
+ *         .field("userId", userId)
+ *         .field("distance", 5.5)
+ *         .log("활동 저장 완료");
+ * </pre>
+ *
+ * 할당 최소화:
+ * - 레벨이 꺼져 있으면 공유 NOOP 인스턴스 반환 → 필드 설정/로그 호출 모두 할당 없음
+ * - long/double/boolean 전용 setter → 박싱 없이 배열에 저장
+ * - 모든 필드를 하나의 StructuredArgument로 전달 → 필드별 kv 객체, 패턴 문자열 연결 없음
+ *
+ * 필드가 1개뿐이면 LogUtils.info(log, message, key, value)가 더 적게 할당함 (배열 생성 없음)
+ *
+ * 비동기 appender가 로그 이벤트를 나중에 직렬화하므로 인스턴스는 log() 호출 후 재사용하지 않음
+ * JSON 출력은 StructuredArguments.kv와 동일 (필드별 최상위 키)
+ */
+public class StructuredLog implements StructuredArgument {
+
+    private static final String PATTERN = "{} {}";
+    private static final int INITIAL_CAPACITY = 4;  // 대부분의 로그는 필드 4개 이하
+
+    private static final byte LONG = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte OBJECT = 3;
+
+    /** 레벨이 꺼져 있을 때 반환되는 인스턴스 (아무것도 하지 않음) */
+    static final StructuredLog NOOP = new StructuredLog(null, null) {
+        @Override
+        public StructuredLog field(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public StructuredLog field(String key, double value) {
+            return this;
+        }
+
+        @Override
+        public StructuredLog field(String key, boolean value) {
+            return this;
+        }
+
+        @Override
+        public StructuredLog field(String key, Object value) {
+            return this;
+        }
+
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(String message, Throwable t) {
+        }
+    };
+
+    private final Logger logger;
+    private final Level level;
+
+    private int size;
+    private String[] keys;
+    private byte[] types;
+    private long[] primitives;  // long, double(raw bits), boolean(0/1)
+    private Object[] objects;   // OBJECT 타입일 때만 생성
+
+    StructuredLog(Logger logger, Level level) {
+        this.logger = logger;
+        this.level = level;
+    }
+
+    public StructuredLog field(String key, long value) {
+        int index = add(key, LONG);
+        primitives[index] = value;
+        return this;
+    }
+
+    public StructuredLog field(String key, int value) {
+        return field(key, (long) value);
+    }
+
+    public StructuredLog field(String key, double value) {
+        int index = add(key, DOUBLE);
+        primitives[index] = Double.doubleToRawLongBits(value);
+        return this;
+    }
+
+    public StructuredLog field(String key, boolean value) {
+        int index = add(key, BOOLEAN);
+        primitives[index] = value ? 1 : 0;
+        return this;
+    }
+
+    public StructuredLog field(String key, Object value) {
+        int index = add(key, OBJECT);
+        if (objects == null) {
+            objects = new Object[keys.length];
+        }
+        objects[index] = value;
+        return this;
+    }
+
+    public void log(String message) {
+        switch (level) {
+            case ERROR -> logger.error(PATTERN, message, this);
+            case WARN -> logger.warn(PATTERN, message, this);
+            case INFO -> logger.info(PATTERN, message, this);
+            case DEBUG -> logger.debug(PATTERN, message, this);
+            default -> logger.trace(PATTERN, message, this);
+        }
+    }
+
+    public void log(String message, Throwable t) {
+        switch (level) {
+            case ERROR -> logger.error(PATTERN, message, this, t);
+            case WARN -> logger.warn(PATTERN, message, this, t);
+            case INFO -> logger.info(PATTERN, message, this, t);
+            case DEBUG -> logger.debug(PATTERN, message, this, t);
+            default -> logger.trace(PATTERN, message, this, t);
+        }
+    }
+
+    /** 배열 확보 후 인덱스 반환 (호출부에서 primitives[add(..)] 형태로 쓰면 배열 참조가 먼저 평가되므로 주의) */
+    private int add(String key, byte type) {
+        if (keys == null) {
+            keys = new String[INITIAL_CAPACITY];
+            types = new byte[INITIAL_CAPACITY];
+            primitives = new long[INITIAL_CAPACITY];
+        } else if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            if (objects != null) {
+                objects = Arrays.copyOf(objects, capacity);
+            }
+        }
+        keys[size] = key;
+        types[size] = type;
+        return size++;
+    }
+
+    /** JSON 출력: 필드별 최상위 키 (LogstashEncoder의 arguments provider가 호출) */
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        for (int i = 0; i < size; i++) {
+            switch (types[i]) {
+                case LONG -> generator.writeNumberField(keys[i], primitives[i]);
+                case DOUBLE -> generator.writeNumberField(keys[i], Double.longBitsToDouble(primitives[i]));
+                case BOOLEAN -> generator.writeBooleanField(keys[i], primitives[i] != 0);
+                default -> {
+                    generator.writeFieldName(keys[i]);
+                    generator.writeObject(objects[i]);
+                }
+            }
+        }
+    }
+
+    /** 메시지 출력: "key=value key2=value2" (StructuredArguments.kv와 동일 형식) */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(size * 16);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(keys[i]).append('=');
+            switch (types[i]) {
+                case LONG -> sb.append(primitives[i]);
+                case DOUBLE -> sb.append(Double.longBitsToDouble(primitives[i]));
+                case BOOLEAN -> sb.append(primitives[i] != 0);
+                default -> sb.append(objects[i]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.runningapp.replay;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 분포 + 오류 집계
+ *
+ * - latency: 예정 송신 시각(start + offset/speed) 기준 → 서버가 밀려 디스패처/커넥션이 늦어진 시간까지 포함
+ *   (coordinated omission 보정, 실제 사용자가 체감하는 지연)
+ * - serviceTime: 실제 송신 시각 기준 → 서버 처리 시간만 (latency와 차이가 크면 부하가 용량 초과)
+ * - errors: "HTTP 500", "timeout", "dropped"(max-in-flight 초과로 미송신), 예외 클래스명 별 건수
+ *
+ * 히스토그램 범위: 1µs ~ 1시간, 유효 숫자 3자리 (ConcurrentHistogram: 여러 응답 스레드가 동시에 기록)
+ */
+class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    final Histogram latency = newHistogram();
+    final Histogram serviceTime = newHistogram();
+    final LongAdder count = new LongAdder();
+    final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void success(long latencyNanos, long serviceNanos) {
+        count.increment();
+        record(latencyNanos, serviceNanos);
+    }
+
+    /** 응답은 받았지만 4xx/5xx 또는 예외 (응답 시간은 분포에 포함) */
+    void failure(String reason, long latencyNanos, long serviceNanos) {
+        count.increment();
+        record(latencyNanos, serviceNanos);
+        errors.computeIfAbsent(reason, k -> new LongAdder()).increment();
+    }
+
+    /** 송신하지 못한 요청 (분포에는 미포함) */
+    void dropped() {
+        count.increment();
+        errors.computeIfAbsent("dropped", k -> new LongAdder()).increment();
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private void record(long latencyNanos, long serviceNanos) {
+        latency.recordValue(clamp(latencyNanos));
+        serviceTime.recordValue(clamp(serviceNanos));
+    }
+
+    private static long clamp(long nanos) {
+        return Math.max(1_000, Math.min(nanos, MAX_TRACKABLE_NANOS));
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(1_000, MAX_TRACKABLE_NANOS, 3);
+    }
+}
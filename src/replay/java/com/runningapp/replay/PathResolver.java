@@ -0,0 +1,125 @@
+package com.runningapp.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로 템플릿의 {id} 치환
+ *
+ * 기록된 ID는 재생 대상 DB에 없으므로, 재생 준비 단계에서 실제 ID 목록을 모아 두고 결정적으로 고름
+ * - /api/activities/{id}: 매핑된 사용자 본인의 활동 (GET /api/activities 첫 페이지) → 타인 활동 403 방지
+ * - /api/challenges/{id}, /api/plans/{id}: 공개 목록 (GET /api/challenges, GET /api/plans)
+ * - 선택: 요청 순번 해시 → 같은 로그/시드면 매번 같은 ID
+ *
+ * 후보가 없으면(활동 없는 사용자 등) 기록된 템플릿 그대로 두지 않고 0으로 치환 → 404로 집계
+ */
+class PathResolver {
+
+    private static final String ID = "{id}";
+    private static final int ACTIVITY_SAMPLE = 50;
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final ObjectMapper mapper;
+    private final UserSessions sessions;
+    private final Duration timeout;
+
+    private final Map<Integer, long[]> activityIds = new ConcurrentHashMap<>();
+    private long[] challengeIds = new long[0];
+    private long[] planIds = new long[0];
+
+    PathResolver(HttpClient client, URI baseUrl, ObjectMapper mapper, UserSessions sessions, Duration timeout) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        this.sessions = sessions;
+        this.timeout = timeout;
+    }
+
+    /** 공개 리소스 ID 목록 수집 (재생 준비 단계, 1회) - 실패해도 재생은 진행 (해당 요청은 404로 집계) */
+    void loadShared() throws InterruptedException {
+        challengeIds = sharedIds("/api/challenges");
+        planIds = sharedIds("/api/plans");
+    }
+
+    private long[] sharedIds(String path) throws InterruptedException {
+        try {
+            return ids(get(path, null, null));
+        } catch (IOException e) {
+            System.err.println("ID 목록 수집 실패, " + path + "/{id} 요청은 0으로 치환: " + e.getMessage());
+            return new long[0];
+        }
+    }
+
+    /** 사용자 본인 활동 ID 수집 (재생 준비 단계, 로그인 직후) */
+    void loadUser(int userIndex) throws IOException, InterruptedException {
+        JsonNode page = get("/api/activities?page=0&size=" + ACTIVITY_SAMPLE,
+                sessions.accessToken(userIndex), sessions.clientIp(userIndex));
+        activityIds.put(userIndex, ids(page.path("content")));
+    }
+
+    /** 템플릿에 {id}가 있으면 치환 (sequence: 요청 순번, 선택 기준) */
+    String resolve(String path, Integer userIndex, long sequence) {
+        int index = path.indexOf(ID);
+        if (index < 0) {
+            return path;
+        }
+        long[] candidates;
+        if (path.startsWith("/api/activities/")) {
+            candidates = userIndex == null ? null : activityIds.get(userIndex);
+        } else if (path.startsWith("/api/challenges/")) {
+            candidates = challengeIds;
+        } else if (path.startsWith("/api/plans/")) {
+            candidates = planIds;
+        } else {
+            candidates = null;
+        }
+        long id = candidates == null || candidates.length == 0
+                ? 0
+                : candidates[(int) Math.floorMod(mix(sequence), (long) candidates.length)];
+        return path.substring(0, index) + id + path.substring(index + ID.length());
+    }
+
+    private JsonNode get(String path, String accessToken, String clientIp) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout).GET();
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        if (clientIp != null) {
+            builder.header("X-Forwarded-For", clientIp);
+        }
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " 실패: HTTP " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private static long[] ids(JsonNode array) {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode node : array) {
+            if (node.hasNonNull("id")) {
+                ids.add(node.get("id").asLong());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
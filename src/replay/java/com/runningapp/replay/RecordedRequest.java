@@ -0,0 +1,73 @@
+package com.runningapp.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기록된 요청 1건 (요청 로그 NDJSON 한 줄)
+ *
+ * <pre>
+ * {"offsetMs": 1520, "method": "GET", "path": "/api/activities/{id}", "userId": 8812}
+ * {"offsetMs": 1533, "method": "GET", "path": "/api/activities", "query": "page=0&size=10", "userId": 17}
+ * {"offsetMs": 1610, "method": "POST", "path": "/api/activities", "userId": 17, "body": {"distance": 5.2, ...}}
+ * </pre>
+ *
+ * - offsetMs: 기록 시작 기준 요청 시각, 대신 timestamp(epoch ms)도 가능 (둘 다 가장 이른 요청을 0으로 맞춤)
+ * - path: URI 템플릿 ({id}는 재생 시 매핑된 사용자의 실제 ID로 치환, PathResolver 참고)
+ * - userId: 기록 당시 사용자 ID (없으면 비인증 요청) → 합성 사용자로 재매핑
+ * - body: 요청 본문 JSON (선택)
+ */
+record RecordedRequest(long offsetMillis, String method, String path, String query, Long userId, JsonNode body) {
+
+    /** 엔드포인트 식별자 (리포트 그룹 기준): "GET /api/activities/{id}" */
+    String endpoint() {
+        return method + " " + path;
+    }
+
+    /** NDJSON 파일 읽기 (빈 줄, #으로 시작하는 줄 무시), offset 순으로 정렬 */
+    static List<RecordedRequest> read(Path file, ObjectMapper mapper) throws IOException {
+        List<RecordedRequest> requests = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                JsonNode node = mapper.readTree(line);
+                if (!node.hasNonNull("method") || !node.hasNonNull("path")) {
+                    throw new IOException(file + ":" + lineNumber + " - method/path 필드 필요");
+                }
+
+                JsonNode time = node.has("offsetMs") ? node.get("offsetMs") : node.get("timestamp");
+                if (time == null) {
+                    throw new IOException(file + ":" + lineNumber + " - offsetMs 또는 timestamp 필드 필요");
+                }
+
+                requests.add(new RecordedRequest(
+                        time.asLong(),
+                        node.get("method").asText().toUpperCase(),
+                        node.get("path").asText(),
+                        node.hasNonNull("query") ? node.get("query").asText() : null,
+                        node.hasNonNull("userId") ? node.get("userId").asLong() : null,
+                        node.hasNonNull("body") ? node.get("body") : null));
+            }
+        }
+        requests.sort(Comparator.comparingLong(RecordedRequest::offsetMillis));
+
+        long start = requests.isEmpty() ? 0 : requests.get(0).offsetMillis();
+        return requests.stream()
+                .map(r -> new RecordedRequest(r.offsetMillis() - start, r.method(), r.path(), r.query(), r.userId(), r.body()))
+                .toList();
+    }
+}
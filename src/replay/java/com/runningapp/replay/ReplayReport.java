@@ -0,0 +1,128 @@
+package com.runningapp.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재생 결과 출력 (콘솔 표 + JSON 파일)
+ *
+ * JSON 구조:
+ * <pre>
+ * {
+ *   "options": {...}, "durationMs": 61234, "requests": 12000, "throughputPerSec": 196.0, "maxScheduleLagMs": 3.1,
+ *   "endpoints": {
+ *     "GET /api/activities": {
+ *       "count": 5000, "errors": {"HTTP 404": 3},
+ *       "latencyMs": {"p50": 4.1, "p90": 9.8, "p99": 31.0, "p999": 80.2, "max": 120.5, "mean": 5.2},
+ *       "serviceTimeMs": {...}
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * 두 리포트 비교: jq '.endpoints["GET /api/activities"].latencyMs' base.json head.json
+ */
+class ReplayReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, EndpointStats> endpoints;
+    private final Map<String, Object> options;
+    private final long durationNanos;
+    private final long maxScheduleLagNanos;
+
+    ReplayReport(Map<String, EndpointStats> endpoints, Map<String, Object> options,
+                 long durationNanos, long maxScheduleLagNanos) {
+        this.endpoints = new TreeMap<>(endpoints);
+        this.options = options;
+        this.durationNanos = durationNanos;
+        this.maxScheduleLagNanos = maxScheduleLagNanos;
+    }
+
+    void print(PrintStream out) {
+        String header = String.format("%-40s %8s %7s %9s %9s %9s %9s %9s",
+                "endpoint", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        out.println(header);
+        out.println("-".repeat(header.length()));
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram h = stats.latency;
+            out.printf("%-40s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), stats.count.sum(), stats.errorCount(),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue()));
+        }
+
+        out.println();
+        out.printf("requests=%d durationMs=%.0f throughputPerSec=%.1f maxScheduleLagMs=%.2f%n",
+                totalRequests(), millis(durationNanos), throughput(), millis(maxScheduleLagNanos));
+
+        endpoints.forEach((endpoint, stats) -> stats.errors.forEach((reason, count) ->
+                out.printf("  error %-40s %-20s %d%n", endpoint, reason, count.sum())));
+    }
+
+    void write(Path file, ObjectMapper mapper) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.set("options", mapper.valueToTree(options));
+        root.put("durationMs", round(millis(durationNanos)));
+        root.put("requests", totalRequests());
+        root.put("throughputPerSec", round(throughput()));
+        root.put("maxScheduleLagMs", round(millis(maxScheduleLagNanos)));
+
+        ObjectNode endpointsNode = root.putObject("endpoints");
+        endpoints.forEach((endpoint, stats) -> {
+            ObjectNode node = endpointsNode.putObject(endpoint);
+            node.put("count", stats.count.sum());
+            ObjectNode errors = node.putObject("errors");
+            new TreeMap<>(stats.errors).forEach((reason, count) -> errors.put(reason, count.sum()));
+            node.set("latencyMs", percentiles(mapper, stats.latency));
+            node.set("serviceTimeMs", percentiles(mapper, stats.serviceTime));
+        });
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+    }
+
+    private ObjectNode percentiles(ObjectMapper mapper, Histogram histogram) {
+        ObjectNode node = mapper.createObjectNode();
+        if (histogram.getTotalCount() == 0) {
+            return node;
+        }
+        node.put("p50", round(millis(histogram.getValueAtPercentile(50))));
+        node.put("p90", round(millis(histogram.getValueAtPercentile(90))));
+        node.put("p99", round(millis(histogram.getValueAtPercentile(99))));
+        node.put("p999", round(millis(histogram.getValueAtPercentile(99.9))));
+        node.put("max", round(millis(histogram.getMaxValue())));
+        node.put("mean", round(histogram.getMean() / NANOS_PER_MILLI));
+        return node;
+    }
+
+    private long totalRequests() {
+        return endpoints.values().stream().map(s -> s.count).mapToLong(LongAdder::sum).sum();
+    }
+
+    private double throughput() {
+        return durationNanos == 0 ? 0 : totalRequests() / (durationNanos / 1e9);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,345 @@
+package com.runningapp.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 운영 트래픽 재생 도구 (기록된 요청 로그 → 실행 중인 인스턴스)
+ *
+ * 사용:
+ * <pre>
+ * # 1) 합성 데이터로 서버 기동 (사용자 수는 --users와 맞춤)
+ * SPRING_PROFILES_ACTIVE=synthetic SYNTHETIC_USERS=10000 ./gradlew bootRun
+ * # 2) 기록된 로그를 2배속으로 재생
+ * ./gradlew replay --args="--log traffic.ndjson --speed 2 --users 10000"
+ * </pre>
+ *
+ * 옵션:
+ * - --log (필수): 요청 로그 NDJSON (형식은 RecordedRequest, 예시 src/replay/resources/sample-traffic.ndjson)
+ * - --base-url: 기본 http://localhost:8080
+ * - --speed: 배속 (2 = 기록보다 2배 빠르게 = 도착률 2배), 기본 1
+ * - --arrival: recorded(기록된 간격 그대로, 기본) | poisson(기록된 평균 도착률 × speed의 포아송 도착, --seed로 고정)
+ * - --users / --password: 서버의 synthetic 프로필 설정과 동일하게 (기본 10000 / password123)
+ * - --max-in-flight: 동시 요청 상한 (기본 1000, 초과분은 보내지 않고 dropped로 집계)
+ * - --timeout: 요청 타임아웃 초 (기본 30)
+ * - --report: JSON 리포트 경로 (기본 build/reports/replay/report.json)
+ *
+ * 오픈 모델: 응답을 기다리지 않고 예정 시각에 보냄 (서버가 느려져도 도착률 유지, k6 closed 모델과 다름)
+ * → 지연은 예정 시각 기준으로 기록 (EndpointStats 참고)
+ *
+ * 재생 준비(로그인, ID 수집)는 측정 구간 밖에서 먼저 수행
+ */
+public class TrafficReplay {
+
+    private static final String REPLAY_EMAIL_DOMAIN = "@runningapp.test";
+
+    private final Options options;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final UserSessions sessions;
+    private final PathResolver resolver;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    TrafficReplay(Options options) {
+        this.options = options;
+        this.baseUrl = URI.create(options.baseUrl);
+        this.timeout = Duration.ofSeconds(options.timeoutSeconds);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        this.sessions = new UserSessions(client, baseUrl, mapper, options.users, options.password, timeout);
+        this.resolver = new PathResolver(client, baseUrl, mapper, sessions, timeout);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        new TrafficReplay(options).run();
+    }
+
+    void run() throws IOException, InterruptedException {
+        List<RecordedRequest> requests = RecordedRequest.read(Path.of(options.log), mapper);
+        if (requests.isEmpty()) {
+            System.out.println("재생할 요청 없음: " + options.log);
+            return;
+        }
+        System.out.printf("요청 %d건 로드 (기록 구간 %.1f초)%n",
+                requests.size(), requests.get(requests.size() - 1).offsetMillis() / 1000.0);
+
+        prepare(requests);
+        long[] schedule = schedule(requests);
+
+        Semaphore inFlight = new Semaphore(options.maxInFlight);
+        long maxLagNanos = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < requests.size(); i++) {
+            long intended = start + schedule[i];
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - intended);
+            dispatch(requests.get(i), i, intended, inFlight);
+        }
+
+        // 남은 응답 대기 (최대 타임아웃 + 여유 5초)
+        if (!inFlight.tryAcquire(options.maxInFlight, options.timeoutSeconds + 5L, TimeUnit.SECONDS)) {
+            System.err.println("응답 대기 시간 초과: " + (options.maxInFlight - inFlight.availablePermits()) + "건 미완료");
+        }
+        long duration = System.nanoTime() - start;
+        sessions.close();
+
+        ReplayReport report = new ReplayReport(stats, options.toMap(), duration, maxLagNanos);
+        System.out.println();
+        report.print(System.out);
+        Path reportFile = Path.of(options.report);
+        report.write(reportFile, mapper);
+        System.out.println("리포트: " + reportFile.toAbsolutePath());
+    }
+
+    /** 재생 준비: 공개 ID 수집 + 기록된 사용자별 로그인/활동 ID 수집 (측정 구간 밖) */
+    private void prepare(List<RecordedRequest> requests) throws IOException, InterruptedException {
+        resolver.loadShared();
+
+        TreeSet<Integer> users = new TreeSet<>();
+        for (RecordedRequest request : requests) {
+            if (request.userId() != null) {
+                users.add(sessions.map(request.userId()));
+            }
+        }
+        System.out.printf("합성 사용자 %d명 로그인 중...%n", users.size());
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int user : users) {
+                futures.add(pool.submit(() -> {
+                    sessions.login(user);
+                    resolver.loadUser(user);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IOException("재생 준비 실패: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 요청별 송신 예정 시각 (start 기준 ns) */
+    private long[] schedule(List<RecordedRequest> requests) {
+        int n = requests.size();
+        long[] schedule = new long[n];
+        long spanMillis = requests.get(n - 1).offsetMillis();
+
+        if (options.arrival == Arrival.POISSON && n > 1 && spanMillis > 0) {
+            // 평균 도착 간격 = 기록 구간 / 요청 수 / speed, 지수 분포
+            double meanGapNanos = spanMillis * 1_000_000.0 / n / options.speed;
+            SplittableRandom random = new SplittableRandom(options.seed);
+            double t = 0;
+            for (int i = 0; i < n; i++) {
+                schedule[i] = (long) t;
+                t += -Math.log(1 - random.nextDouble()) * meanGapNanos;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                schedule[i] = (long) (requests.get(i).offsetMillis() * 1_000_000.0 / options.speed);
+            }
+        }
+        return schedule;
+    }
+
+    private void dispatch(RecordedRequest recorded, long sequence, long intended, Semaphore inFlight) {
+        EndpointStats endpoint = stats.computeIfAbsent(recorded.endpoint(), k -> new EndpointStats());
+        if (!inFlight.tryAcquire()) {
+            endpoint.dropped();
+            return;
+        }
+
+        // 비인증 요청도 IP를 분산 (한 IP에 몰려 Rate Limit 걸리지 않도록)
+        Integer user = recorded.userId() == null ? null : sessions.map(recorded.userId());
+        int ipUser = user != null ? user : sessions.map(sequence);
+
+        HttpRequest request;
+        try {
+            request = build(recorded, sequence, user, ipUser);
+        } catch (IOException | IllegalArgumentException e) {
+            inFlight.release();
+            endpoint.failure(e.getClass().getSimpleName(), 0, 0);
+            return;
+        }
+
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long now = System.nanoTime();
+            inFlight.release();
+            if (error != null) {
+                endpoint.failure(reason(error), now - intended, now - sent);
+                return;
+            }
+            int status = response.statusCode();
+            if (status >= 400) {
+                endpoint.failure("HTTP " + status, now - intended, now - sent);
+                if (status == 401 && user != null) {
+                    sessions.refreshAsync(user);
+                }
+                return;
+            }
+            endpoint.success(now - intended, now - sent);
+            if (user != null && isTokenIssuing(recorded.path())) {
+                sessions.update(user, response.body());
+            }
+        });
+    }
+
+    private HttpRequest build(RecordedRequest recorded, long sequence, Integer user, int ipUser) throws IOException {
+        String path = resolver.resolve(recorded.path(), user, sequence);
+        String uri = recorded.query() == null ? path : path + "?" + recorded.query();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(uri))
+                .timeout(timeout)
+                .header("X-Forwarded-For", sessions.clientIp(ipUser));
+        if (user != null && sessions.accessToken(user) != null) {
+            builder.header("Authorization", "Bearer " + sessions.accessToken(user));
+        }
+
+        JsonNode body = body(recorded, sequence, user != null ? user : ipUser);
+        if (body == null) {
+            builder.method(recorded.method(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(recorded.method(), HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 본문 재작성
+     * - 로그인: 매핑된 합성 사용자 자격 증명
+     * - 회원가입: 실행마다 고유한 이메일 (중복 가입 409 방지)
+     * - refreshToken 필드: 매핑된 사용자의 현재 리프레시 토큰
+     */
+    private JsonNode body(RecordedRequest recorded, long sequence, int user) {
+        String path = recorded.path();
+        if ("/api/auth/login".equals(path)) {
+            return sessions.credentials(user);
+        }
+        if (recorded.body() == null) {
+            return null;
+        }
+        if ("/api/auth/signup".equals(path) && recorded.body().isObject()) {
+            ObjectNode body = recorded.body().deepCopy();
+            body.put("email", "replay-" + runId + "-" + sequence + REPLAY_EMAIL_DOMAIN);
+            return body;
+        }
+        if (recorded.body().has("refreshToken") && sessions.refreshToken(user) != null) {
+            ObjectNode body = recorded.body().deepCopy();
+            body.put("refreshToken", sessions.refreshToken(user));
+            return body;
+        }
+        return recorded.body();
+    }
+
+    private static boolean isTokenIssuing(String path) {
+        return "/api/auth/login".equals(path) || "/api/auth/refresh".equals(path);
+    }
+
+    private static String reason(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+
+    enum Arrival { RECORDED, POISSON }
+
+    /** 명령행 옵션 (--name value 형식) */
+    static class Options {
+        String log;
+        String baseUrl = "http://localhost:8080";
+        double speed = 1.0;
+        Arrival arrival = Arrival.RECORDED;
+        int users = 10_000;
+        String password = "password123";
+        long seed = 42;
+        int maxInFlight = 1_000;
+        int timeoutSeconds = 30;
+        String report = "build/reports/replay/report.json";
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException(name + " 값 누락");
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--log" -> options.log = value;
+                    case "--base-url" -> options.baseUrl = value;
+                    case "--speed" -> options.speed = Double.parseDouble(value);
+                    case "--arrival" -> options.arrival = Arrival.valueOf(value.toUpperCase());
+                    case "--users" -> options.users = Integer.parseInt(value);
+                    case "--password" -> options.password = value;
+                    case "--seed" -> options.seed = Long.parseLong(value);
+                    case "--max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                    case "--timeout" -> options.timeoutSeconds = Integer.parseInt(value);
+                    case "--report" -> options.report = value;
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + name);
+                }
+            }
+            if (options.log == null) {
+                throw new IllegalArgumentException("--log 필수 (요청 로그 NDJSON 경로)");
+            }
+            if (options.speed <= 0 || options.users <= 0 || options.maxInFlight <= 0) {
+                throw new IllegalArgumentException("--speed, --users, --max-in-flight는 양수여야 함");
+            }
+            return options;
+        }
+
+        /** 리포트에 함께 기록 (비밀번호 제외) */
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("log", log);
+            map.put("baseUrl", baseUrl);
+            map.put("speed", speed);
+            map.put("arrival", arrival.name().toLowerCase());
+            map.put("users", users);
+            map.put("seed", seed);
+            map.put("maxInFlight", maxInFlight);
+            map.put("timeoutSeconds", timeoutSeconds);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.runningapp.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 기록된 사용자 → 합성 사용자 매핑 + 로그인 토큰 관리
+ *
+ * - 매핑: 기록된 userId를 해시해 synthetic-{0..users-1}@runningapp.test 중 하나로 고정
+ *   → 같은 기록 사용자는 항상 같은 합성 사용자 (사용자별 요청 비중 유지)
+ * - 클라이언트 IP: 합성 사용자마다 다른 X-Forwarded-For (IP 단위 Rate Limit이 재생 전체를 막지 않도록)
+ * - 토큰: 재생 전 login()으로 미리 발급, 재생 중 401이면 refreshAsync()로 백그라운드 재발급
+ */
+class UserSessions {
+
+    static final String EMAIL_PREFIX = "synthetic-";
+    static final String EMAIL_DOMAIN = "@runningapp.test";
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final ObjectMapper mapper;
+    private final int users;
+    private final String password;
+    private final Duration timeout;
+
+    private final Map<Integer, String> accessTokens = new ConcurrentHashMap<>();
+    private final Map<Integer, String> refreshTokens = new ConcurrentHashMap<>();
+    private final Map<Integer, Boolean> refreshing = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    UserSessions(HttpClient client, URI baseUrl, ObjectMapper mapper, int users, String password, Duration timeout) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        this.users = users;
+        this.password = password;
+        this.timeout = timeout;
+    }
+
+    /** 기록된 userId → 합성 사용자 인덱스 (SplitMix64 해시로 고르게 분산) */
+    int map(long recordedUserId) {
+        long z = recordedUserId * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) Math.floorMod(z ^ (z >>> 31), (long) users);
+    }
+
+    String email(int userIndex) {
+        return EMAIL_PREFIX + userIndex + EMAIL_DOMAIN;
+    }
+
+    /** 사용자별 가상 IP (10.0.0.0/8 내) */
+    String clientIp(int userIndex) {
+        int host = userIndex + 1;
+        return "10." + ((host >> 16) & 0xff) + "." + ((host >> 8) & 0xff) + "." + (host & 0xff);
+    }
+
+    /** 로그인 요청 본문 (기록된 로그인 요청도 매핑된 사용자 자격 증명으로 교체) */
+    ObjectNode credentials(int userIndex) {
+        return mapper.createObjectNode()
+                .put("email", email(userIndex))
+                .put("password", password);
+    }
+
+    /** 현재 액세스 토큰 (없으면 null) - 재생 경로에서 호출, 블로킹 없음 */
+    String accessToken(int userIndex) {
+        return accessTokens.get(userIndex);
+    }
+
+    /** 현재 리프레시 토큰 (기록된 /api/auth/refresh, /logout 본문 치환용) */
+    String refreshToken(int userIndex) {
+        return refreshTokens.get(userIndex);
+    }
+
+    /** 로그인/재발급 응답의 토큰으로 갱신 (리프레시 토큰 회전 대응) */
+    void update(int userIndex, String authResponseBody) {
+        try {
+            JsonNode body = mapper.readTree(authResponseBody);
+            if (body.hasNonNull("accessToken")) {
+                accessTokens.put(userIndex, body.get("accessToken").asText());
+            }
+            if (body.hasNonNull("refreshToken")) {
+                refreshTokens.put(userIndex, body.get("refreshToken").asText());
+            }
+        } catch (IOException ignored) {
+            // 오류 응답 본문 등 토큰이 없으면 기존 토큰 유지
+        }
+    }
+
+    /** 동기 로그인 (재생 준비 단계) */
+    String login(int userIndex) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/auth/login"))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp(userIndex))
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(credentials(userIndex))))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException(email(userIndex) + " 로그인 실패: HTTP " + response.statusCode()
+                    + " (synthetic 프로필로 생성한 사용자 수/비밀번호 확인)");
+        }
+        update(userIndex, response.body());
+        return accessTokens.get(userIndex);
+    }
+
+    /** 401 응답 시 백그라운드 재로그인 (사용자당 동시에 1건만) */
+    void refreshAsync(int userIndex) {
+        if (refreshing.putIfAbsent(userIndex, Boolean.TRUE) != null) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                login(userIndex);
+            } catch (IOException e) {
+                System.err.println("토큰 재발급 실패: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                refreshing.remove(userIndex);
+            }
+        });
+    }
+
+    void close() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,120 @@
+package com.runningapp.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.jayway.jsonpath.JsonPath;
+import com.runningapp.event.listener.AsyncEventProcessor;
+import com.runningapp.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증된 요청의 userId가 @Async 작업 로그까지 전달되는지 (필터 체인 전체 경로)
+ *
+ * 테스트 프로필의 taskExecutor는 동기 실행 → 이 테스트만 운영과 같은 Async-* 풀 + MdcTaskDecorator로 교체
+ * (별도 인메모리 DB → 다른 컨텍스트와 시퀀스 공유 안 함)
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:asyncmdcdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@DisplayName("비동기 작업 MDC 전달 테스트")
+class AsyncMdcPropagationTest {
+
+    @TestConfiguration
+    static class AsyncExecutorConfig {
+
+        @Bean
+        static BeanPostProcessor asyncTaskExecutorReplacer(BusinessMetrics businessMetrics,
+                                                           ThreadResourceAccounting resourceAccounting) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"taskExecutor".equals(beanName)) {
+                        return bean;
+                    }
+                    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+                    executor.setCorePoolSize(1);
+                    executor.setThreadNamePrefix("Async-");
+                    executor.setTaskDecorator(new MdcTaskDecorator(businessMetrics, resourceAccounting));
+                    executor.initialize();
+                    return executor;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(AsyncEventProcessor.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("활동 저장 → Async-* 스레드의 레벨 업데이트 로그에 요청의 userId/requestId")
+    void asyncHandlerLog_hasUserId() throws Exception {
+        String body = "{\"email\":\"async-mdc@test.com\",\"password\":\"password123\",\"nickname\":\"비동기\"}";
+        ResultActions signup = mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(body));
+        Number userId = JsonPath.read(signup.andReturn().getResponse().getContentAsString(), "$.user.id");
+        String token = TestUtils.extractAccessToken(signup);
+
+        mockMvc.perform(post("/api/activities")
+                        .header("Authorization", "Bearer " + token)
+                        .header("X-Request-ID", "mdc12345")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"distance\":5.0,\"duration\":1800,\"startedAt\":\"2025-01-05T07:00:00\"}"))
+                .andExpect(status().isOk());
+
+        ILoggingEvent event = awaitLevelUpdateLog();
+        assertThat(event.getThreadName()).startsWith("Async-");
+        assertThat(event.getMDCPropertyMap())
+                .containsEntry("userId", userId.toString())
+                .containsEntry("requestId", "mdc12345");
+    }
+
+    private ILoggingEvent awaitLevelUpdateLog() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Optional<ILoggingEvent> event = List.copyOf(appender.list).stream()
+                    .filter(e -> e.getFormattedMessage().startsWith("레벨 업데이트 완료"))
+                    .findFirst();
+            if (event.isPresent()) {
+                return event.get();
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("비동기 레벨 업데이트 로그가 기록되지 않음");
+    }
+}
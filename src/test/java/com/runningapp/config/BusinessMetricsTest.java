@@ -0,0 +1,47 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BusinessMetrics 요청별 미터 캐시 테스트")
+class BusinessMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BusinessMetrics metrics = new BusinessMetrics(registry);
+
+    @Test
+    @DisplayName("같은 (method, uri, status)는 같은 Timer에 누적, 다른 status는 별도 Timer")
+    void requestDuration_reusesMeterPerTags() {
+        metrics.recordRequestDuration("GET", "/api/activities/{id}", 200, 1_000_000);
+        metrics.recordRequestDuration("GET", "/api/activities/{id}", 200, 3_000_000);
+        metrics.recordRequestDuration("GET", "/api/activities/{id}", 404, 1_000_000);
+
+        Timer ok = registry.get("runningapp_http_request_duration").tags("status", "200").timer();
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(registry.get("runningapp_http_request_duration").tags("status", "404").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("runningapp_http_request_duration").timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("요청/비동기 작업 자원 사용량, 이벤트 지연 - 태그별로 한 번만 등록")
+    void resourcesAndLag_registeredOncePerTags() {
+        for (int i = 0; i < 3; i++) {
+            metrics.recordRequestQueries("POST", "/api/activities", 2);
+            metrics.recordRequestResources("POST", "/api/activities", 1024, 1_000);
+            metrics.recordAsyncTaskResources("ActivityCompletedEvent", 2048, 2_000);
+            metrics.recordEventHandlerLag("ActivityCompletedEvent", 5_000);
+        }
+
+        assertThat(registry.get("runningapp_http_request_queries").summary().count()).isEqualTo(3);
+        assertThat(registry.get("runningapp_http_request_allocated_bytes").summary().totalAmount()).isEqualTo(3072);
+        assertThat(registry.get("runningapp_http_request_cpu_time").timer().count()).isEqualTo(3);
+        assertThat(registry.get("runningapp_async_task_allocated_bytes").summary().totalAmount()).isEqualTo(6144);
+        assertThat(registry.get("runningapp_async_task_cpu_time").timer().count()).isEqualTo(3);
+        assertThat(registry.get("runningapp_event_handler_lag").timer().count()).isEqualTo(3);
+    }
+}
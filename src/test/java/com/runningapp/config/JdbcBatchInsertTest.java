@@ -0,0 +1,148 @@
+package com.runningapp.config;
+
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.domain.User;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 ID + JDBC 배치 테스트
+ *
+ * IDENTITY였을 때는 활동 N건 저장 = INSERT N번 (행마다 prepare/execute)
+ * 시퀀스(allocationSize 50) + batch_size 50이면 nextval N/50번 + 배치 N/50번
+ * Hibernate Statistics의 prepareStatementCount로 JDBC 문 개수를 검증 (각 테스트는 롤백)
+ */
+@SpringBootTest
+class JdbcBatchInsertTest {
+
+    private static final int ACTIVITIES = 120;  // 배치 3개 (50 + 50 + 20)
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RunningActivityRepository activityRepository;
+
+    @Autowired
+    private IdSequences idSequences;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("활동 120건 INSERT - 행마다가 아닌 배치 단위로 JDBC 문 실행")
+    void saveActivities_batchesInserts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(user("batch-insert@test.com"));
+            activityRepository.saveAll(activities(user));
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ACTIVITIES + 1);
+        // 최대 nextval 4 (users 1 + activities 3) + INSERT 문 2 (테이블별 재사용) + 여유, IDENTITY면 121
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("활동 120건 UPDATE - 같은 UPDATE 문 하나로 배치 실행")
+    void updateActivities_batchesUpdates() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(user("batch-update@test.com"));
+            List<RunningActivity> saved = activityRepository.saveAll(activities(user));
+            entityManager.flush();
+            statistics.clear();
+
+            for (RunningActivity activity : saved) {
+                activity.update(activity.getDistance() + 1, activity.getDuration(), activity.getAveragePace(),
+                        activity.getCalories(), null, null, null, activity.getStartedAt(), "수정");
+            }
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ACTIVITIES);
+        // PreparedStatement 1개를 재사용해 executeBatch 3번 (IDENTITY와 무관하게 batch_size 없으면 120)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기존 ID가 시퀀스보다 앞서면 시작 시 시퀀스를 뒤로 이동 (IDENTITY → 시퀀스 전환)")
+    void align_existingRowsAhead_restartsSequence() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long existingId = 1_000_000;
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname, level, total_distance, created_at) "
+                + "VALUES (?, 'legacy-identity@test.com', 'encoded', '기존', 1, 0, CURRENT_TIMESTAMP)", existingId);
+        try {
+            idSequences.afterSingletonsInstantiated();
+
+            try (Connection connection = dataSource.getConnection()) {
+                long[] ids = idSequences.allocate(connection, "users", IdSequences.ALLOCATION_SIZE + 1);
+                assertThat(ids).hasSize(IdSequences.ALLOCATION_SIZE + 1).doesNotHaveDuplicates();
+                assertThat(ids[0]).isGreaterThan(existingId);
+            }
+        } finally {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", existingId);
+        }
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("encoded")
+                .nickname("배치")
+                .build();
+    }
+
+    private static List<RunningActivity> activities(User user) {
+        List<RunningActivity> activities = new ArrayList<>();
+        LocalDateTime startedAt = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < ACTIVITIES; i++) {
+            activities.add(RunningActivity.builder()
+                    .user(user)
+                    .distance(5.0)
+                    .duration(1800)
+                    .averagePace(360)
+                    .calories(300)
+                    .startedAt(startedAt.minusHours(i))
+                    .build());
+        }
+        return activities;
+    }
+}
@@ -0,0 +1,63 @@
+package com.runningapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,jfr",
+        "app.security.ops-token=test-ops-token",
+        "app.profiling.jfr.max-duration=5s"
+})
+@AutoConfigureMockMvc
+@DisplayName("JFR 프로파일링 엔드포인트 테스트")
+class JfrEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("운영 토큰이 없거나 틀리면 403")
+    void withoutOpsToken_forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").param("duration", "1s"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jfr").param("duration", "1s").header("X-Ops-Token", "wrong"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("지정한 시간만큼 기록한 .jfr 파일을 반환")
+    void record_returnsJfrFile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/actuator/jfr")
+                        .param("duration", "1s")
+                        .param("settings", "profile")
+                        .header("X-Ops-Token", "test-ops-token"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        // JFR 파일 매직 넘버 "FLR\0"
+        assertThat(new String(Arrays.copyOf(body, 3), StandardCharsets.US_ASCII)).isEqualTo("FLR");
+        assertThat(body.length).isGreaterThan(1024);
+    }
+
+    @Test
+    @DisplayName("최대 기록 시간 초과 또는 알 수 없는 설정이면 400")
+    void invalidParameters_badRequest() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").param("duration", "10m").header("X-Ops-Token", "test-ops-token"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/actuator/jfr").param("settings", "everything").header("X-Ops-Token", "test-ops-token"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,192 @@
+package com.runningapp.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoggingFilter 샘플링/SQL 집계 테스트")
+class LoggingFilterTest {
+
+    private LoggingFilter loggingFilter;
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        loggingFilter = new LoggingFilter(new BusinessMetrics(registry), new ThreadResourceAccounting(true));
+        ReflectionTestUtils.setField(loggingFilter, "successSampleRate", 0.0);
+        ReflectionTestUtils.setField(loggingFilter, "errorSampleRate", 1.0);
+        ReflectionTestUtils.setField(loggingFilter, "slowThreshold", Duration.ofSeconds(1));
+
+        logger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("성공 요청 - 샘플링 비율 0이면 로그 없음")
+    void success_notSampled_noLog() throws Exception {
+        MockHttpServletResponse response = perform(200);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("에러 요청 - 완료 로그 1줄만 기록")
+    void error_loggedOnce() throws Exception {
+        perform(404);
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .startsWith("Request completed: GET /api/activities - 404")
+                .endsWith("[error]");
+    }
+
+    @Test
+    @DisplayName("인증된 요청 - JwtAuthenticationFilter가 남긴 userId를 완료 로그 MDC에 설정 후 정리")
+    void authenticatedRequest_completionLogHasUserId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities");
+        loggingFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                req.setAttribute(LoggingFilter.USER_ID, 42L);
+                ((MockHttpServletResponse) res).setStatus(404);
+            }
+        });
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getMDCPropertyMap)
+                .satisfies(mdc -> assertThat(mdc).containsEntry("userId", "42"));
+        assertThat(MDC.get(LoggingFilter.USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("느린 요청 - 샘플링과 무관하게 항상 기록")
+    void slowRequest_alwaysLogged() {
+        assertThat(loggingFilter.logReason(200, 1_500)).isEqualTo("slow");
+        assertThat(loggingFilter.logReason(200, 10)).isNull();
+        assertThat(loggingFilter.logReason(500, 10)).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("요청별 SQL 수/응답 시간/자원 사용량 - 요청 속성과 URI 템플릿별 메트릭에 기록")
+    void queryCount_recordedPerRoute() throws Exception {
+        QueryCountInspector inspector = new QueryCountInspector();
+        inspector.inspect("select 1");  // 이전 요청에서 실행된 SQL은 집계되지 않아야 함
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities/1");
+        loggingFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/activities/{id}");
+                inspector.inspect("select a from running_activities a");
+                inspector.inspect("select u from users u");
+            }
+        });
+
+        assertThat(request.getAttribute(QueryCountInspector.REQUEST_ATTRIBUTE)).isEqualTo(2);
+        DistributionSummary summary = registry.get("runningapp_http_request_queries")
+                .tags("method", "GET", "uri", "/api/activities/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(registry.get("runningapp_http_request_duration")
+                .tags("method", "GET", "uri", "/api/activities/{id}", "status", "200")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("runningapp_http_request_allocated_bytes")
+                .tags("method", "GET", "uri", "/api/activities/{id}")
+                .summary().totalAmount()).isPositive();
+        assertThat(registry.get("runningapp_http_request_cpu_time")
+                .tags("method", "GET", "uri", "/api/activities/{id}")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 요청(내보내기) - 컨트롤러 반환 시점이 아니라 비동기 완료 시점에 응답 시간/완료 로그 기록")
+    void asyncRequest_recordedOnCompletion() throws Exception {
+        ReflectionTestUtils.setField(loggingFilter, "slowThreshold", Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities/export");
+        request.setAsyncSupported(true);
+        loggingFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/activities/export");
+                req.setAttribute(LoggingFilter.USER_ID, 7L);
+                req.startAsync();
+            }
+        });
+
+        assertThat(appender.list).isEmpty();
+        assertThat(registry.find("runningapp_http_request_duration").timer()).isNull();
+        assertThat(MDC.get(LoggingFilter.USER_ID)).isNull();
+
+        request.getAsyncContext().complete();
+
+        assertThat(registry.get("runningapp_http_request_duration")
+                .tags("method", "GET", "uri", "/api/activities/export", "status", "200")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("runningapp_http_request_queries").summary()).isNull();
+        assertThat(registry.find("runningapp_http_request_allocated_bytes").summary()).isNull();
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getFormattedMessage())
+                            .startsWith("Request completed: GET /api/activities/export - 200")
+                            .endsWith("[slow]");
+                    assertThat(event.getMDCPropertyMap()).containsEntry("userId", "7");
+                });
+        assertThat(MDC.get(LoggingFilter.USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("자원 측정 비활성화 - 할당량/CPU 메트릭 기록 안 함")
+    void resourceAccountingDisabled() throws Exception {
+        loggingFilter = new LoggingFilter(new BusinessMetrics(registry), new ThreadResourceAccounting(false));
+        ReflectionTestUtils.setField(loggingFilter, "successSampleRate", 0.0);
+        ReflectionTestUtils.setField(loggingFilter, "errorSampleRate", 1.0);
+        ReflectionTestUtils.setField(loggingFilter, "slowThreshold", Duration.ofSeconds(1));
+
+        perform(200);
+
+        assertThat(registry.find("runningapp_http_request_allocated_bytes").summary()).isNull();
+        assertThat(registry.find("runningapp_http_request_cpu_time").timer()).isNull();
+    }
+
+    private MockHttpServletResponse perform(int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loggingFilter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                ((MockHttpServletResponse) res).setStatus(status);
+            }
+        });
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package com.runningapp.config;
+
+import com.runningapp.event.ActivityCompletedEvent;
+import com.runningapp.event.EventDispatchContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MdcTaskDecorator 테스트")
+class MdcTaskDecoratorTest {
+
+    private SimpleMeterRegistry registry;
+    private MdcTaskDecorator decorator;
+    private ExecutorService worker;
+    private volatile byte[] allocation;  // JIT가 할당을 제거하지 못하도록 필드에 저장
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        decorator = new MdcTaskDecorator(new BusinessMetrics(registry), new ThreadResourceAccounting(true));
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdownNow();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("요청 스레드의 MDC가 작업 스레드에 전달되고 작업 후 원래대로 복원된다")
+    void propagatesAndRestoresMdc() throws Exception {
+        worker.submit(() -> MDC.put("leftover", "x")).get();
+        MDC.put("requestId", "req12345");
+        MDC.put("userId", "42");
+
+        AtomicReference<Map<String, String>> seen = new AtomicReference<>();
+        worker.submit(decorator.decorate(() -> seen.set(MDC.getCopyOfContextMap()))).get();
+        Map<String, String> after = worker.submit(() -> MDC.getCopyOfContextMap()).get();
+
+        assertThat(seen.get())
+                .containsEntry("requestId", "req12345")
+                .containsEntry("userId", "42")
+                .doesNotContainKey("leftover");
+        assertThat(after).isEqualTo(Map.of("leftover", "x"));
+    }
+
+    @Test
+    @DisplayName("이벤트 디스패치 작업은 eventType을 MDC에 넣고 이벤트별 지연/할당량/CPU 시간을 기록한다")
+    void recordsLagPerEventType() throws Exception {
+        ActivityCompletedEvent event = new ActivityCompletedEvent(this, 1L, 10L, 5.0, LocalDateTime.now());
+        AtomicReference<String> eventType = new AtomicReference<>();
+        AtomicReference<Runnable> decorated = new AtomicReference<>();
+
+        EventDispatchContext.dispatch(event, () -> decorated.set(decorator.decorate(() -> {
+            eventType.set(MDC.get(MdcTaskDecorator.EVENT_TYPE));
+            allocation = new byte[1024 * 1024];
+        })));
+        worker.submit(decorated.get()).get();
+
+        assertThat(eventType.get()).isEqualTo("ActivityCompletedEvent");
+        assertThat(registry.get("runningapp_event_handler_lag")
+                .tag("event", "ActivityCompletedEvent")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("runningapp_async_task_allocated_bytes")
+                .tag("event", "ActivityCompletedEvent")
+                .summary().totalAmount()).isGreaterThanOrEqualTo(1024 * 1024);
+        assertThat(registry.get("runningapp_async_task_cpu_time")
+                .tag("event", "ActivityCompletedEvent")
+                .timer().count()).isEqualTo(1);
+        assertThat(EventDispatchContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("MDC가 비어 있는 스레드에서 제출해도 작업 스레드 MDC가 비워진다")
+    void emptyContext() throws Exception {
+        worker.submit(() -> MDC.put("leftover", "x")).get();
+
+        AtomicReference<Map<String, String>> seen = new AtomicReference<>(new HashMap<>());
+        worker.submit(decorator.decorate(() -> seen.set(MDC.getCopyOfContextMap()))).get();
+
+        assertThat(seen.get()).isNullOrEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rate Limit 버킷 저장소 스트레스 테스트
+ *
+ * 수백만 개의 서로 다른 IP가 RateLimitInterceptor를 통과해도
+ * 버킷 수가 max-buckets 이하로 유지되고 힙 사용량이 늘지 않는지 검증
+ *
+ * 200만 건 + System.gc()는 @Tag("stress") → 기본 test 태스크에서 제외, ./gradlew stressTest로 실행
+ * 기본 test에서는 작은 상한으로 버킷 수 유지만 검증
+ */
+@DisplayName("RateLimit 버킷 저장소 스트레스 테스트")
+class RateLimitBucketStoreStressTest {
+
+    private static final long MAX_BUCKETS = 10_000;
+    private static final int DISTINCT_IPS = 2_000_000;
+    private static final long SMALL_MAX_BUCKETS = 100;
+
+    private RateLimitConfig rateLimitConfig;
+    private RateLimitInterceptor rateLimitInterceptor;
+    private SimpleMeterRegistry registry;
+
+    private void setUp(long maxBuckets) {
+        rateLimitConfig = new RateLimitConfig();
+        ReflectionTestUtils.setField(rateLimitConfig, "enabled", true);
+        ReflectionTestUtils.setField(rateLimitConfig, "maxBuckets", maxBuckets);
+        ReflectionTestUtils.setField(rateLimitConfig, "idleTimeout", Duration.ofMinutes(10));
+        rateLimitConfig.initBucketStores();
+
+        registry = new SimpleMeterRegistry();
+        rateLimitConfig.bindTo(registry);
+
+        rateLimitInterceptor = new RateLimitInterceptor(rateLimitConfig);
+    }
+
+    @Test
+    @DisplayName("상한의 50배 IP 요청 - 버킷 수가 maximumSize 이하로 유지")
+    void distinctIpsBeyondMaximumSize_keepBucketCountBounded() {
+        setUp(SMALL_MAX_BUCKETS);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sendFromDistinctIps(request, response, 0, (int) SMALL_MAX_BUCKETS * 50);
+
+        double liveBuckets = registry.get("cache.size").tag("store", "standard").gauge().value();
+        double evictions = registry.get("cache.evictions").tag("store", "standard").functionCounter().count();
+        assertThat(liveBuckets).isLessThanOrEqualTo(SMALL_MAX_BUCKETS);
+        assertThat(evictions).isGreaterThanOrEqualTo(SMALL_MAX_BUCKETS * 49);
+    }
+
+    @Test
+    @Tag("stress")
+    @DisplayName("200만 개 IP 요청 - 버킷 수 상한 유지, 힙 사용량 일정")
+    void millionsOfDistinctIps_keepBucketCountAndHeapFlat() {
+        setUp(MAX_BUCKETS);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/activities");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // 워밍업: 저장소를 상한까지 채운 뒤 기준 힙 측정
+        sendFromDistinctIps(request, response, 0, (int) MAX_BUCKETS * 2);
+        long baselineHeap = usedHeapAfterGc();
+
+        sendFromDistinctIps(request, response, (int) MAX_BUCKETS * 2, DISTINCT_IPS);
+        long finalHeap = usedHeapAfterGc();
+
+        double liveBuckets = registry.get("cache.size").tag("store", "standard").gauge().value();
+        double evictions = registry.get("cache.evictions").tag("store", "standard").functionCounter().count();
+
+        assertThat(liveBuckets).isLessThanOrEqualTo(MAX_BUCKETS);
+        assertThat(evictions).isGreaterThanOrEqualTo(DISTINCT_IPS - MAX_BUCKETS);
+        // 무제한 Map이었다면 200만 버킷 ≈ 수백 MB 증가
+        assertThat(finalHeap - baselineHeap).isLessThan(64L * 1024 * 1024);
+    }
+
+    private void sendFromDistinctIps(MockHttpServletRequest request, MockHttpServletResponse response,
+                                     int from, int to) {
+        for (int i = from; i < to; i++) {
+            // 10.0.0.0/8 대역: 최대 1677만 개의 서로 다른 IP
+            request.setRemoteAddr("10." + ((i >> 16) & 0xFF) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF));
+            rateLimitInterceptor.preHandle(request, response, null);
+            response.reset();
+        }
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
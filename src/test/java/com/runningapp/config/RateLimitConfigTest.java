@@ -0,0 +1,125 @@
+package com.runningapp.config;
+
+import com.runningapp.exception.RateLimitExceededException;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.batch.BatchingOptimization;
+import io.github.bucket4j.distributed.proxy.optimization.delay.DelayOptimization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RateLimitConfig 단위 테스트 (버킷 모드 선택, Redis 장애 폴백)")
+class RateLimitConfigTest {
+
+    @SuppressWarnings("unchecked")
+    private final ProxyManager<byte[]> proxyManager = mock(ProxyManager.class);
+    @SuppressWarnings("unchecked")
+    private final RemoteBucketBuilder<byte[]> remoteBuilder = mock(RemoteBucketBuilder.class);
+    private final BucketProxy redisBucket = mock(BucketProxy.class);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RateLimitConfig rateLimitConfig;
+
+    @BeforeEach
+    void setUp() {
+        when(proxyManager.builder()).thenReturn(remoteBuilder);
+        when(remoteBuilder.withOptimization(any())).thenReturn(remoteBuilder);
+        when(remoteBuilder.build(any(byte[].class), ArgumentMatchers.<Supplier<BucketConfiguration>>any())).thenReturn(redisBucket);
+        rateLimitConfig = createConfig(proxyManager);
+    }
+
+    @Test
+    @DisplayName("redis 모드 - 일반 API는 로컬 선소비(delaying), 로그인/회원가입은 batching")
+    void redisMode_selectsOptimizationPerStore() {
+        ArgumentCaptor<Optimization> optimizations = ArgumentCaptor.forClass(Optimization.class);
+        ArgumentCaptor<byte[]> keys = ArgumentCaptor.forClass(byte[].class);
+
+        rateLimitConfig.resolveBucket("1.2.3.4");
+        rateLimitConfig.resolveLoginBucket("1.2.3.4");
+        rateLimitConfig.resolveSignupBucket("1.2.3.4");
+
+        verify(remoteBuilder, times(3)).withOptimization(optimizations.capture());
+        verify(remoteBuilder, times(3)).build(keys.capture(), ArgumentMatchers.<Supplier<BucketConfiguration>>any());
+        assertThat(optimizations.getAllValues())
+                .hasExactlyElementsOfTypes(DelayOptimization.class, BatchingOptimization.class, BatchingOptimization.class);
+        assertThat(keys.getAllValues())
+                .extracting(key -> new String(key, StandardCharsets.UTF_8))
+                .containsExactly("rate-limit:standard:1.2.3.4", "rate-limit:login:1.2.3.4", "rate-limit:signup:1.2.3.4");
+    }
+
+    @Test
+    @DisplayName("local 모드 - ProxyManager 없이 인메모리 버킷")
+    void localMode_usesInMemoryBucket() {
+        RateLimitConfig localConfig = createConfig(null);
+
+        assertThat(localConfig.resolveBucket("1.2.3.4")).isNotInstanceOf(BucketProxy.class);
+        assertThat(localConfig.resolveLoginBucket("1.2.3.4").getAvailableTokens()).isEqualTo(15);
+        verifyNoInteractions(proxyManager);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 500 대신 같은 한도의 로컬 버킷으로 제한, 이후 요청은 Redis를 건너뜀")
+    void redisFailure_fallsBackToLocalBucket() throws Exception {
+        when(redisBucket.tryConsumeAndReturnRemaining(anyLong()))
+                .thenThrow(new IllegalStateException("Unable to connect to Redis"));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimitConfig);
+
+        // 로그인 버킷 용량 15 → 15번은 허용, 16번째는 로컬 버킷에서도 429
+        for (int i = 0; i < 15; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(interceptor.preHandle(loginRequest(), response, null)).isTrue();
+            assertThat(response.getHeader("X-Rate-Limit-Remaining")).isEqualTo(String.valueOf(14 - i));
+        }
+        assertThatThrownBy(() -> interceptor.preHandle(loginRequest(), new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // 첫 실패 후 fallback-duration 동안 Redis 버킷을 다시 시도하지 않음 (요청마다 타임아웃 대기 없음)
+        verify(redisBucket, times(1)).tryConsumeAndReturnRemaining(anyLong());
+        assertThat(registry.get("runningapp_rate_limit_fallback_total").tag("store", "login")
+                .functionCounter().count()).isEqualTo(16);
+    }
+
+    private MockHttpServletRequest loginRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private RateLimitConfig createConfig(ProxyManager<byte[]> proxy) {
+        RateLimitConfig config = new RateLimitConfig();
+        ReflectionTestUtils.setField(config, "enabled", true);
+        ReflectionTestUtils.setField(config, "maxBuckets", 1000L);
+        ReflectionTestUtils.setField(config, "idleTimeout", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(config, "prefetchTokens", 10L);
+        ReflectionTestUtils.setField(config, "syncInterval", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "fallbackDuration", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(config, "proxyManager", proxy);
+        config.initBucketStores();
+        config.bindTo(registry);
+        return config;
+    }
+}
@@ -0,0 +1,64 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 지연시간 exemplar 테스트")
+class RequestIdSpanContextTest {
+
+    private static final String OPEN_METRICS = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private PrometheusMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT, new PrometheusRegistry(),
+                Clock.SYSTEM, new RequestIdSpanContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("요청 중 기록된 지연시간 버킷에 requestId가 exemplar로 붙는다")
+    void bucketHasRequestIdExemplar() {
+        Timer timer = timer();
+
+        MDC.put(LoggingFilter.REQUEST_ID, "req12345");
+        timer.record(Duration.ofMillis(180));
+
+        assertThat(registry.scrape(OPEN_METRICS))
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("le=\"0.2\"")
+                .contains("trace_id=\"req12345\"");
+    }
+
+    @Test
+    @DisplayName("요청 밖(requestId 없음)에서 기록되면 exemplar 없음")
+    void noExemplarOutsideRequest() {
+        timer().record(Duration.ofMillis(180));
+
+        assertThat(registry.scrape(OPEN_METRICS)).doesNotContain("trace_id");
+    }
+
+    private Timer timer() {
+        return Timer.builder("http.server.requests")
+                .tags("method", "GET", "uri", "/api/activities/{id}", "status", "200")
+                .serviceLevelObjectives(Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(500))
+                .register(registry);
+    }
+}
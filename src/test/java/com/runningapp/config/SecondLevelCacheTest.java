@@ -0,0 +1,87 @@
+package com.runningapp.config;
+
+import com.runningapp.domain.TrainingPlan;
+import com.runningapp.repository.ChallengeRepository;
+import com.runningapp.repository.TrainingPlanRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 테스트
+ *
+ * 참조 엔티티(Challenge, TrainingPlan, PlanWeek)와 진행중 챌린지 쿼리가
+ * 두 번째 트랜잭션부터 DB 대신 캐시에서 로드되는지 검증
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TrainingPlanRepository planRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("TrainingPlan + weeks 컬렉션 - 두 번째 조회는 2차 캐시 히트")
+    void trainingPlanWithWeeks_secondLoad_hitsCache() {
+        Long planId = planRepository.findAll().get(0).getId();
+
+        // 첫 번째 트랜잭션: DB 조회 후 캐시에 적재
+        transactionTemplate.executeWithoutResult(status -> {
+            TrainingPlan plan = planRepository.findById(planId).orElseThrow();
+            plan.getWeeks().size();
+        });
+        statistics.clear();
+
+        // 두 번째 트랜잭션: 엔티티/컬렉션/주차 모두 캐시에서
+        transactionTemplate.executeWithoutResult(status -> {
+            TrainingPlan plan = planRepository.findById(planId).orElseThrow();
+            assertThat(plan.getWeeks()).isNotEmpty();
+        });
+
+        assertThat(statistics.getDomainDataRegionStatistics("trainingPlan").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("trainingPlanWeeks").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("planWeek").getHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행중인 챌린지 쿼리 - 두 번째 실행은 쿼리 캐시 히트")
+    void activeChallengeQuery_secondCall_hitsQueryCache() {
+        LocalDate today = LocalDate.now();
+
+        transactionTemplate.executeWithoutResult(status -> challengeRepository.findActiveByDate(today));
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(challengeRepository.findActiveByDate(today)).isNotEmpty());
+
+        assertThat(statistics.getQueryRegionStatistics("activeChallengesQuery").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
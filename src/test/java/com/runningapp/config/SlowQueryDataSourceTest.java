@@ -0,0 +1,99 @@
+package com.runningapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("느린 쿼리 기록 테스트")
+class SlowQueryDataSourceTest {
+
+    private SlowQueryLog slowQueryLog;
+    private SlowQueryDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:slowquery;DB_CLOSE_DELAY=-1", "sa", "");
+        // threshold 0: 모든 쿼리 기록, 실행 계획 100% 수집
+        slowQueryLog = new SlowQueryLog(0, 3, 1.0, new SimpleMeterRegistry());
+        dataSource = new SlowQueryDataSource(target, slowQueryLog);
+
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS activity (id BIGINT PRIMARY KEY, user_id BIGINT, started_at TIMESTAMP)");
+            statement.execute("DELETE FROM activity");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLog.destroy();
+    }
+
+    @Test
+    @DisplayName("바인딩 파라미터는 값 없이 타입만 기록된다")
+    void recordsParameterShape() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO activity (id, user_id, started_at) VALUES (?, ?, ?)")) {
+            statement.setLong(1, 1L);
+            statement.setNull(2, java.sql.Types.BIGINT);
+            statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.of(2025, 2, 1, 7, 0)));
+            statement.executeUpdate();
+        }
+
+        SlowQueryLog.SlowQuery entry = slowQueryLog.entries().get(0);
+        assertThat(entry.getSql()).startsWith("INSERT INTO activity");
+        assertThat(entry.getParameterShape()).isEqualTo("[Long, null, Timestamp]");
+        assertThat(entry.getPlan()).isNull();  // SELECT만 실행 계획 수집
+    }
+
+    @Test
+    @DisplayName("SELECT는 실행 계획이 백그라운드로 수집된다")
+    void explainsSelect() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM activity WHERE user_id = ? AND started_at >= ?")) {
+            statement.setLong(1, 42L);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.of(2025, 2, 1, 0, 0)));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+            }
+        }
+
+        SlowQueryLog.SlowQuery entry = slowQueryLog.entries().get(0);
+        assertThat(entry.getParameterShape()).isEqualTo("[Long, Timestamp]");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (entry.getPlan() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(entry.getPlan()).isNotEmpty();
+        assertThat(String.join("\n", entry.getPlan())).containsIgnoringCase("activity").doesNotContain("EXPLAIN 실패");
+    }
+
+    @Test
+    @DisplayName("최근 capacity 건만 최신순으로 보관된다")
+    void keepsMostRecent() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 1; i <= 5; i++) {
+                statement.executeUpdate("INSERT INTO activity (id, user_id) VALUES (" + i + ", 1)");
+            }
+        }
+
+        List<SlowQueryLog.SlowQuery> entries = slowQueryLog.entries();
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(0).getSql()).contains("VALUES (5,");
+        assertThat(entries.get(2).getSql()).contains("VALUES (3,");
+    }
+}
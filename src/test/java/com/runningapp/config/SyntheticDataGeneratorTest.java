@@ -0,0 +1,144 @@
+package com.runningapp.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runningapp.config.SyntheticDataGenerator.ChallengeEntry;
+import com.runningapp.config.SyntheticDataGenerator.SyntheticActivity;
+import com.runningapp.config.SyntheticDataGenerator.SyntheticUser;
+import com.runningapp.domain.Challenge;
+import com.runningapp.domain.ChallengeType;
+import com.runningapp.domain.TrainingPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("합성 데이터 생성기 테스트")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2025, 3, 20);
+
+    private final List<Challenge> challenges = List.of(
+            Challenge.builder().id(1L).type(ChallengeType.DISTANCE).targetDistance(50.0)
+                    .startDate(ANCHOR.withDayOfMonth(1)).endDate(ANCHOR.withDayOfMonth(31)).build(),
+            Challenge.builder().id(2L).type(ChallengeType.COUNT).targetCount(8)
+                    .startDate(ANCHOR.withDayOfMonth(1)).endDate(ANCHOR.withDayOfMonth(31)).build());
+    private final List<TrainingPlan> plans = List.of(
+            TrainingPlan.builder().id(1L).totalWeeks(8).build(),
+            TrainingPlan.builder().id(2L).totalWeeks(10).build());
+
+    private SyntheticDataGenerator generator(long seed) {
+        return new SyntheticDataGenerator(seed, 1.1, 10_000, 0.5, 30, 730, 0.5, 0.5, ANCHOR, challenges, plans);
+    }
+
+    @Test
+    @DisplayName("같은 seed + 사용자 인덱스 → 같은 데이터 (생성 순서 무관)")
+    void sameSeed_sameData() {
+        SyntheticDataGenerator first = generator(42);
+        SyntheticDataGenerator second = generator(42);
+
+        SyntheticUser user7 = first.generateUser(7);
+        second.generateUser(3);  // 다른 사용자를 먼저 생성해도 영향 없음
+
+        assertThat(second.generateUser(7)).isEqualTo(user7);
+        assertThat(generator(43).generateUser(7)).isNotEqualTo(user7);
+    }
+
+    @Test
+    @DisplayName("사용자별 활동 수는 멱법칙 분포 (대부분 적고 소수가 매우 많음)")
+    void activityCounts_followPowerLaw() {
+        SyntheticDataGenerator generator = generator(42);
+        int[] counts = new int[20_000];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = generator.generateUser(i).activities().size();
+        }
+        Arrays.sort(counts);
+
+        assertThat(counts[0]).isGreaterThanOrEqualTo(1);
+        assertThat(counts[counts.length - 1]).isBetween(500, 10_000);
+        assertThat(counts[counts.length / 2]).isLessThanOrEqualTo(3);  // 중앙값
+        double mean = Arrays.stream(counts).average().orElseThrow();
+        assertThat(mean).isBetween(4.0, 9.0);
+    }
+
+    @Test
+    @DisplayName("활동은 기준일 이전 + 합계/레벨이 활동과 일치")
+    void activities_consistentWithUser() {
+        SyntheticUser user = generator(42).generateUser(1);
+
+        double sum = 0;
+        for (SyntheticActivity activity : user.activities()) {
+            assertThat(activity.startedAt()).isBefore(ANCHOR.atStartOfDay()).isAfter(ANCHOR.minusDays(731).atStartOfDay());
+            assertThat(activity.startedAt()).isAfter(user.createdAt());
+            assertThat(activity.distance()).isBetween(1.0, 42.195);
+            assertThat(activity.duration()).isEqualTo((int) Math.round(activity.distance() * activity.averagePace()));
+            sum += activity.distance();
+        }
+        assertThat(user.totalDistance()).isCloseTo(sum, org.assertj.core.data.Offset.offset(0.01));
+        assertThat(user.level()).isEqualTo(com.runningapp.util.LevelCalculator.calculateLevel(user.totalDistance()));
+    }
+
+    @Test
+    @DisplayName("GPS 경로 - 간격/시작 시각/이동 거리가 활동과 맞는 JSON")
+    void routeJson_matchesActivity() throws Exception {
+        SyntheticDataGenerator generator = generator(42);
+        SyntheticActivity activity = findActivityWithRoute(generator);
+
+        List<Map<String, Object>> route = new ObjectMapper()
+                .readValue(generator.routeJson(activity), new TypeReference<>() { });
+
+        assertThat(route).hasSize(activity.duration() / 30 + 1);
+        assertThat(((Number) route.get(0).get("timestamp")).longValue())
+                .isEqualTo(activity.startedAt().toInstant(ZoneOffset.ofHours(9)).toEpochMilli());
+        double stepMeters = 30 * 1000.0 / activity.averagePace();
+        for (int i = 1; i < route.size(); i++) {
+            assertThat(meters(route.get(i - 1), route.get(i))).isLessThan(stepMeters * 1.05);
+        }
+        assertThat(generator.routeJson(activity)).isEqualTo(generator.routeJson(activity));
+    }
+
+    @Test
+    @DisplayName("챌린지 진행률이 목표에 도달하면 완료 시각 기록")
+    void challengeEntries_completedWhenTargetReached() {
+        SyntheticDataGenerator generator = generator(42);
+        int checked = 0;
+        for (int i = 0; i < 2_000; i++) {
+            SyntheticUser user = generator.generateUser(i);
+            for (ChallengeEntry entry : user.challenges()) {
+                boolean reached = entry.challengeId() == 1L ? entry.currentDistance() >= 50.0 : entry.currentCount() >= 8;
+                assertThat(entry.completedAt() != null).isEqualTo(reached);
+                assertThat(entry.joinedAt()).isBefore(ANCHOR.atStartOfDay());
+                checked++;
+            }
+            if (user.plan() != null) {
+                assertThat(user.plan().currentWeek()).isBetween(1, 10);
+            }
+        }
+        assertThat(checked).isPositive();
+    }
+
+    private static SyntheticActivity findActivityWithRoute(SyntheticDataGenerator generator) {
+        for (int i = 0; ; i++) {
+            for (SyntheticActivity activity : generator.generateUser(i).activities()) {
+                if (activity.routeSeed() != 0) {
+                    return activity;
+                }
+            }
+        }
+    }
+
+    private static double meters(Map<String, Object> a, Map<String, Object> b) {
+        double lat1 = ((Number) a.get("lat")).doubleValue();
+        double lat2 = ((Number) b.get("lat")).doubleValue();
+        double dLat = (lat2 - lat1) * 111_320;
+        double dLng = (((Number) b.get("lng")).doubleValue() - ((Number) a.get("lng")).doubleValue())
+                * 111_320 * Math.cos(Math.toRadians(lat1));
+        return Math.hypot(dLat, dLng);
+    }
+}
@@ -0,0 +1,89 @@
+package com.runningapp.config;
+
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.service.SignupEmailFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 로더 통합 테스트 (H2, 소규모)
+ *
+ * JDBC 배치로 넣은 데이터가 JPA 엔티티/서비스에서 그대로 읽히는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:syntheticdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.synthetic-data.users=120",
+        "app.synthetic-data.chunk-size=50",
+        "app.synthetic-data.batch-size=100",
+        "app.synthetic-data.threads=2",
+        "app.synthetic-data.route-probability=0.5"
+})
+@ActiveProfiles({"test", "synthetic"})
+@DisplayName("합성 데이터 로더 테스트")
+class SyntheticDataLoaderTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RunningActivityRepository activityRepository;
+
+    @Autowired
+    private SignupEmailFilter signupEmailFilter;
+
+    @Test
+    @DisplayName("사용자/활동/챌린지 참여 생성 + 누적 거리가 활동 합계와 일치")
+    void loadsConsistentData() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'synthetic-%'", Long.class)).isEqualTo(120);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM running_activities", Long.class)).isGreaterThan(120);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_challenges", Long.class)).isPositive();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM users u
+                WHERE ABS(u.total_distance - (SELECT SUM(a.distance) FROM running_activities a WHERE a.user_id = u.id)) > 0.01
+                """, Long.class)).isZero();
+        assertThat(signupEmailFilter.mightExist(SyntheticDataGenerator.email(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("JDBC로 저장한 GPS 경로 JSON을 엔티티에서 읽을 수 있음")
+    void routeReadableByJpa() {
+        Long activityId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM running_activities WHERE route IS NOT NULL", Long.class);
+
+        RunningActivity activity = activityRepository.findById(activityId).orElseThrow();
+
+        assertThat(activity.getRoute()).isNotEmpty();
+        assertThat(activity.getRoute().get(0)).containsKeys("lat", "lng", "timestamp");
+    }
+
+    @Test
+    @DisplayName("JDBC로 저장한 중복 판정 지문이 엔티티에서 계산한 값과 일치 (경로 해시 포함)")
+    void fingerprintMatchesEntity() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM running_activities WHERE start_bucket IS NULL", Long.class)).isZero();
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT id, start_bucket, distance_bucket, duration_bucket, route_hash FROM running_activities
+                WHERE id = (SELECT MIN(id) FROM running_activities WHERE route IS NOT NULL)
+                """);
+
+        ActivityFingerprint expected = activityRepository.findById(((Number) row.get("id")).longValue())
+                .orElseThrow().fingerprint();
+
+        assertThat(expected.routeHash()).isNotNull();
+        assertThat(((Number) row.get("start_bucket")).intValue()).isEqualTo(expected.startBucket());
+        assertThat(((Number) row.get("distance_bucket")).intValue()).isEqualTo(expected.distanceBucket());
+        assertThat(((Number) row.get("duration_bucket")).intValue()).isEqualTo(expected.durationBucket());
+        assertThat(((Number) row.get("route_hash")).longValue()).isEqualTo(expected.routeHash());
+    }
+}
@@ -1,5 +1,7 @@
 package com.runningapp.controller;
 
+import com.runningapp.domain.User;
+import com.runningapp.repository.UserRepository;
 import com.runningapp.util.TestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +23,9 @@ class AuthControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Nested
     @DisplayName("POST /api/auth/signup")
     class Signup {
@@ -53,6 +58,23 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value("이미 사용 중인 이메일입니다"));
         }
 
+        @Test
+        @DisplayName("중복 이메일 회원가입 실패 - 가입 필터/사전 조회를 통과해도 UNIQUE 제약에서 400")
+        void signup_duplicateEmail_uniqueConstraint_fail() throws Exception {
+            // 가입 API를 거치지 않고 저장 → Bloom filter에 없으므로 사전 중복 조회 생략 (동시 가입과 같은 상황)
+            userRepository.save(User.builder()
+                    .email("race@test.com")
+                    .password("encoded")
+                    .nickname("먼저 가입")
+                    .build());
+
+            mockMvc.perform(post("/api/auth/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"race@test.com\",\"password\":\"password123\",\"nickname\":\"테스터\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("이미 사용 중인 이메일입니다"));
+        }
+
         @Test
         @DisplayName("유효성 검증 실패 - 잘못된 이메일")
         void signup_invalidEmail_fail() throws Exception {
@@ -181,4 +203,91 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.nickname").value("수정된닉네임"));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/auth/refresh, /api/auth/logout")
+    class RefreshAndLogout {
+
+        private ResultActions signup(String email) throws Exception {
+            return mockMvc.perform(post("/api/auth/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"토큰\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("재발급 성공 - 사용한 리프레시 토큰은 재사용 불가")
+        void refresh_rotatesToken() throws Exception {
+            String refreshToken = TestUtils.extractRefreshToken(signup("refresh@test.com"));
+            String body = "{\"refreshToken\":\"" + refreshToken + "\"}";
+
+            ResultActions refreshed = mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accessToken").exists())
+                    .andExpect(jsonPath("$.refreshToken").exists())
+                    .andExpect(jsonPath("$.expiresIn").value(900));
+
+            mockMvc.perform(get("/api/auth/me")
+                            .header("Authorization", "Bearer " + TestUtils.extractAccessToken(refreshed)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.code").value("AUTH_006"));
+        }
+
+        @Test
+        @DisplayName("재사용 탐지 - 폐기된 토큰 사용 시 새로 발급된 토큰까지 전체 폐기")
+        void refresh_reuseDetected_revokesAll() throws Exception {
+            String refreshToken = TestUtils.extractRefreshToken(signup("reuse@test.com"));
+            String body = "{\"refreshToken\":\"" + refreshToken + "\"}";
+
+            String rotated = TestUtils.extractRefreshToken(mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk()));
+
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized());
+
+            mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"refreshToken\":\"" + rotated + "\"}"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("로그아웃 - 액세스 토큰은 만료 전이라도 거부, 리프레시 토큰 폐기")
+        void logout_revokesTokens() throws Exception {
+            ResultActions signupResult = signup("logout@test.com");
+            String accessToken = TestUtils.extractAccessToken(signupResult);
+            String body = "{\"refreshToken\":\"" + TestUtils.extractRefreshToken(signupResult) + "\"}";
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/auth/me").header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("로그아웃 - 다른 사용자의 리프레시 토큰은 폐기하지 않음")
+        void logout_otherUsersRefreshToken_notRevoked() throws Exception {
+            String accessToken = TestUtils.extractAccessToken(signup("logout-owner@test.com"));
+            String othersBody = "{\"refreshToken\":\""
+                    + TestUtils.extractRefreshToken(signup("logout-victim@test.com")) + "\"}";
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON).content(othersBody))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(othersBody))
+                    .andExpect(status().isOk());
+        }
+    }
 }
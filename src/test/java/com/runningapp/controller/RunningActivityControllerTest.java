@@ -13,9 +13,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static com.runningapp.util.QueryCountAssertions.assertQueryCount;
+import static com.runningapp.util.QueryCountAssertions.assertQueryCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -27,6 +32,9 @@ class RunningActivityControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String authToken;
     private String testEmail;
 
@@ -99,6 +107,93 @@ class RunningActivityControllerTest {
                             .content(body))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("이미 저장된 같은 활동 (시작 2분, 거리 50m 차이) - 409")
+        void create_duplicate_fail() throws Exception {
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(activityJson(5.0, 1800, 360, 300, "2025-02-01T07:00:00", null)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(activityJson(5.05, 1830, 362, 300, "2025-02-01T07:02:00", "수동 입력")))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("ACTIVITY_006"));
+
+            mockMvc.perform(get("/api/activities/stats")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalDistance").value(5.0))
+                    .andExpect(jsonPath("$.totalCount").value(1));
+        }
+
+        @Test
+        @DisplayName("Idempotency-Key 재시도 - DB 접근 없이 처음 응답 그대로, 1건만 저장")
+        void create_idempotentRetry() throws Exception {
+            String body = activityJson(5.2, 1800, 346, 300, "2025-02-01T07:00:00", "재시도");
+
+            String first = mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .header("Idempotency-Key", "retry-key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Idempotent-Replayed", "false"))
+                    .andReturn().getResponse().getContentAsString(java.nio.charset.StandardCharsets.UTF_8);
+
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .header("Idempotency-Key", "retry-key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Idempotent-Replayed", "true"))
+                    .andExpect(content().json(first, true))
+                    .andExpect(assertQueryCount(0));
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("Idempotency-Key 재사용 - 다른 본문이면 422")
+        void create_idempotencyKeyReused_fail() throws Exception {
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .header("Idempotency-Key", "retry-key-2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(activityJson(5.2, 1800, 346, 300, "2025-02-01T07:00:00", null)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .header("Idempotency-Key", "retry-key-2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(activityJson(10.0, 3600, 360, 600, "2025-02-02T07:00:00", null)))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.code").value("COMMON_005"));
+        }
+
+        @Test
+        @DisplayName("Idempotency-Key 없으면 요청마다 저장")
+        void create_withoutIdempotencyKey() throws Exception {
+            for (int day = 1; day <= 2; day++) {
+                mockMvc.perform(post("/api/activities")
+                                .header("Authorization", "Bearer " + authToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(activityJson(5.2, 1800, 346, 300, "2025-02-0" + day + "T07:00:00", null)))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist("Idempotent-Replayed"));
+            }
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
     }
 
     @Nested
@@ -277,6 +372,569 @@ class RunningActivityControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/activities/batch")
+    class CreateBatch {
+
+        private String batchJson(String... activities) {
+            return "{\"activities\":[" + String.join(",", activities) + "]}";
+        }
+
+        @Test
+        @DisplayName("일괄 저장 - 유효한 항목만 저장, 항목별 결과 반환")
+        void createBatch_partialSuccess() throws Exception {
+            String body = batchJson(
+                    activityJson(5.0, 1800, 360, 300, "2025-02-01T07:00:00", null),
+                    activityJson(0, 1800, 360, 300, "2025-02-02T07:00:00", null),
+                    activityJson(10.0, 3600, 360, 600, "2025-02-03T07:00:00", null));
+
+            mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(3))
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.failed").value(1))
+                    .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$.results[0].id").isNumber())
+                    .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                    .andExpect(jsonPath("$.results[1].errors.distance").exists())
+                    .andExpect(jsonPath("$.results[2].index").value(2))
+                    .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.content.length()").value(2));
+        }
+
+        @Test
+        @DisplayName("일괄 저장 - 기존 활동/앞 항목과 같은 활동은 DUPLICATE, 빈 값만 기존 활동에 병합")
+        void createBatch_duplicatesMerged() throws Exception {
+            String manual = mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(activityJson(5.0, 1800, null, null, "2025-02-01T07:00:00", "수동 입력")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            long manualId = Long.parseLong(manual.split("\"id\":")[1].split(",")[0]);
+
+            String synced = activityJson(5.08, 1815, 357, 310, "2025-02-01T07:01:30", null);
+            synced = synced.substring(0, synced.length() - 1) + ",\"averageHeartRate\":152}";
+            String body = batchJson(
+                    synced,
+                    activityJson(10.0, 3600, 360, 600, "2025-02-03T07:00:00", null),
+                    activityJson(10.02, 3610, 360, 600, "2025-02-03T07:03:00", null));
+
+            String response = mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(1))
+                    .andExpect(jsonPath("$.duplicates").value(2))
+                    .andExpect(jsonPath("$.failed").value(0))
+                    .andExpect(jsonPath("$.results[0].status").value("DUPLICATE"))
+                    .andExpect(jsonPath("$.results[0].id").value(manualId))
+                    .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                    .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"))
+                    .andReturn().getResponse().getContentAsString();
+            // 같은 요청의 앞 항목과 겹치면 그 항목에 병합
+            Number createdId = com.jayway.jsonpath.JsonPath.read(response, "$.results[1].id");
+            Number mergedId = com.jayway.jsonpath.JsonPath.read(response, "$.results[2].id");
+            assertThat(mergedId.longValue()).isEqualTo(createdId.longValue());
+
+            // 수동 입력 값은 유지하고 빈 값(페이스/칼로리/심박수)만 채움
+            mockMvc.perform(get("/api/activities/" + manualId)
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.distance").value(5.0))
+                    .andExpect(jsonPath("$.memo").value("수동 입력"))
+                    .andExpect(jsonPath("$.averagePace").value(357))
+                    .andExpect(jsonPath("$.averageHeartRate").value(152));
+
+            mockMvc.perform(get("/api/activities/stats")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalDistance").value(15.0))
+                    .andExpect(jsonPath("$.totalCount").value(2));
+        }
+
+        @Test
+        @DisplayName("일괄 저장 - 집계 이벤트 1개로 누적 거리/레벨 반영")
+        void createBatch_updatesTotalDistance() throws Exception {
+            String body = batchJson(
+                    activityJson(5.0, 1800, 360, 300, "2025-02-01T07:00:00", null),
+                    activityJson(7.5, 2700, 360, 450, "2025-02-02T07:00:00", null));
+
+            mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/activities/stats")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalDistance").value(12.5))
+                    .andExpect(jsonPath("$.totalCount").value(2));
+        }
+
+        @Test
+        @DisplayName("최대 건수 초과 시 400")
+        void createBatch_tooMany_fail() throws Exception {
+            String[] activities = new String[101];
+            java.util.Arrays.fill(activities, activityJson(5.0, 1800, 360, 300, "2025-02-01T07:00:00", null));
+
+            mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batchJson(activities)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("ACTIVITY_003"));
+        }
+
+        @Test
+        @DisplayName("빈 목록은 400")
+        void createBatch_empty_fail() throws Exception {
+            mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batchJson()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/activities/import")
+    class ImportFiles {
+
+        private static final String GPX = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1">
+                  <trk><name>GPX 러닝</name><trkseg>
+                    <trkpt lat="37.5000" lon="127.0000"><time>2025-02-01T22:00:00Z</time></trkpt>
+                    <trkpt lat="37.5045" lon="127.0000"><time>2025-02-01T22:02:30Z</time></trkpt>
+                    <trkpt lat="37.5090" lon="127.0000"><time>2025-02-01T22:05:00Z</time></trkpt>
+                  </trkseg></trk>
+                  <trk><name>빈 트랙</name><trkseg/></trk>
+                </gpx>
+                """;
+
+        private static final String TCX = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2">
+                  <Activities><Activity Sport="Running"><Id>2025-02-03T07:00:00+09:00</Id>
+                    <Lap StartTime="2025-02-03T07:00:00+09:00">
+                      <TotalTimeSeconds>1800</TotalTimeSeconds><DistanceMeters>5000</DistanceMeters><Calories>300</Calories>
+                    </Lap>
+                  </Activity></Activities>
+                </TrainingCenterDatabase>
+                """;
+
+        private MockMultipartFile file(String name, String content) {
+            return new MockMultipartFile("files", name, "application/xml", content.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("같은 파일을 다시 가져오면 중복 - 저장 안 함")
+        void importFiles_sameFileTwice_duplicates() throws Exception {
+            mockMvc.perform(multipart("/api/activities/import")
+                            .file(file("run.gpx", GPX))
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1));
+
+            mockMvc.perform(multipart("/api/activities/import")
+                            .file(file("run-copy.gpx", GPX))
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(0))
+                    .andExpect(jsonPath("$.duplicates").value(1))
+                    .andExpect(jsonPath("$.files[0].duplicates").value(1));
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("GPX + TCX 가져오기 - 파일별 결과, 활동 저장 및 통계 반영")
+        void importFiles_success() throws Exception {
+            mockMvc.perform(multipart("/api/activities/import")
+                            .file(file("run.gpx", GPX))
+                            .file(file("run.tcx", TCX))
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.skipped").value(1))
+                    .andExpect(jsonPath("$.files[0].filename").value("run.gpx"))
+                    .andExpect(jsonPath("$.files[0].format").value("GPX"))
+                    .andExpect(jsonPath("$.files[0].imported").value(1))
+                    .andExpect(jsonPath("$.files[0].skipped").value(1))
+                    .andExpect(jsonPath("$.files[1].format").value("TCX"))
+                    .andExpect(jsonPath("$.files[1].imported").value(1));
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].distance").value(5.0))
+                    .andExpect(jsonPath("$.content[0].calories").value(300))
+                    .andExpect(jsonPath("$.content[1].distance").value(1.0))
+                    .andExpect(jsonPath("$.content[1].startedAt").value("2025-02-02T07:00:00"));
+
+            mockMvc.perform(get("/api/activities/stats")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.totalDistance").value(6.0))
+                    .andExpect(jsonPath("$.totalCount").value(2));
+        }
+
+        @Test
+        @DisplayName("깨진 파일은 파일별 오류로 반환, 다른 파일은 저장")
+        void importFiles_brokenFile() throws Exception {
+            mockMvc.perform(multipart("/api/activities/import")
+                            .file(file("broken.gpx", "<gpx><trk><trkseg>"))
+                            .file(file("run.tcx", TCX))
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.files[0].error").exists())
+                    .andExpect(jsonPath("$.files[0].imported").value(0))
+                    .andExpect(jsonPath("$.files[1].error").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("파일 없이 요청 시 400")
+        void importFiles_noFile_fail() throws Exception {
+            mockMvc.perform(multipart("/api/activities/import")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("ACTIVITY_004"));
+        }
+
+        @Test
+        @DisplayName("인증 없이 가져오기 시 403")
+        void importFiles_unauthorized_fail() throws Exception {
+            mockMvc.perform(multipart("/api/activities/import").file(file("run.tcx", TCX)))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/activities/import/apple-health")
+    class ImportAppleHealth {
+
+        private static final String EXPORT = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE HealthData [
+                <!ELEMENT HealthData (ExportDate,Me,(Record|Correlation|Workout|ActivitySummary|ClinicalRecord)*)>
+                ]>
+                <HealthData locale="ko_KR">
+                 <ExportDate value="2025-03-01 10:00:00 +0900"/>
+                 <Record type="HKQuantityTypeIdentifierStepCount" unit="count" value="120"
+                         startDate="2025-01-05 06:00:00 +0900" endDate="2025-01-05 06:01:00 +0900"/>
+                 <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="30" durationUnit="min"
+                          totalDistance="5" totalDistanceUnit="km" totalEnergyBurned="300" totalEnergyBurnedUnit="kcal"
+                          startDate="2025-01-05 07:00:00 +0900" endDate="2025-01-05 07:30:00 +0900">
+                  <WorkoutRoute><FileReference path="/workout-routes/route_2025-01-05_7.00am.gpx"/></WorkoutRoute>
+                 </Workout>
+                 <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="60" durationUnit="min"
+                          totalDistance="10" totalDistanceUnit="km"
+                          startDate="2025-01-06 07:00:00 +0900" endDate="2025-01-06 08:00:00 +0900"/>
+                 <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="30" durationUnit="min"
+                          totalDistance="5" totalDistanceUnit="km"
+                          startDate="2025-01-07 07:00:00 +0900" endDate="2025-01-07 07:30:00 +0900"/>
+                </HealthData>
+                """;
+
+        private static final String ROUTE = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <gpx version="1.1" creator="Apple Health Export" xmlns="http://www.topografix.com/GPX/1/1">
+                 <trk><name>Route 2025-01-05 7:00am</name><trkseg>
+                  <trkpt lon="127.0000" lat="37.5000"><ele>10</ele><time>2025-01-04T22:00:00Z</time></trkpt>
+                  <trkpt lon="127.0000" lat="37.5200"><ele>10</ele><time>2025-01-04T22:15:00Z</time></trkpt>
+                  <trkpt lon="127.0000" lat="37.5450"><ele>10</ele><time>2025-01-04T22:30:00Z</time></trkpt>
+                 </trkseg></trk>
+                </gpx>
+                """;
+
+        private byte[] exportZip() throws Exception {
+            java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+            try (java.util.zip.ZipOutputStream zip = new java.util.zip.ZipOutputStream(bytes)) {
+                zip.putNextEntry(new java.util.zip.ZipEntry("apple_health_export/export.xml"));
+                zip.write(EXPORT.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+                zip.putNextEntry(new java.util.zip.ZipEntry("apple_health_export/workout-routes/route_2025-01-05_7.00am.gpx"));
+                zip.write(ROUTE.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            }
+            return bytes.toByteArray();
+        }
+
+        private ResultActions awaitJob(String location) throws Exception {
+            for (int i = 0; i < 100; i++) {
+                ResultActions result = mockMvc.perform(get(location)
+                        .header("Authorization", "Bearer " + authToken));
+                String body = result.andReturn().getResponse().getContentAsString();
+                if (body.contains("\"COMPLETED\"") || body.contains("\"FAILED\"")) {
+                    return result;
+                }
+                Thread.sleep(100);
+            }
+            throw new AssertionError("가져오기 작업이 끝나지 않음: " + location);
+        }
+
+        @Test
+        @DisplayName("export.zip 가져오기 - 경로 결합, 기존 활동(±1분)은 중복으로 건너뜀")
+        void importAppleHealth_success() throws Exception {
+            mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(activityJson(5.0, 1800, 360, 300, "2025-01-07T07:00:30", null)));
+
+            String location = mockMvc.perform(post("/api/activities/import/apple-health")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType("application/zip")
+                            .content(exportZip()))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId").isString())
+                    .andExpect(header().exists("Location"))
+                    .andReturn().getResponse().getHeader("Location");
+
+            awaitJob(location)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.progress").value(100.0))
+                    .andExpect(jsonPath("$.workouts").value(3))
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.duplicates").value(1))
+                    .andExpect(jsonPath("$.failed").value(0));
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(jsonPath("$.content.length()").value(3))
+                    .andExpect(jsonPath("$.content[1].startedAt").value("2025-01-06T07:00:00"))
+                    .andExpect(jsonPath("$.content[1].distance").value(10.0))
+                    .andExpect(jsonPath("$.content[1].route").doesNotExist())
+                    .andExpect(jsonPath("$.content[2].startedAt").value("2025-01-05T07:00:00"))
+                    .andExpect(jsonPath("$.content[2].averagePace").value(360))
+                    .andExpect(jsonPath("$.content[2].calories").value(300))
+                    .andExpect(jsonPath("$.content[2].route.length()").value(3));
+        }
+
+        @Test
+        @DisplayName("지문이 없는 기존 활동(백필 전)은 시작 시간 ±1분이면 거리가 달라도 중복으로 건너뜀")
+        void importAppleHealth_legacyActivity_skippedByStartTime() throws Exception {
+            mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(activityJson(3.0, 1200, 400, null, "2025-01-06T07:00:40", null)));
+            jdbcTemplate.update("""
+                    UPDATE running_activities SET start_bucket = NULL, distance_bucket = NULL,
+                        duration_bucket = NULL, route_hash = NULL
+                    WHERE user_id = (SELECT id FROM users WHERE email = ?)
+                    """, testEmail);
+
+            String location = mockMvc.perform(post("/api/activities/import/apple-health")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType("application/zip")
+                            .content(exportZip()))
+                    .andReturn().getResponse().getHeader("Location");
+
+            awaitJob(location)
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.duplicates").value(1));
+        }
+
+        @Test
+        @DisplayName("같은 파일을 다시 올리면 전부 중복")
+        void importAppleHealth_reimport_allDuplicates() throws Exception {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                String location = mockMvc.perform(post("/api/activities/import/apple-health")
+                                .header("Authorization", "Bearer " + authToken)
+                                .contentType("application/zip")
+                                .content(exportZip()))
+                        .andReturn().getResponse().getHeader("Location");
+                awaitJob(location)
+                        .andExpect(jsonPath("$.imported").value(attempt == 0 ? 3 : 0))
+                        .andExpect(jsonPath("$.duplicates").value(attempt == 0 ? 0 : 3));
+            }
+        }
+
+        @Test
+        @DisplayName("zip 안에 export.xml이 없으면 작업 FAILED")
+        void importAppleHealth_noExport_failed() throws Exception {
+            java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+            try (java.util.zip.ZipOutputStream zip = new java.util.zip.ZipOutputStream(bytes)) {
+                zip.putNextEntry(new java.util.zip.ZipEntry("readme.txt"));
+                zip.write("hello".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            }
+
+            String location = mockMvc.perform(post("/api/activities/import/apple-health")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType("application/zip")
+                            .content(bytes.toByteArray()))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getHeader("Location");
+
+            awaitJob(location)
+                    .andExpect(jsonPath("$.status").value("FAILED"))
+                    .andExpect(jsonPath("$.error").exists());
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 작업 ID는 404")
+        void getImportJob_otherUser_notFound() throws Exception {
+            String location = mockMvc.perform(post("/api/activities/import/apple-health")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType("application/zip")
+                            .content(exportZip()))
+                    .andReturn().getResponse().getHeader("Location");
+            awaitJob(location);
+
+            String otherEmail = "other-" + UUID.randomUUID() + "@test.com";
+            mockMvc.perform(post("/api/auth/signup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"email\":\"" + otherEmail + "\",\"password\":\"password123\",\"nickname\":\"다른사용자\"}"));
+            String otherToken = TestUtils.extractAccessToken(mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"email\":\"" + otherEmail + "\",\"password\":\"password123\"}")));
+
+            mockMvc.perform(get(location).header("Authorization", "Bearer " + otherToken))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("빈 본문은 400")
+        void importAppleHealth_empty_fail() throws Exception {
+            mockMvc.perform(post("/api/activities/import/apple-health")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType("application/zip")
+                            .content(new byte[0]))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("ACTIVITY_004"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/activities/export")
+    class Export {
+
+        private static final String ROUTE =
+                "[{\"lat\":37.5,\"lng\":127.0,\"timestamp\":1738360800000},{\"lat\":37.51,\"lng\":127.0,\"timestamp\":1738361100000}]";
+
+        private void createWithRoute(String startedAt, String memo) throws Exception {
+            String body = activityJson(5.0, 1800, 360, 300, startedAt, memo);
+            body = body.substring(0, body.length() - 1) + ",\"route\":" + ROUTE + "}";
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        private org.springframework.mock.web.MockHttpServletResponse export(String format) throws Exception {
+            org.springframework.test.web.servlet.MvcResult started = mockMvc.perform(get("/api/activities/export")
+                            .param("format", format)
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            return mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+        }
+
+        @Test
+        @DisplayName("NDJSON - 오래된 순, 줄마다 활동 1건 (경로 포함)")
+        void export_ndjson() throws Exception {
+            createWithRoute("2025-02-02T07:00:00", "둘째");
+            mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(activityJson(3.0, 1200, 400, 200, "2025-02-01T07:00:00", "첫째")));
+
+            org.springframework.mock.web.MockHttpServletResponse response = export("ndjson");
+
+            assertThat(response.getContentType()).startsWith("application/x-ndjson");
+            assertThat(response.getHeader("Content-Disposition")).contains("attachment").contains(".ndjson");
+            String[] lines = response.getContentAsString(java.nio.charset.StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).contains("\"memo\":\"첫째\"").contains("\"startedAt\":\"2025-02-01T07:00:00\"");
+            assertThat(lines[1]).contains("\"memo\":\"둘째\"").contains("\"route\":[{\"lat\":37.5");
+        }
+
+        @Test
+        @DisplayName("CSV - 헤더 + 요약 값, 메모 이스케이프")
+        void export_csv() throws Exception {
+            mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(activityJson(5.0, 1800, 360, null, "2025-02-01T07:00:00", "비, 바람")));
+
+            org.springframework.mock.web.MockHttpServletResponse response = export("csv");
+
+            assertThat(response.getContentType()).startsWith("text/csv");
+            String[] lines = response.getContentAsString(java.nio.charset.StandardCharsets.UTF_8).split("\r\n");
+            assertThat(lines[0]).isEqualTo("\uFEFFid,startedAt,distanceKm,durationSec,averagePace,calories,averageHeartRate,cadence,memo");
+            assertThat(lines[1]).endsWith(",2025-02-01T07:00,5.0,1800,360,,,,\"비, 바람\"");
+        }
+
+        @Test
+        @DisplayName("GPX zip - 경로 있는 활동만 GPX 1개씩")
+        void export_gpxZip() throws Exception {
+            createWithRoute("2025-02-02T07:00:00", "한강");
+            mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(activityJson(3.0, 1200, 400, 200, "2025-02-01T07:00:00", null)));
+
+            org.springframework.mock.web.MockHttpServletResponse response = export("gpx-zip");
+
+            assertThat(response.getContentType()).isEqualTo("application/zip");
+            java.util.List<String> names = new java.util.ArrayList<>();
+            String gpx = null;
+            try (java.util.zip.ZipInputStream zip = new java.util.zip.ZipInputStream(
+                    new java.io.ByteArrayInputStream(response.getContentAsByteArray()))) {
+                for (java.util.zip.ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                    names.add(entry.getName());
+                    gpx = new String(zip.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+                }
+            }
+            assertThat(names).hasSize(1);
+            assertThat(names.get(0)).startsWith("2025-02-02_0700_").endsWith(".gpx");
+            assertThat(gpx).contains("<name>한강</name>")
+                    .contains("<trkpt lat=\"37.5\" lon=\"127.0\"><time>2025-01-31T22:00:00Z</time></trkpt>");
+        }
+
+        @Test
+        @DisplayName("keyset 페이지(500건) 경계를 넘어도 전체 활동을 빠짐없이 순서대로 내보냄")
+        void export_manyActivities() throws Exception {
+            int total = 1050;  // PAGE_SIZE(500) 두 번 넘김
+            for (int offset = 0; offset < total; offset += 100) {
+                String[] activities = new String[Math.min(100, total - offset)];
+                for (int i = 0; i < activities.length; i++) {
+                    activities[i] = activityJson(5.0, 1800, 360, 300,
+                            LocalDate.of(2020, 1, 1).plusDays(offset + i) + "T07:00:00", null);
+                }
+                mockMvc.perform(post("/api/activities/batch")
+                                .header("Authorization", "Bearer " + authToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"activities\":[" + String.join(",", activities) + "]}"))
+                        .andExpect(status().isOk());
+            }
+
+            String[] lines = export("ndjson").getContentAsString().split("\n");
+
+            assertThat(lines).hasSize(total);
+            assertThat(lines[0]).contains("\"startedAt\":\"2020-01-01T07:00:00\"");
+            assertThat(lines[total - 1]).contains("\"startedAt\":\"" + LocalDate.of(2020, 1, 1).plusDays(total - 1) + "T07:00:00\"");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식은 400")
+        void export_unknownFormat_fail() throws Exception {
+            mockMvc.perform(get("/api/activities/export")
+                            .param("format", "xlsx")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/activities/summary")
     class GetSummary {
@@ -322,4 +980,105 @@ class RunningActivityControllerTest {
                     .andExpect(status().isForbidden());
         }
     }
+
+    @Nested
+    @DisplayName("SQL 실행 수 (N+1 회귀 방지)")
+    class QueryCount {
+
+        private Long createActivity(String startedAt) throws Exception {
+            String body = activityJson(5.0, 1500, 300, 250, startedAt, null);
+            ResultActions result = mockMvc.perform(post("/api/activities")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body));
+            return Long.parseLong(result.andReturn().getResponse().getContentAsString()
+                    .split("\"id\":")[1].split(",")[0]);
+        }
+
+        @Test
+        @DisplayName("활동 저장")
+        void create() throws Exception {
+            String body = activityJson(5.2, 1800, 346, 300, "2025-02-01T07:00:00", null);
+
+            mockMvc.perform(post("/api/activities")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    // 중복 판정(지문 인덱스) + 사용자 조회 + INSERT + 완료 이벤트 리스너(레벨/챌린지/플랜, 테스트에서는 동기 실행)
+                    // + ID 블록(50개)을 다 쓴 경우에만 시퀀스 nextval 1
+                    .andExpect(assertQueryCountAtMost(8));
+        }
+
+        @Test
+        @DisplayName("일괄 저장 - 건수와 무관하게 일정 (배치 INSERT + 집계 이벤트 1개)")
+        void createBatch() throws Exception {
+            String[] activities = new String[40];
+            for (int i = 0; i < activities.length; i++) {
+                activities[i] = activityJson(5.0, 1800, 360, 300,
+                        LocalDate.of(2025, 1, 1).plusDays(i) + "T07:00:00", null);
+            }
+
+            mockMvc.perform(post("/api/activities/batch")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"activities\":[" + String.join(",", activities) + "]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(40))
+                    // 사용자 조회 + 중복 판정(지문 인덱스, 건수와 무관하게 1번) + INSERT 배치 + 리스너(레벨/챌린지/플랜)
+                    // + ID 블록 소진 시 nextval
+                    .andExpect(assertQueryCountAtMost(9));
+        }
+
+        @Test
+        @DisplayName("목록 조회 - 활동 수와 무관하게 일정")
+        void getList() throws Exception {
+            for (int day = 1; day <= 5; day++) {
+                createActivity("2025-02-0" + day + "T07:00:00");
+            }
+
+            mockMvc.perform(get("/api/activities")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(5))
+                    // 첫 페이지가 다 차지 않으면 count 쿼리 생략
+                    .andExpect(assertQueryCount(1));
+        }
+
+        @Test
+        @DisplayName("상세 조회")
+        void getOne() throws Exception {
+            Long id = createActivity("2025-02-01T07:00:00");
+
+            mockMvc.perform(get("/api/activities/" + id)
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(assertQueryCount(1));
+        }
+
+        @Test
+        @DisplayName("주간·월간 요약 조회")
+        void getSummary() throws Exception {
+            createActivity(LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + "T07:00:00");
+
+            mockMvc.perform(get("/api/activities/summary")
+                            .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    // 사용자 조회 + 기간 3개 × 집계 3개
+                    .andExpect(assertQueryCount(10));
+        }
+
+        @Test
+        @DisplayName("통계 조회")
+        void getStats() throws Exception {
+            createActivity("2025-02-01T07:00:00");
+
+            mockMvc.perform(get("/api/activities/stats")
+                            .header("Authorization", "Bearer " + authToken)
+                            .param("year", "2025")
+                            .param("month", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(assertQueryCount(3));
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.runningapp.scheduler;
+
+import com.runningapp.domain.ActivityFingerprint;
+import com.runningapp.domain.RunningActivity;
+import com.runningapp.domain.User;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지문 백필 테스트 (지문 컬럼 추가 전 행을 NULL로 만들어 재현)
+ *
+ * 컨트롤러 테스트와 같은 컨텍스트를 재사용 (@AutoConfigureMockMvc)
+ * → 같은 인메모리 DB를 쓰는 다른 컨텍스트가 create-drop으로 시퀀스를 다시 만들면 ID 블록이 겹칠 수 있음
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("활동 지문 백필 테스트")
+class ActivityFingerprintBackfillSchedulerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RunningActivityRepository activityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("NULL 지문을 배치 단위로 채움 - 엔티티에서 계산한 값과 일치")
+    void backfill_fillsNullFingerprints() {
+        User user = userRepository.save(User.builder()
+                .email("backfill-" + UUID.randomUUID() + "@test.com")
+                .password("encoded")
+                .nickname("백필")
+                .build());
+        LocalDateTime startedAt = LocalDateTime.of(2025, 1, 5, 7, 0);
+        List<RunningActivity> activities = activityRepository.saveAll(List.of(
+                activity(user, 5.0, 1800, startedAt, null),
+                activity(user, 10.0, 3600, startedAt.plusDays(1), null),
+                activity(user, 3.2, 1200, startedAt.plusDays(2), List.of(
+                        Map.of("lat", 37.5, "lng", 127.0, "timestamp", 1736028000000L),
+                        Map.of("lat", 37.51, "lng", 127.0, "timestamp", 1736028300000L)))));
+        jdbcTemplate.update("""
+                UPDATE running_activities SET start_bucket = NULL, distance_bucket = NULL,
+                    duration_bucket = NULL, route_hash = NULL
+                WHERE user_id = ?
+                """, user.getId());
+
+        // 배치 2건 → 여러 트랜잭션에 나눠 채움
+        new ActivityFingerprintBackfillScheduler(activityRepository, transactionManager, 2).backfill();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM running_activities WHERE start_bucket IS NULL", Long.class)).isZero();
+        for (RunningActivity activity : activities) {
+            ActivityFingerprint expected = activity.fingerprint();
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT start_bucket, distance_bucket, duration_bucket, route_hash FROM running_activities WHERE id = ?",
+                    activity.getId());
+            assertThat(((Number) row.get("start_bucket")).intValue()).isEqualTo(expected.startBucket());
+            assertThat(((Number) row.get("distance_bucket")).intValue()).isEqualTo(expected.distanceBucket());
+            assertThat(((Number) row.get("duration_bucket")).intValue()).isEqualTo(expected.durationBucket());
+            Number routeHash = (Number) row.get("route_hash");
+            assertThat(routeHash == null ? null : routeHash.longValue()).isEqualTo(expected.routeHash());
+        }
+    }
+
+    private static RunningActivity activity(User user, double distance, int duration, LocalDateTime startedAt,
+                                            List<Map<String, Object>> route) {
+        return RunningActivity.builder()
+                .user(user)
+                .distance(distance)
+                .duration(duration)
+                .startedAt(startedAt)
+                .route(route)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.runningapp.security;
+
+import com.runningapp.config.BusinessMetrics;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PasswordHasher 단위 테스트")
+class PasswordHasherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry registry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 1: 해싱 1건 진행 + 1건 대기 중이면 다음 요청은 즉시 거절
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        registry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), executor,
+                new BusinessMetrics(registry), 4, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode/matches - 전용 풀에서 해싱하고 소요 시간 기록")
+    void encodeAndMatches_recordsDuration() {
+        String encoded = passwordHasher.encode("password123");
+
+        assertThat(passwordHasher.matches("password123", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrongPassword", encoded)).isFalse();
+        assertThat(registry.get("runningapp_password_hash_duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("runningapp_password_hash_duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀 포화 - 대기 없이 COMMON_003(503) 반환")
+    void saturatedPool_rejectsImmediately() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocker);
+        executor.execute(blocker);
+
+        try {
+            assertThatThrownBy(() -> passwordHasher.encode("password123"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COMMON_003);
+            assertThat(registry.get("runningapp_password_hash_rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("needsRehash - 저장된 해시 cost가 설정과 다르면 true")
+    void needsRehash_comparesCost() {
+        assertThat(passwordHasher.needsRehash(new BCryptPasswordEncoder(4).encode("pw"))).isFalse();
+        assertThat(passwordHasher.needsRehash(new BCryptPasswordEncoder(5).encode("pw"))).isTrue();
+        assertThat(passwordHasher.needsRehash("not-a-bcrypt-hash")).isFalse();
+    }
+}
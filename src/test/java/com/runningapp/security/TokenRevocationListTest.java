@@ -0,0 +1,72 @@
+package com.runningapp.security;
+
+import com.runningapp.event.TokenRevokedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenRevocationList 단위 테스트")
+class TokenRevocationListTest {
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+    private final TokenRevocationList revocationList =
+            new TokenRevocationList(publishedEvents::add, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("revoke - 폐기된 jti만 차단하고 다른 노드로 전파할 이벤트 발행")
+    void revoke_blocksOnlyRevokedJti() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        revocationList.revoke("revoked-jti", expiresAt);
+
+        assertThat(revocationList.isRevoked("revoked-jti")).isTrue();
+        assertThat(revocationList.isRevoked("other-jti")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+        assertThat(publishedEvents).singleElement()
+                .isInstanceOfSatisfying(TokenRevokedEvent.class, event -> {
+                    assertThat(event.getJti()).isEqualTo("revoked-jti");
+                    assertThat(event.getExpiresAtMillis()).isEqualTo(expiresAt);
+                });
+    }
+
+    @Test
+    @DisplayName("addRemote - 이벤트 재발행 없이 로컬에만 반영")
+    void addRemote_doesNotRepublish() {
+        revocationList.addRemote("remote-jti", System.currentTimeMillis() + 60_000);
+
+        assertThat(revocationList.isRevoked("remote-jti")).isTrue();
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Bloom filter 오탐이 있어도 폐기되지 않은 토큰은 거부하지 않음")
+    void manyRevocations_noFalseRejections() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 200_000; i++) {
+            revocationList.addRemote(UUID.randomUUID().toString(), expiresAt);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("purgeExpired - 만료된 jti 제거 후에도 유효한 폐기는 유지")
+    void purgeExpired_keepsLiveRevocations() throws InterruptedException {
+        revocationList.addRemote("short-jti", System.currentTimeMillis() + 20);
+        revocationList.addRemote("long-jti", System.currentTimeMillis() + 60_000);
+        Thread.sleep(50);
+
+        revocationList.purgeExpired();
+
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked("short-jti")).isFalse();
+        assertThat(revocationList.isRevoked("long-jti")).isTrue();
+    }
+}
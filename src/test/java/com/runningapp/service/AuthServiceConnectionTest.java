@@ -0,0 +1,90 @@
+package com.runningapp.service;
+
+import com.runningapp.security.PasswordHasher;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호 해싱 중 트랜잭션/DB 커넥션 점유 여부 (요청 전체 경로, open-in-view 포함)
+ *
+ * 해싱 큐에서 최대 timeout만큼 기다릴 수 있음 → 그동안 커넥션을 잡고 있으면 가입 폭주 시 풀(5개)이 고갈
+ * PasswordHasher를 spy로 감싸 해싱 시작 시점의 상태를 기록 (별도 인메모리 DB → 다른 컨텍스트와 시퀀스 공유 안 함)
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:authconnectiondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@DisplayName("인증 - 해싱 중 커넥션 미점유 테스트")
+class AuthServiceConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    @DisplayName("회원가입 - 해싱하는 동안 트랜잭션 없음, 사용 중인 커넥션 0개")
+    void signup_noConnectionHeldWhileHashing() throws Exception {
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            activeConnections.add(hikari.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).encode(anyString());
+
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"hashing@test.com\",\"password\":\"password123\",\"nickname\":\"해싱\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(activeConnections).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호를 검증하는 동안 트랜잭션 없음, 사용 중인 커넥션 0개")
+    void login_noConnectionHeldWhileMatching() throws Exception {
+        String body = "{\"email\":\"matching@test.com\",\"password\":\"password123\",\"nickname\":\"검증\"}";
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            activeConnections.add(hikari.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(anyString(), anyString());
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"matching@test.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(activeConnections).containsExactly(0);
+    }
+}
@@ -7,7 +7,11 @@ import com.runningapp.dto.auth.LoginRequest;
 import com.runningapp.dto.auth.ProfileUpdateRequest;
 import com.runningapp.dto.auth.SignupRequest;
 import com.runningapp.exception.BadRequestException;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
 import com.runningapp.repository.UserRepository;
+import com.runningapp.security.PasswordHasher;
+import com.runningapp.security.TokenRevocationList;
 import com.runningapp.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
@@ -36,7 +40,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -44,6 +48,15 @@ class AuthServiceTest {
     @Mock
     private BusinessMetrics metrics;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private SignupEmailFilter signupEmailFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -106,9 +119,10 @@ class AuthServiceTest {
             // given
             SignupRequest request = createSignupRequest("new@test.com", "password123", "새사용자");
 
+            given(signupEmailFilter.mightExist("new@test.com")).willReturn(true);
             given(userRepository.existsByEmail("new@test.com")).willReturn(false);
-            given(passwordEncoder.encode("password123")).willReturn("encodedPassword");
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+            given(passwordHasher.encode("password123")).willReturn("encodedPassword");
+            given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> {
                 User user = invocation.getArgument(0);
                 setField(user, "id", 1L);
                 return user;
@@ -126,9 +140,51 @@ class AuthServiceTest {
             assertThat(response.getUser().getNickname()).isEqualTo("새사용자");
 
             verify(userRepository).existsByEmail("new@test.com");
-            verify(passwordEncoder).encode("password123");
-            verify(userRepository).save(any(User.class));
+            verify(passwordHasher).encode("password123");
+            verify(userRepository).saveAndFlush(any(User.class));
             verify(jwtUtil).generateToken(anyLong(), anyString());
+            verify(signupEmailFilter).recordFalsePositive();
+            verify(signupEmailFilter).add("new@test.com");
+        }
+
+        @Test
+        @DisplayName("성공 - Bloom filter가 미가입으로 판단하면 DB 중복 조회 생략")
+        void signup_filterNegative_skipsExistsQuery() {
+            // given
+            SignupRequest request = createSignupRequest("fresh@test.com", "password123", "새사용자");
+
+            given(signupEmailFilter.mightExist("fresh@test.com")).willReturn(false);
+            given(passwordHasher.encode("password123")).willReturn("encodedPassword");
+            given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                setField(user, "id", 2L);
+                return user;
+            });
+
+            // when
+            authService.signup(request);
+
+            // then
+            verify(userRepository, never()).existsByEmail(anyString());
+            verify(signupEmailFilter).add("fresh@test.com");
+        }
+
+        @Test
+        @DisplayName("실패 - 필터에 없던 중복 이메일은 UNIQUE 제약에서 거절")
+        void signup_uniqueConstraintViolation_throwsException() {
+            // given
+            SignupRequest request = createSignupRequest("race@test.com", "password123", "테스터");
+
+            given(signupEmailFilter.mightExist("race@test.com")).willReturn(false);
+            given(passwordHasher.encode("password123")).willReturn("encodedPassword");
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+            // when & then
+            assertThatThrownBy(() -> authService.signup(request))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("이미 사용 중인 이메일입니다");
+            verify(signupEmailFilter, never()).add(anyString());
         }
 
         @Test
@@ -137,6 +193,7 @@ class AuthServiceTest {
             // given
             SignupRequest request = createSignupRequest("existing@test.com", "password123", "테스터");
 
+            given(signupEmailFilter.mightExist("existing@test.com")).willReturn(true);
             given(userRepository.existsByEmail("existing@test.com")).willReturn(true);
 
             // when & then
@@ -145,7 +202,7 @@ class AuthServiceTest {
                     .hasMessage("이미 사용 중인 이메일입니다");
 
             verify(userRepository).existsByEmail("existing@test.com");
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
         }
     }
 
@@ -160,7 +217,7 @@ class AuthServiceTest {
             LoginRequest request = createLoginRequest("test@test.com", "password123");
 
             given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
+            given(passwordHasher.matches("password123", "encodedPassword")).willReturn(true);
             given(jwtUtil.generateToken(1L, "test@test.com")).willReturn("test-jwt-token");
 
             // when
@@ -172,7 +229,28 @@ class AuthServiceTest {
             assertThat(response.getUser().getEmail()).isEqualTo("test@test.com");
 
             verify(userRepository).findByEmail("test@test.com");
-            verify(passwordEncoder).matches("password123", "encodedPassword");
+            verify(passwordHasher).matches("password123", "encodedPassword");
+        }
+
+        @Test
+        @DisplayName("성공 - BCrypt cost 변경 시 재해싱")
+        void login_costChanged_rehashesPassword() {
+            // given
+            LoginRequest request = createLoginRequest("test@test.com", "password123");
+
+            given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+            given(passwordHasher.matches("password123", "encodedPassword")).willReturn(true);
+            given(passwordHasher.needsRehash("encodedPassword")).willReturn(true);
+            given(passwordHasher.encode("password123")).willReturn("rehashedPassword");
+            given(jwtUtil.generateToken(1L, "test@test.com")).willReturn("test-jwt-token");
+
+            // when
+            authService.login(request);
+
+            // then
+            assertThat(testUser.getPassword()).isEqualTo("rehashedPassword");
+            verify(passwordHasher).encode("password123");
+            verify(userRepository).save(testUser);
         }
 
         @Test
@@ -189,7 +267,7 @@ class AuthServiceTest {
                     .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다");
 
             verify(userRepository).findByEmail("nonexistent@test.com");
-            verify(passwordEncoder, never()).matches(anyString(), anyString());
+            verify(passwordHasher, never()).matches(anyString(), anyString());
         }
 
         @Test
@@ -199,14 +277,50 @@ class AuthServiceTest {
             LoginRequest request = createLoginRequest("test@test.com", "wrongPassword");
 
             given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches("wrongPassword", "encodedPassword")).willReturn(false);
+            given(passwordHasher.matches("wrongPassword", "encodedPassword")).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.login(request))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다");
 
-            verify(passwordEncoder).matches("wrongPassword", "encodedPassword");
+            verify(passwordHasher).matches("wrongPassword", "encodedPassword");
+            verify(jwtUtil, never()).generateToken(anyLong(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh()")
+    class Refresh {
+
+        @Test
+        @DisplayName("성공 - 리프레시 토큰 소비 후 새 토큰 쌍 발급")
+        void refresh_success() {
+            // given
+            given(refreshTokenService.consume("old-refresh")).willReturn(1L);
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(jwtUtil.generateToken(1L, "test@test.com")).willReturn("new-jwt-token");
+            given(refreshTokenService.issue(1L)).willReturn("new-refresh");
+
+            // when
+            AuthResponse response = authService.refresh("old-refresh");
+
+            // then
+            assertThat(response.getAccessToken()).isEqualTo("new-jwt-token");
+            assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+            verify(refreshTokenService).consume("old-refresh");
+        }
+
+        @Test
+        @DisplayName("실패 - 유효하지 않은 리프레시 토큰")
+        void refresh_invalidToken_throwsException() {
+            // given
+            given(refreshTokenService.consume("bad-refresh")).willThrow(new BusinessException(ErrorCode.AUTH_006));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refresh("bad-refresh"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AUTH_006);
             verify(jwtUtil, never()).generateToken(anyLong(), anyString());
         }
     }
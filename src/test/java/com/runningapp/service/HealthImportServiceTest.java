@@ -0,0 +1,109 @@
+package com.runningapp.service;
+
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.repository.RunningActivityRepository;
+import com.runningapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 업로드 자리 확보 (본문을 받기 전에 판단) 단위 테스트
+ * 작업 실행기는 mock → execute()된 작업은 실행되지 않고 자리를 계속 차지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HealthImportService 업로드 자리 확보")
+class HealthImportServiceTest {
+
+    @Mock
+    private ActivityIngestService ingestService;
+
+    @Mock
+    private RunningActivityRepository activityRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    @Mock
+    private ThreadPoolTaskExecutor workerExecutor;
+
+    private HealthImportService service;
+
+    @BeforeEach
+    void setUp() {
+        // 전체 자리 2개 (실행 1 + 대기 1), 사용자별 1개
+        service = new HealthImportService(ingestService, activityRepository, userRepository, jobExecutor, workerExecutor,
+                4, 50, DataSize.ofMegabytes(1), Duration.ofHours(1), 1, 1, 1, 3600);
+        given(userRepository.existsById(anyLong())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("사용자별 자리 초과 - 본문을 읽지 않고 429")
+    void perUserLimit_rejectsBeforeReadingBody() {
+        service.start(1L, upload());
+        InputStream second = upload();
+
+        assertThatThrownBy(() -> service.start(1L, second))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.RATE_LIMIT_001);
+        assertThat(readNothing(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 자리 초과 - 본문을 읽지 않고 503")
+    void globalLimit_rejectsBeforeReadingBody() {
+        service.start(1L, upload());
+        service.start(2L, upload());
+        InputStream third = upload();
+
+        assertThatThrownBy(() -> service.start(3L, third))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMMON_003);
+        assertThat(readNothing(third)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 끝나거나 업로드가 실패하면 자리 반납")
+    void slotReleased_afterJobAndFailedUpload() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        service.start(1L, upload());
+        verify(jobExecutor).execute(task.capture());
+        task.getValue().run();  // 작업 종료 (파일이 zip/xml이 아니어도 실패로 끝나고 자리 반납)
+
+        // 빈 본문 → 400, 자리는 반납되어 같은 사용자가 바로 다시 올릴 수 있음
+        assertThatThrownBy(() -> service.start(1L, new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACTIVITY_004);
+        service.start(1L, upload());
+        verify(jobExecutor, times(2)).execute(task.capture());
+    }
+
+    private static InputStream upload() {
+        return new ByteArrayInputStream("<HealthData/>".getBytes());
+    }
+
+    private static boolean readNothing(InputStream body) {
+        return ((ByteArrayInputStream) body).available() == "<HealthData/>".length();
+    }
+}
@@ -0,0 +1,126 @@
+package com.runningapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("IdempotencyService 단위 테스트 (Redis 없음 → 로컬 저장소)")
+class IdempotencyServiceTest {
+
+    private final IdempotencyService service = new IdempotencyService(
+            new ObjectMapper(),
+            new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class),
+            new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), Duration.ofSeconds(5), 1000, Duration.ofSeconds(10));
+
+    private final Map<String, Object> request = Map.of("distance", 5.0);
+
+    @Test
+    @DisplayName("같은 키 동시 요청 - action은 1번만 실행, 나머지는 같은 응답")
+    void concurrentDuplicates_collapsed() throws Exception {
+        int threads = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<IdempotencyService.Result<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> service.execute("test", 1L, "key", request, String.class, () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "saved-1";
+                })));
+            }
+            Thread.sleep(200);  // 나머지 요청이 먼저 온 요청을 기다리는 상태가 되도록
+            release.countDown();
+
+            int replayed = 0;
+            for (Future<IdempotencyService.Result<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("saved-1");
+                replayed += result.get().replayed() ? 1 : 0;
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(replayed).isEqualTo(threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않음 - 같은 키 재시도 시 다시 실행")
+    void failedAttempt_notStored() {
+        assertThatThrownBy(() -> service.execute("test", 1L, "retry", request, String.class, () -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IdempotencyService.Result<String> result =
+                service.execute("test", 1L, "retry", request, String.class, () -> "saved-2");
+
+        assertThat(result.response()).isEqualTo("saved-2");
+        assertThat(result.replayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("키는 사용자별 - 다른 사용자의 같은 키는 따로 실행")
+    void keyScopedByUser() {
+        service.execute("test", 1L, "shared", request, String.class, () -> "user-1");
+
+        IdempotencyService.Result<String> result =
+                service.execute("test", 2L, "shared", request, String.class, () -> "user-2");
+
+        assertThat(result.response()).isEqualTo("user-2");
+        assertThat(result.replayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 첫 실패 후에는 Redis를 건너뛰고 로컬 저장소로 바로 처리")
+    void redisDown_skippedAfterFirstFailure() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+        IdempotencyService withRedis = new IdempotencyService(
+                new ObjectMapper(),
+                new StaticListableBeanFactory(Map.of("redisTemplate", redisTemplate))
+                        .getBeanProvider(StringRedisTemplate.class),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), Duration.ofSeconds(5), 1000, Duration.ofSeconds(10));
+
+        withRedis.execute("test", 1L, "first", request, String.class, () -> "saved-1");
+        IdempotencyService.Result<String> replayed =
+                withRedis.execute("test", 1L, "first", request, String.class, () -> "saved-again");
+        withRedis.execute("test", 1L, "second", request, String.class, () -> "saved-2");
+
+        assertThat(replayed.response()).isEqualTo("saved-1");
+        assertThat(replayed.replayed()).isTrue();
+        verify(redisTemplate, times(1)).opsForValue();  // 조회/선점/저장마다 타임아웃을 기다리지 않음
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
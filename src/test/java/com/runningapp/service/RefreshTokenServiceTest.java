@@ -0,0 +1,87 @@
+package com.runningapp.service;
+
+import com.runningapp.domain.RefreshToken;
+import com.runningapp.exception.BusinessException;
+import com.runningapp.exception.ErrorCode;
+import com.runningapp.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService 단위 테스트")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService() {
+        return new RefreshTokenService(refreshTokenRepository, Duration.ofDays(14).toMillis(), Duration.ofDays(3));
+    }
+
+    private RefreshToken activeToken(Long userId) {
+        return RefreshToken.builder()
+                .userId(userId)
+                .tokenHash("hash")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("재발급 - 조건부 UPDATE로 폐기 후 소유자 반환")
+    void consume_success() {
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(activeToken(1L)));
+        given(refreshTokenRepository.revokeIfActive(anyString(), any())).willReturn(1);
+
+        assertThat(refreshTokenService().consume("token")).isEqualTo(1L);
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 재발급 - 다른 요청이 먼저 폐기했으면(0건) 재사용으로 보고 전체 폐기")
+    void consume_lostRace_revokesAll() {
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(activeToken(1L)));
+        given(refreshTokenRepository.revokeIfActive(anyString(), any())).willReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService().consume("token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_006);
+        verify(refreshTokenRepository).revokeAllByUserId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 다른 사용자의 리프레시 토큰은 폐기하지 않음")
+    void revoke_otherUsersToken_ignored() {
+        RefreshToken token = activeToken(2L);
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(token));
+
+        refreshTokenService().revoke("token", 1L);
+
+        assertThat(token.isRevoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정리 - 만료 토큰 + 보관 기간이 지난 폐기 토큰 삭제")
+    void purgeStale_deletesExpiredAndOldRevoked() {
+        refreshTokenService().purgeStale();
+
+        verify(refreshTokenRepository).deleteStale(any(), argThat(revokedBefore ->
+                revokedBefore.isBefore(LocalDateTime.now().minusDays(3).plusMinutes(1))));
+    }
+}
@@ -9,6 +9,7 @@ import com.runningapp.dto.activity.ActivitySummaryResponse;
 import com.runningapp.event.ActivityCompletedEvent;
 import com.runningapp.event.ActivityDeletedEvent;
 import com.runningapp.event.ActivityUpdatedEvent;
+import com.runningapp.exception.BusinessException;
 import com.runningapp.exception.NotFoundException;
 import com.runningapp.repository.RunningActivityRepository;
 import com.runningapp.repository.UserRepository;
@@ -50,6 +51,9 @@ class RunningActivityServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private ActivityDeduplicator deduplicator;
+
     @InjectMocks
     private RunningActivityService activityService;
 
@@ -109,6 +113,7 @@ class RunningActivityServiceTest {
             ActivityRequest request = createActivityRequest(5.0, 1800, 360, 300,
                     LocalDateTime.of(2025, 2, 1, 7, 0), "아침 러닝");
 
+            given(deduplicator.load(eq(1L), anyList())).willReturn(new ActivityDeduplicator.Candidates());
             given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
             given(activityRepository.save(any(RunningActivity.class))).willAnswer(invocation -> {
                 RunningActivity activity = invocation.getArgument(0);
@@ -142,6 +147,7 @@ class RunningActivityServiceTest {
             ActivityRequest request = createActivityRequest(5.0, 1800, null, null,
                     LocalDateTime.now(), null);
 
+            given(deduplicator.load(eq(999L), anyList())).willReturn(new ActivityDeduplicator.Candidates());
             given(userRepository.findById(999L)).willReturn(Optional.empty());
 
             // when & then
@@ -149,6 +155,25 @@ class RunningActivityServiceTest {
                     .isInstanceOf(NotFoundException.class)
                     .hasMessage("사용자를 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("실패 - 이미 저장된 같은 활동 (시작 2분, 거리 50m 차이)")
+        void create_duplicate_throwsException() {
+            // given
+            ActivityRequest request = createActivityRequest(5.05, 1830, null, null,
+                    LocalDateTime.of(2025, 2, 1, 7, 2), null);
+
+            ActivityDeduplicator.Candidates candidates = new ActivityDeduplicator.Candidates();
+            candidates.add(testActivity);
+            given(deduplicator.load(eq(1L), anyList())).willReturn(candidates);
+
+            // when & then
+            assertThatThrownBy(() -> activityService.create(1L, request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("activityId=1");
+            verify(activityRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
     }
 
     @Nested
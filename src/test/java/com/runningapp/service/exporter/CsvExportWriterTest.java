@@ -0,0 +1,35 @@
+package com.runningapp.service.exporter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvExportWriter 단위 테스트")
+class CsvExportWriterTest {
+
+    @Test
+    @DisplayName("일반 메모는 그대로, 없으면 빈 칸")
+    void escape_plain() {
+        assertThat(CsvExportWriter.escape("한강 러닝")).isEqualTo("한강 러닝");
+        assertThat(CsvExportWriter.escape(null)).isEmpty();
+        assertThat(CsvExportWriter.escape("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쉼표, 따옴표, 줄바꿈은 따옴표로 감싸고 따옴표는 두 번")
+    void escape_quote() {
+        assertThat(CsvExportWriter.escape("비, 바람")).isEqualTo("\"비, 바람\"");
+        assertThat(CsvExportWriter.escape("\"PB\" 달성")).isEqualTo("\"\"\"PB\"\" 달성\"");
+        assertThat(CsvExportWriter.escape("첫 줄\n둘째 줄")).isEqualTo("\"첫 줄\n둘째 줄\"");
+    }
+
+    @Test
+    @DisplayName("=, +, -, @로 시작하면 ' 붙여 수식 실행 방지")
+    void escape_formula() {
+        assertThat(CsvExportWriter.escape("=HYPERLINK(\"http://x\")")).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(CsvExportWriter.escape("+82")).isEqualTo("'+82");
+        assertThat(CsvExportWriter.escape("-5km")).isEqualTo("'-5km");
+        assertThat(CsvExportWriter.escape("@친구")).isEqualTo("'@친구");
+    }
+}
@@ -0,0 +1,97 @@
+package com.runningapp.service.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HealthExportParser 단위 테스트")
+class HealthExportParserTest {
+
+    private final HealthExportParser parser = new HealthExportParser();
+
+    private static final String EXPORT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE HealthData [
+            <!ELEMENT HealthData (ExportDate,Me,(Record|Correlation|Workout|ActivitySummary|ClinicalRecord)*)>
+            <!ATTLIST HealthData locale CDATA #REQUIRED>
+            ]>
+            <HealthData locale="ko_KR">
+             <ExportDate value="2025-03-01 10:00:00 +0900"/>
+             <Me HKCharacteristicTypeIdentifierDateOfBirth=""/>
+             <Record type="HKQuantityTypeIdentifierStepCount" sourceName="iPhone" unit="count" value="120"
+                     startDate="2024-05-01 06:00:00 +0900" endDate="2024-05-01 06:01:00 +0900"/>
+             <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="30" durationUnit="min"
+                      totalDistance="5.01" totalDistanceUnit="km" totalEnergyBurned="320" totalEnergyBurnedUnit="kcal"
+                      sourceName="Apple Watch" startDate="2024-05-01 06:30:00 +0900" endDate="2024-05-01 07:00:00 +0900">
+              <MetadataEntry key="HKIndoorWorkout" value="0"/>
+              <WorkoutStatistics type="HKQuantityTypeIdentifierHeartRate" average="152.4" minimum="120" maximum="170" unit="count/min"/>
+              <WorkoutRoute sourceName="Apple Watch">
+               <FileReference path="/workout-routes/route_2024-05-01_6.30am.gpx"/>
+              </WorkoutRoute>
+             </Workout>
+             <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="3000" durationUnit="s"
+                      startDate="2024-06-01 20:00:00 +0000" endDate="2024-06-01 20:50:00 +0000">
+              <WorkoutStatistics type="HKQuantityTypeIdentifierDistanceWalkingRunning" sum="6.2" unit="mi"/>
+              <WorkoutStatistics type="HKQuantityTypeIdentifierActiveEnergyBurned" sum="2092" unit="kJ"/>
+             </Workout>
+             <Workout workoutActivityType="HKWorkoutActivityTypeWalking" duration="20" durationUnit="min"
+                      totalDistance="1.5" totalDistanceUnit="km"
+                      startDate="2024-06-02 08:00:00 +0900" endDate="2024-06-02 08:20:00 +0900"/>
+             <Workout workoutActivityType="HKWorkoutActivityTypeRunning" startDate="2024-06-03 08:00:00 +0900"
+                      endDate="2024-06-03 08:40:00 +0900"/>
+             <Workout workoutActivityType="HKWorkoutActivityTypeRunning" duration="10" durationUnit="min"/>
+            </HealthData>
+            """;
+
+    private List<HealthWorkout> parse(String xml) throws XMLStreamException {
+        List<HealthWorkout> workouts = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), workouts::add);
+        return workouts;
+    }
+
+    @Test
+    @DisplayName("러닝 Workout만 추출 - 속성/WorkoutStatistics 두 형식과 단위 변환, 한국 시간")
+    void parse_runningWorkouts() throws Exception {
+        List<HealthWorkout> workouts = parse(EXPORT);
+
+        assertThat(workouts).hasSize(4);  // 걷기 제외
+
+        HealthWorkout attributes = workouts.get(0);
+        assertThat(attributes.startedAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 6, 30));
+        assertThat(attributes.duration()).isEqualTo(1800);
+        assertThat(attributes.distance()).isEqualTo(5.01);
+        assertThat(attributes.calories()).isEqualTo(320);
+        assertThat(attributes.averageHeartRate()).isEqualTo(152);
+        assertThat(attributes.routePath()).isEqualTo("/workout-routes/route_2024-05-01_6.30am.gpx");
+
+        HealthWorkout statistics = workouts.get(1);
+        assertThat(statistics.startedAt()).isEqualTo(LocalDateTime.of(2024, 6, 2, 5, 0));
+        assertThat(statistics.duration()).isEqualTo(3000);
+        assertThat(statistics.distance()).isEqualTo(9.98);
+        assertThat(statistics.calories()).isEqualTo(500);
+        assertThat(statistics.averageHeartRate()).isNull();
+        assertThat(statistics.routePath()).isNull();
+
+        HealthWorkout noDistance = workouts.get(2);
+        assertThat(noDistance.duration()).as("duration 없으면 종료 - 시작").isEqualTo(2400);
+        assertThat(noDistance.distance()).isNull();
+
+        assertThat(workouts.get(3)).as("시작 시간 없는 Workout").isNull();
+    }
+
+    @Test
+    @DisplayName("Apple Health 내보내기가 아니면 예외")
+    void parse_notHealthExport_fail() {
+        assertThatThrownBy(() -> parse("<gpx><trk/></gpx>"))
+                .isInstanceOf(XMLStreamException.class);
+    }
+}
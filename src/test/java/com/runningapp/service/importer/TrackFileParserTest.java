@@ -0,0 +1,221 @@
+package com.runningapp.service.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TrackFileParser 단위 테스트")
+class TrackFileParserTest {
+
+    private final TrackFileParser parser = new TrackFileParser(100);
+
+    private static final String GPX = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <gpx version="1.1" creator="test" xmlns="http://www.topografix.com/GPX/1/1"
+                 xmlns:gpxtpx="http://www.garmin.com/xmlschemas/TrackPointExtension/v1">
+              <metadata><time>2020-01-01T00:00:00Z</time></metadata>
+              <trk>
+                <name>아침 러닝</name>
+                <trkseg>
+                  <trkpt lat="37.5000" lon="127.0000"><time>2024-05-01T21:00:00Z</time>
+                    <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>140</gpxtpx:hr><gpxtpx:cad>85</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions>
+                  </trkpt>
+                  <trkpt lat="37.5045" lon="127.0000"><time>2024-05-01T21:02:30Z</time>
+                    <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>150</gpxtpx:hr><gpxtpx:cad>90</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions>
+                  </trkpt>
+                  <trkpt lat="37.5090" lon="127.0000"><time>2024-05-01T21:05:00Z</time>
+                    <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>160</gpxtpx:hr><gpxtpx:cad>95</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions>
+                  </trkpt>
+                </trkseg>
+              </trk>
+              <trk>
+                <name>시간 없는 트랙</name>
+                <trkseg>
+                  <trkpt lat="37.5000" lon="127.0000"/>
+                  <trkpt lat="37.5100" lon="127.0000"/>
+                </trkseg>
+              </trk>
+            </gpx>
+            """;
+
+    private static final String TCX = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2"
+                                    xmlns:ns3="http://www.garmin.com/xmlschemas/ActivityExtension/v2">
+              <Activities>
+                <Activity Sport="Running">
+                  <Id>2024-05-02T06:00:00+09:00</Id>
+                  <Lap StartTime="2024-05-02T06:00:00+09:00">
+                    <TotalTimeSeconds>1800</TotalTimeSeconds>
+                    <DistanceMeters>5000</DistanceMeters>
+                    <Calories>320</Calories>
+                    <AverageHeartRateBpm><Value>999</Value></AverageHeartRateBpm>
+                    <Track>
+                      <Trackpoint>
+                        <Time>2024-05-02T06:00:00+09:00</Time>
+                        <Position><LatitudeDegrees>37.5</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position>
+                        <DistanceMeters>0</DistanceMeters>
+                        <HeartRateBpm><Value>148</Value></HeartRateBpm>
+                        <Extensions><ns3:TPX><ns3:RunCadence>88</ns3:RunCadence></ns3:TPX></Extensions>
+                      </Trackpoint>
+                      <Trackpoint>
+                        <Time>2024-05-02T06:35:00+09:00</Time>
+                        <Position><LatitudeDegrees>37.54</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position>
+                        <DistanceMeters>5000</DistanceMeters>
+                        <HeartRateBpm><Value>152</Value></HeartRateBpm>
+                        <Extensions><ns3:TPX><ns3:RunCadence>90</ns3:RunCadence></ns3:TPX></Extensions>
+                      </Trackpoint>
+                    </Track>
+                  </Lap>
+                  <Notes>한강 5K</Notes>
+                </Activity>
+                <Activity Sport="Biking">
+                  <Id>2024-05-03T06:00:00Z</Id>
+                  <Lap StartTime="2024-05-03T06:00:00Z">
+                    <TotalTimeSeconds>3600</TotalTimeSeconds>
+                    <DistanceMeters>30000</DistanceMeters>
+                  </Lap>
+                </Activity>
+              </Activities>
+            </TrainingCenterDatabase>
+            """;
+
+    private List<ImportedActivity> parse(TrackFileParser parser, InputStream input) throws XMLStreamException {
+        List<ImportedActivity> activities = new ArrayList<>();
+        parser.parse(input, activities::add);
+        return activities;
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("GPX - 트랙별 거리/시간/페이스/심박/케이던스 집계, 시작 시간은 한국 시간")
+    void parseGpx() throws Exception {
+        List<ImportedActivity> activities = new ArrayList<>();
+        TrackFileParser.Format format = parser.parse(stream(GPX), activities::add);
+
+        assertThat(format).isEqualTo(TrackFileParser.Format.GPX);
+        assertThat(activities).hasSize(2);
+
+        ImportedActivity run = activities.get(0);
+        assertThat(run.distance()).isEqualTo(1.0);
+        assertThat(run.duration()).isEqualTo(300);
+        assertThat(run.averagePace()).isCloseTo(300, within(1));
+        assertThat(run.averageHeartRate()).isEqualTo(150);
+        assertThat(run.cadence()).isEqualTo(180);
+        assertThat(run.calories()).isNull();
+        assertThat(run.startedAt()).isEqualTo(LocalDateTime.of(2024, 5, 2, 6, 0));
+        assertThat(run.memo()).isEqualTo("아침 러닝");
+        assertThat(run.route()).hasSize(3);
+        assertThat(run.route().get(0)).containsOnlyKeys("lat", "lng", "timestamp");
+        assertThat(run.route().get(2).get("timestamp")).isEqualTo(1714597500000L);
+
+        assertThat(activities.get(1)).as("시간 없는 트랙은 저장 불가").isNull();
+    }
+
+    @Test
+    @DisplayName("TCX - Lap 합계(시간/거리/칼로리) 우선, 자전거 기록은 건너뜀")
+    void parseTcx() throws Exception {
+        List<ImportedActivity> activities = new ArrayList<>();
+        TrackFileParser.Format format = parser.parse(stream(TCX), activities::add);
+
+        assertThat(format).isEqualTo(TrackFileParser.Format.TCX);
+        assertThat(activities).hasSize(2);
+
+        ImportedActivity run = activities.get(0);
+        assertThat(run.distance()).isEqualTo(5.0);
+        assertThat(run.duration()).isEqualTo(1800);
+        assertThat(run.averagePace()).isEqualTo(360);
+        assertThat(run.calories()).isEqualTo(320);
+        assertThat(run.averageHeartRate()).isEqualTo(150);
+        assertThat(run.cadence()).isEqualTo(178);
+        assertThat(run.startedAt()).isEqualTo(LocalDateTime.of(2024, 5, 2, 6, 0));
+        assertThat(run.memo()).isEqualTo("한강 5K");
+        assertThat(run.route()).hasSize(2);
+
+        assertThat(activities.get(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("GPX/TCX가 아닌 XML은 예외")
+    void parse_unknownRoot_fail() {
+        assertThatThrownBy(() -> parse(parser, stream("<kml><Document/></kml>")))
+                .isInstanceOf(XMLStreamException.class)
+                .hasMessageContaining("kml");
+    }
+
+    @Test
+    @DisplayName("외부 엔티티는 해석하지 않음 (XXE)")
+    void parse_externalEntity_notResolved() {
+        String xml = """
+                <?xml version="1.0"?>
+                <!DOCTYPE gpx [<!ENTITY xxe SYSTEM "file:///etc/hostname">]>
+                <gpx><trk><name>&xxe;</name><trkseg>
+                  <trkpt lat="37.5" lon="127.0"><time>2024-05-01T21:00:00Z</time></trkpt>
+                  <trkpt lat="37.51" lon="127.0"><time>2024-05-01T21:05:00Z</time></trkpt>
+                </trkseg></trk></gpx>
+                """;
+
+        assertThatThrownBy(() -> parse(parser, stream(xml)))
+                .isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    @DisplayName("포인트 수와 무관하게 경로는 상한 이내로 다운샘플링, 거리는 전체 포인트 기준")
+    void parse_largeTrack_routeBounded() throws Exception {
+        int points = 200_000;  // 1초 간격 약 55시간, 파일은 스트림으로 생성 (메모리에 올리지 않음)
+        List<ImportedActivity> activities = parse(parser, new GeneratedGpx(points));
+
+        ImportedActivity run = activities.get(0);
+        assertThat(run.duration()).isEqualTo(points - 1);
+        // 포인트 간 북쪽으로 0.00002도 (약 2.224m)
+        assertThat(run.distance()).isCloseTo((points - 1) * 2.2239 / 1000, within(1.0));
+        assertThat(run.route()).hasSizeBetween(50, 101);
+        assertThat(run.route().get(0).get("timestamp")).isEqualTo(1_714_597_200_000L);
+        assertThat(run.route().get(run.route().size() - 1).get("timestamp"))
+                .isEqualTo(1_714_597_200_000L + (points - 1) * 1000L);
+    }
+
+    /** trkpt를 필요할 때마다 만들어 내는 GPX 스트림 */
+    private static class GeneratedGpx extends InputStream {
+        private final int points;
+        private int next;
+        private byte[] chunk = "<gpx><trk><trkseg>".getBytes(StandardCharsets.US_ASCII);
+        private int position;
+
+        GeneratedGpx(int points) {
+            this.points = points;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length) {
+                if (next > points) {
+                    return -1;
+                }
+                chunk = next == points
+                        ? "</trkseg></trk></gpx>".getBytes(StandardCharsets.US_ASCII)
+                        : String.format("<trkpt lat=\"%.5f\" lon=\"127.0\"><time>%s</time></trkpt>",
+                                37.0 + next * 0.00002,
+                                java.time.Instant.ofEpochSecond(1_714_597_200L + next))
+                        .getBytes(StandardCharsets.US_ASCII);
+                next++;
+                position = 0;
+            }
+            return chunk[position++];
+        }
+    }
+}
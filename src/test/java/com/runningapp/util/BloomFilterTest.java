@@ -0,0 +1,53 @@
+package com.runningapp.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함 (거짓 음성 없음)")
+    void put_neverFalseNegative() {
+        BloomFilter filter = BloomFilter.forExpectedInsertions(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@test.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 항목 수만큼 채웠을 때 실제 오탐률이 목표 근처")
+    void falsePositiveRate_closeToTarget() {
+        BloomFilter filter = BloomFilter.forExpectedInsertions(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        double observed = falsePositives / 100_000.0;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("빈 필터 - 모든 값에 대해 false, 예상 오탐률 0")
+    void emptyFilter_containsNothing() {
+        BloomFilter filter = new BloomFilter(1 << 10, 3);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertThat(filter.bitSize()).isEqualTo(1 << 10);
+    }
+}
@@ -0,0 +1,66 @@
+package com.runningapp.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtUtil 단위 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-minimum-256-bits-long";
+    private static final String OTHER_SECRET = "other-secret-key-for-jwt-token-generation-minimum-256-bits-long";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+
+    @Test
+    @DisplayName("parseAndVerify - subject/email 클레임 반환")
+    void parseAndVerify_returnsClaims() {
+        String token = jwtUtil.generateToken(1L, "test@test.com");
+
+        Claims claims = jwtUtil.parseAndVerify(token);
+
+        assertThat(claims.getSubject()).isEqualTo("1");
+        assertThat(claims.get("email", String.class)).isEqualTo("test@test.com");
+        assertThat(jwtUtil.getUserIdFromToken(token)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("parseAndVerify - 두 번째 호출은 검증 캐시에서 같은 Claims 반환")
+    void parseAndVerify_secondCall_returnsCachedClaims() {
+        String token = jwtUtil.generateToken(1L, "test@test.com");
+
+        assertThat(jwtUtil.parseAndVerify(token)).isSameAs(jwtUtil.parseAndVerify(token));
+    }
+
+    @Test
+    @DisplayName("캐시 크기 0 - 매번 다시 검증 (캐시 비활성화)")
+    void parseAndVerify_cacheDisabled_verifiesEveryCall() {
+        JwtUtil uncached = new JwtUtil(SECRET, 60_000, 0);
+        String token = uncached.generateToken(1L, "test@test.com");
+
+        assertThat(uncached.parseAndVerify(token)).isNotSameAs(uncached.parseAndVerify(token));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 - 검증 실패")
+    void parseAndVerify_wrongSignature_fail() {
+        String forged = new JwtUtil(OTHER_SECRET, 60_000, 100).generateToken(1L, "test@test.com");
+
+        assertThatThrownBy(() -> jwtUtil.parseAndVerify(forged)).isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.validateToken(forged)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 검증 실패 (캐시되지 않음)")
+    void parseAndVerify_expired_fail() {
+        JwtUtil expiringUtil = new JwtUtil(SECRET, -1_000, 100);
+        String expired = expiringUtil.generateToken(1L, "test@test.com");
+
+        assertThatThrownBy(() -> expiringUtil.parseAndVerify(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(expiringUtil.validateToken(expired)).isFalse();
+    }
+}
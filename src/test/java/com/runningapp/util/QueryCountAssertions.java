@@ -0,0 +1,39 @@
+package com.runningapp.util;
+
+import com.runningapp.config.QueryCountInspector;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 SQL 실행 수 검증 (N+1 회귀 방지)
+ *
+ * LoggingFilter가 요청 속성에 남긴 SQL 수를 검사:
+ * <pre>
+ * mockMvc.perform(get("/api/activities/{id}", id))
+ *         .andExpect(status().isOk())
+ *         .andExpect(assertQueryCount(2));
+ * </pre>
+ * 엔드포인트의 SQL 수가 늘어나면 테스트 실패 → 의도한 변경이면 기대값 갱신
+ */
+public class QueryCountAssertions {
+
+    /** 요청 처리 중 실행된 SQL 수가 정확히 expected 인지 검증 */
+    public static ResultMatcher assertQueryCount(int expected) {
+        return result -> assertThat(queryCount(result.getRequest().getAttribute(QueryCountInspector.REQUEST_ATTRIBUTE)))
+                .as("%s %s 실행 SQL 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    /** 요청 처리 중 실행된 SQL 수가 max 이하인지 검증 */
+    public static ResultMatcher assertQueryCountAtMost(int max) {
+        return result -> assertThat(queryCount(result.getRequest().getAttribute(QueryCountInspector.REQUEST_ATTRIBUTE)))
+                .as("%s %s 실행 SQL 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    private static int queryCount(Object attribute) {
+        assertThat(attribute).as("QueryCountInspector 요청 속성 (LoggingFilter 미적용?)").isNotNull();
+        return (Integer) attribute;
+    }
+}
@@ -0,0 +1,125 @@
+package com.runningapp.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StructuredLog 빌더 테스트")
+class StructuredLogTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(StructuredLogTest.class);
+        logger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("타입별 필드가 key=value 형식으로 메시지에 출력된다")
+    void formatsFields() {
+        LogUtils.atInfo(logger)
+                .field("activityId", 123L)
+                .field("distance", 5.5)
+                .field("public", true)
+                .field("email", "a@test.com")
+                .field("duration", 1800)
+                .log("활동 저장 완료");
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .isEqualTo("활동 저장 완료 activityId=123 distance=5.5 public=true email=a@test.com duration=1800");
+    }
+
+    @Test
+    @DisplayName("JSON 출력 시 필드별 최상위 키로 기록된다")
+    void writesJsonFields() throws Exception {
+        StructuredLog structuredLog = LogUtils.atInfo(logger)
+                .field("userId", 42L)
+                .field("distance", 5.5)
+                .field("email", "a@test.com");
+
+        StringWriter writer = new StringWriter();
+        ObjectMapper mapper = new ObjectMapper();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            structuredLog.writeTo(generator);
+            generator.writeEndObject();
+        }
+
+        assertThat(mapper.readValue(writer.toString(), new TypeReference<Map<String, Object>>() { }))
+                .containsEntry("userId", 42)
+                .containsEntry("distance", 5.5)
+                .containsEntry("email", "a@test.com");
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘는 필드도 모두 출력된다")
+    void growsBeyondInitialCapacity() {
+        StructuredLog structuredLog = LogUtils.atInfo(logger);
+        for (int i = 0; i < 10; i++) {
+            structuredLog.field("f" + i, i);
+        }
+        structuredLog.log("many");
+
+        assertThat(appender.list.get(0).getFormattedMessage()).endsWith("f8=8 f9=9");
+    }
+
+    @Test
+    @DisplayName("레벨이 꺼져 있으면 공유 NOOP 인스턴스를 반환하고 로그를 남기지 않는다")
+    void disabledLevelReturnsNoop() {
+        StructuredLog structuredLog = LogUtils.atDebug(logger);
+
+        structuredLog.field("userId", 1L).log("debug");
+
+        assertThat(structuredLog).isSameAs(StructuredLog.NOOP);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예외를 함께 넘기면 스택트레이스가 기록된다")
+    void logsThrowable() {
+        LogUtils.atError(logger)
+                .field("userId", 1L)
+                .log("실패", new IllegalStateException("boom"));
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getFormattedMessage()).isEqualTo("실패 userId=1");
+        assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    @DisplayName("기존 Map 방식도 캐시된 패턴으로 같은 형식을 출력한다")
+    void legacyMapFormat() {
+        LogUtils.info(logger, "회원가입 성공", Map.of("userId", 1L));
+        LogUtils.error(logger, "실패", new IllegalStateException("boom"), Map.of("userId", 1L));
+
+        assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo("회원가입 성공 userId=1");
+        assertThat(appender.list.get(1).getFormattedMessage()).isEqualTo("실패 userId=1");
+        assertThat(appender.list.get(1).getThrowableProxy()).isNotNull();
+    }
+}
@@ -11,4 +11,10 @@ public class TestUtils {
         String response = resultActions.andReturn().getResponse().getContentAsString();
         return JsonPath.parse(response).read("$.accessToken", String.class);
     }
+
+    /** 로그인/회원가입 응답에서 refreshToken 추출 */
+    public static String extractRefreshToken(ResultActions resultActions) throws Exception {
+        String response = resultActions.andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(response).read("$.refreshToken", String.class);
+    }
 }